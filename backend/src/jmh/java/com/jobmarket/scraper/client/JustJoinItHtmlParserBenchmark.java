@@ -0,0 +1,150 @@
+package com.jobmarket.scraper.client;
+
+import com.jobmarket.config.ScraperConfig;
+import com.jobmarket.scraper.archive.ArchivedResponse;
+import com.jobmarket.scraper.archive.ResponseArchive;
+import com.jobmarket.scraper.archive.ResponseRecorder;
+import com.jobmarket.scraper.dto.ExtractionStrategy;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the job count extraction in {@link JustJoinItHtmlParser}.
+ * <p>
+ * Each {@code page} is a listing page whose count is found by a different strategy:
+ * {@code title}, {@code meta}, {@code element}, or {@code body} (nothing in the head, a
+ * large listing, count only in the body text). With {@code -Pjmh.archive=<file>} the pages
+ * are taken from a {@link ResponseRecorder} archive of real responses: for each strategy,
+ * the first recorded listing the parser extracts with it. Without an archive the modelled
+ * pages in {@code src/jmh/resources/pages} are used.
+ * Run with {@code ./gradlew jmh}; the GC profiler is enabled in the build so every
+ * result includes {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JustJoinItHtmlParserBenchmark {
+
+    private static final String CATEGORY = "java";
+    private static final String ARCHIVE_PROPERTY = "jmh.archive";
+
+    @Param({"title", "meta", "element", "body"})
+    private String page;
+
+    private JustJoinItHtmlParser parser;
+    private String html;
+    private Document document;
+    private String bodyText;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ScraperConfig config = new ScraperConfig();
+        parser = new JustJoinItHtmlParser(config, new ScraperMetrics(new SimpleMeterRegistry()),
+                new ResponseRecorder(config));
+        String archive = System.getProperty(ARCHIVE_PROPERTY);
+        html = archive != null && !archive.isBlank() ? recordedPage(Path.of(archive)) : readPage(page);
+        document = Jsoup.parse(html);
+        bodyText = document.body().text();
+
+        if (parser.extract(document, CATEGORY).count() == null) {
+            throw new IllegalStateException("No count extracted from page: " + page);
+        }
+    }
+
+    /**
+     * Full extraction chain on an already parsed document, as done for every fetched page.
+     */
+    @Benchmark
+    public Integer extractJobCount() {
+        return parser.extract(document, CATEGORY).count();
+    }
+
+    /**
+     * Parsing plus extraction, i.e. everything after the response body has been read.
+     */
+    @Benchmark
+    public Integer parseAndExtractJobCount() {
+        return parser.extract(Jsoup.parse(html), CATEGORY).count();
+    }
+
+    @Benchmark
+    public Optional<Integer> titleOnly() {
+        return parser.extractFromTitle(document);
+    }
+
+    /**
+     * Body fallback including flattening the document to text.
+     */
+    @Benchmark
+    public Optional<Integer> bodyFallback() {
+        return parser.extractFromBody(document);
+    }
+
+    /**
+     * Body fallback on pre-flattened text, isolating the count scanning itself.
+     */
+    @Benchmark
+    public Optional<Integer> bodyTextScan() {
+        return parser.extractCountFromText(bodyText);
+    }
+
+    /**
+     * First successful HTML response in the archive whose count is extracted by this page's strategy.
+     */
+    private String recordedPage(Path archive) {
+        ExtractionStrategy strategy = ExtractionStrategy.valueOf(page.toUpperCase(Locale.ROOT));
+        try {
+            for (ArchivedResponse response : ResponseArchive.readAll(archive)) {
+                if (response.status() != 200 || response.contentType() == null
+                        || !response.contentType().contains("html")) {
+                    continue;
+                }
+                String body = new String(response.body(), StandardCharsets.UTF_8);
+                if (parser.extract(Jsoup.parse(body), CATEGORY).strategy() == strategy) {
+                    return body;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new IllegalStateException("No recorded page in " + archive + " is extracted by: " + page);
+    }
+
+    private static String readPage(String name) {
+        String resource = "/pages/" + name + ".html";
+        try (InputStream in = JustJoinItHtmlParserBenchmark.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Missing benchmark page: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.jobmarket;
 
+import com.jobmarket.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class JobMarketApplication {
 
     public static void main(String[] args) {
@@ -28,4 +28,39 @@ public class AnomalyDetectionConfig {
      * Small counts can have high percentage swings that are not anomalous.
      */
     private int minimumCountThreshold = 10;
+
+    /**
+     * Whether anomalies are judged by each series' own model (see SeriesModel) instead of
+     * the fixed drop threshold. The threshold is still used for series whose model has not
+     * seen {@code modelWarmupObservations} days yet.
+     */
+    private boolean modelEnabled = true;
+
+    /**
+     * How many standard deviations below its expected value a count must be to be an anomaly.
+     * Lower is more sensitive.
+     */
+    private double modelThresholdSigmas = 3.5;
+
+    /**
+     * Smoothing factors of the model's level, day-of-week offsets and residual variance.
+     */
+    private double levelSmoothing = 0.1;
+    private double seasonalSmoothing = 0.05;
+    private double varianceSmoothing = 0.05;
+
+    /**
+     * Floor for the model's standard deviation, in log space (0.02 is about 2%).
+     */
+    private double minStdDev = 0.02;
+
+    /**
+     * Days a series must have been observed before its model is trusted.
+     */
+    private int modelWarmupObservations = 14;
+
+    /**
+     * Days of history used to train the model of a series seen for the first time.
+     */
+    private int modelTrainingDays = 90;
 }
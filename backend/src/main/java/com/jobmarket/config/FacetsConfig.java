@@ -0,0 +1,30 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "facets")
+@Getter
+@Setter
+public class FacetsConfig {
+
+    /**
+     * Whether the facet index over the current offer snapshot is kept in memory.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often to check for a newer offer sync to rebuild the index from, in milliseconds.
+     */
+    private long refreshIntervalMs = 300000;
+
+    /**
+     * Values returned per facet when the request sets no limit.
+     */
+    private int defaultLimit = 20;
+
+    private int maxLimit = 1000;
+}
@@ -0,0 +1,29 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "ingest-pool")
+@Getter
+@Setter
+public class IngestPoolConfig {
+
+    /**
+     * Whether scraper threads get their own connection pool. When enabled, the
+     * {@code spring.datasource.hikari} pool only serves the REST API, so a long scrape can
+     * never make web requests wait for a connection.
+     */
+    private boolean enabled = false;
+
+    private int maximumPoolSize = 4;
+    private int minimumIdle = 1;
+
+    /**
+     * How long a scraper thread waits for a connection, in milliseconds. Ingest is not latency
+     * sensitive, so it may wait longer than the API.
+     */
+    private long connectionTimeoutMs = 60000;
+}
@@ -0,0 +1,34 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "live-events")
+@Getter
+@Setter
+public class LiveEventsConfig {
+
+    /**
+     * Most clients connected to the event stream at once; further connections are refused.
+     */
+    private int maxSubscribers = 200;
+
+    /**
+     * Events waiting to be sent; when full, new events are dropped rather than slowing down
+     * the scrape that produces them.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Interval of keep-alive comments, below the read timeout of proxies in front of the API.
+     */
+    private long heartbeatIntervalMs = 25_000;
+
+    /**
+     * Lifetime of one stream connection; browsers reconnect automatically when it ends.
+     */
+    private long emitterTimeoutMs = 1_800_000;
+}
@@ -0,0 +1,57 @@
+package com.jobmarket.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reflection and proxy hints a GraalVM native image needs beyond what Spring AOT infers from the
+ * bean definitions. Only used by the {@code -Paot} build; the regular JVM build ignores it.
+ * <ul>
+ *   <li>Jackson binds the justjoin.it API responses ({@code JobOffer}), the server-sent event
+ *   payloads and the DTO records, some of which never appear in a controller signature.</li>
+ *   <li>Hibernate reads and writes the entities' fields reflectively.</li>
+ *   <li>Jsoup picks its {@code java.net.http} based executor by class name.</li>
+ *   <li>{@code LazyConnectionDataSourceProxy} hands out JDK proxies of {@link ConnectionProxy}.</li>
+ * </ul>
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<String> JSON_PACKAGES = List.of(
+            "com.jobmarket.dto", "com.jobmarket.scraper.dto", "com.jobmarket.scraper.event");
+    private static final String ENTITY_PACKAGE = "com.jobmarket.entity";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        for (String jsonPackage : JSON_PACKAGES) {
+            bindings.registerReflectionHints(hints.reflection(), classesIn(jsonPackage, classLoader));
+        }
+        for (Class<?> entity : classesIn(ENTITY_PACKAGE, classLoader)) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        hints.reflection().registerTypeIfPresent(classLoader, "org.jsoup.helper.HttpClientExecutor",
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.proxies().registerJdkProxy(ConnectionProxy.class);
+    }
+
+    /**
+     * Top-level and nested classes of a package, found when the hints are generated at build time.
+     */
+    private static Class<?>[] classesIn(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) -> true);
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .map(name -> ClassUtils.resolveClassName(name, classLoader))
+                .toArray(Class<?>[]::new);
+    }
+}
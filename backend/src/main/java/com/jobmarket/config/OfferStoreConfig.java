@@ -0,0 +1,30 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "offer-store")
+@Getter
+@Setter
+public class OfferStoreConfig {
+
+    /**
+     * Whether the offer list is synced into {@code job_offer} once a day. Needs the job count
+     * scheduler, whose replicas take turns through the same leases.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often this replica checks whether today's sync is still missing, in milliseconds.
+     */
+    private long tickIntervalMs = 3600000;
+
+    /**
+     * Smallest offer list a sync accepts, as a share of the offers currently open. A shorter
+     * list is taken to be truncated and skipped, so a bad response cannot close most intervals.
+     */
+    private double minListedFraction = 0.5;
+}
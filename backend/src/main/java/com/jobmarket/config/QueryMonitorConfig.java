@@ -0,0 +1,35 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "query-monitor")
+@Getter
+@Setter
+public class QueryMonitorConfig {
+
+    /**
+     * Whether Spring Data repository calls are timed as {@code repository.query}, tagged by
+     * repository, method, row count bucket and outcome.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Repository calls slower than this are logged with their parameters and SQL, in milliseconds.
+     */
+    private long slowThresholdMs = 200;
+
+    /**
+     * Share of slow calls whose SQL is also explained, between 0 and 1. Plans are generic
+     * (without parameter values) and need Postgres 16 or newer.
+     */
+    private double explainSampleRate = 0.1;
+
+    /**
+     * Minimum time between two plans of the same statement, in milliseconds.
+     */
+    private long explainCooldownMs = 300000;
+}
@@ -0,0 +1,46 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "read-replica")
+@Getter
+@Setter
+public class ReadReplicaConfig {
+
+    /**
+     * Whether read-only transactions use their own connection pool. When disabled, all
+     * queries share the single {@code spring.datasource} pool.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the read replica. When empty, the read pool is a read-only stand-in
+     * connected to the primary, which still keeps dashboard reads out of the write pool.
+     */
+    private String url;
+
+    /**
+     * Credentials for the replica; the primary's are used when empty.
+     */
+    private String username;
+    private String password;
+
+    private int maximumPoolSize = 10;
+    private int minimumIdle = 2;
+
+    /**
+     * How long a read waits for a replica connection before failing over to the primary, in
+     * milliseconds. Kept short so an unreachable replica does not stall requests.
+     */
+    private long connectionTimeoutMs = 3000;
+
+    /**
+     * How often the replica is probed, in milliseconds. Reads go to the primary from the
+     * first failed connection until a probe succeeds again.
+     */
+    private long healthCheckIntervalMs = 10000;
+}
@@ -0,0 +1,95 @@
+package com.jobmarket.config;
+
+import com.jobmarket.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits the database into one Hikari pool per workload, each with its own size, timeouts and
+ * {@code hikaricp_*} metrics (tagged by pool name):
+ * <ul>
+ *   <li>{@code api} - web requests, sized by {@code spring.datasource.hikari}</li>
+ *   <li>{@code ingest} - scraper threads, sized by {@code ingest-pool}</li>
+ *   <li>{@code replica} - read-only API transactions, sized by {@code read-replica}</li>
+ * </ul>
+ * Replaces Spring Boot's single pool only when {@code ingest-pool.enabled} or
+ * {@code read-replica.enabled} is set.
+ */
+@Configuration
+@ConditionalOnExpression("${ingest-pool.enabled:false} or ${read-replica.enabled:false}")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource apiDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("api");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ingest-pool", name = "enabled", havingValue = "true")
+    public HikariDataSource ingestDataSource(DataSourceProperties properties, IngestPoolConfig config) {
+        HikariDataSource dataSource = pool("ingest", properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), properties);
+        dataSource.setMaximumPoolSize(config.getMaximumPoolSize());
+        dataSource.setMinimumIdle(config.getMinimumIdle());
+        dataSource.setConnectionTimeout(config.getConnectionTimeoutMs());
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "read-replica", name = "enabled", havingValue = "true")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, ReadReplicaConfig config) {
+        HikariDataSource dataSource = pool("replica",
+                StringUtils.hasText(config.getUrl()) ? config.getUrl() : properties.determineUrl(),
+                StringUtils.hasText(config.getUsername()) ? config.getUsername() : properties.determineUsername(),
+                StringUtils.hasText(config.getPassword()) ? config.getPassword() : properties.determinePassword(),
+                properties);
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(config.getMaximumPoolSize());
+        dataSource.setMinimumIdle(config.getMinimumIdle());
+        dataSource.setConnectionTimeout(config.getConnectionTimeoutMs());
+        // Start even when the replica is down; reads fail over to the primary until it is back
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public WorkloadRoutingDataSource routingDataSource(
+            @Qualifier("apiDataSource") HikariDataSource apiDataSource,
+            @Qualifier("ingestDataSource") ObjectProvider<HikariDataSource> ingestDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource) {
+        return new WorkloadRoutingDataSource(apiDataSource,
+                ingestDataSource.getIfAvailable(() -> apiDataSource), replicaDataSource.getIfAvailable());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         DataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        return dataSource;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "scraper.sampling")
+@Getter
+@Setter
+public class SamplingConfig {
+
+    /**
+     * Whether stable cells may be skipped and carried forward. When disabled every cell
+     * is scraped on every run.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Share of a full run's requests a run may spend, between 0 and 1. Cells that must be
+     * refreshed are always scraped, the rest of the budget goes to the most volatile cells.
+     */
+    private double requestBudgetFraction = 0.5;
+
+    /**
+     * Days of history used to estimate how much a cell moves from day to day.
+     */
+    private int historyDays = 28;
+
+    /**
+     * Scraped observations a cell needs within the history before it may be carried.
+     */
+    private int minObservations = 7;
+
+    /**
+     * A cell whose last scraped value is this many days old is always refreshed.
+     */
+    private int maxCarryDays = 7;
+}
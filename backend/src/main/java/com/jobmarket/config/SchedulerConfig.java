@@ -0,0 +1,50 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "scheduler.job-count")
+@Getter
+@Setter
+public class SchedulerConfig {
+
+    /**
+     * Whether scheduled scraping runs at all. Per-category cadence and time windows are
+     * stored in {@code tracked_category}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often active categories are checked for a due run, in milliseconds.
+     */
+    private long tickIntervalMs = 60000;
+
+    /**
+     * Maximum random delay before a due run starts, in minutes.
+     */
+    private int jitterMinutes = 30;
+
+    /**
+     * Number of categories that can be scraped at the same time.
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Identifies this replica in {@code scheduler_node}; generated from host and process when empty.
+     */
+    private String nodeId;
+
+    /**
+     * How often this replica renews its node heartbeat and category leases, in milliseconds.
+     */
+    private long heartbeatIntervalMs = 15000;
+
+    /**
+     * How long a lease or node heartbeat stays valid without renewal, in milliseconds. A dead
+     * replica's categories are taken over by the others after this time.
+     */
+    private long leaseTtlMs = 60000;
+}
@@ -0,0 +1,29 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "scrape-history")
+@Getter
+@Setter
+public class ScrapeHistoryConfig {
+
+    /**
+     * Maximum number of request rows written per batch insert.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Longest time a recorded request waits in memory before it is written.
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * Requests recorded while this many are already waiting are dropped,
+     * so a stalled database can never slow down or exhaust the scraper.
+     */
+    private int queueCapacity = 10000;
+}
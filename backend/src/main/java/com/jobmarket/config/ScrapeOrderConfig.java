@@ -0,0 +1,30 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "scraper.ordering")
+@Getter
+@Setter
+public class ScrapeOrderConfig {
+
+    /**
+     * Whether a run scrapes headline and frequently viewed cells first. When disabled cells
+     * are scraped in declaration order.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval after which all view counts are halved, so the order follows what users look
+     * at now rather than what they looked at months ago.
+     */
+    private long accessDecayIntervalMs = 86_400_000;
+
+    /**
+     * Most series whose views are counted; views of further series are ignored.
+     */
+    private int maxTrackedSeries = 10_000;
+}
@@ -15,14 +15,31 @@ public class ScraperConfig {
     private String webBaseUrl = "https://justjoin.it/job-offers";
     private int connectionTimeoutMs = 10000;
     private int readTimeoutMs = 30000;
+    // Cells whose fetch failed are retried after the run's main pass, at most maxRetries times,
+    // waiting retryBaseDelayMs doubled after every failure and capped at retryMaxDelayMs
     private int maxRetries = 3;
+    private long retryBaseDelayMs = 5000;
+    private long retryMaxDelayMs = 60000;
+    // Results are saved while the run goes on, in batches of saveBatchSize or after the oldest
+    // buffered result has waited saveBatchMaxDelayMs, each batch in its own short transaction
+    private int saveBatchSize = 50;
+    private long saveBatchMaxDelayMs = 60000;
 
-    // Randomized delay settings for human-like scraping patterns
-    private int minDelayMs = 3000;
-    private int maxDelayMs = 8000;
-    private int pauseEveryNRequests = 15;
-    private int pauseDurationMs = 45000;
+    // Adaptive request pacing (AIMD), rates in requests per minute. The rate grows by
+    // rateIncreasePerMinute after every healthy response and is multiplied by backoffFactor
+    // on 429/503 responses, failed requests, slow responses or failed count extraction.
+    private double minRequestsPerMinute = 4;
+    private double maxRequestsPerMinute = 20;
+    private double initialRequestsPerMinute = 10;
+    private double rateIncreasePerMinute = 0.5;
+    private double backoffFactor = 0.5;
+    private long slowResponseMs = 5000;
+    // Random +/- fraction applied to every delay for a human-like request pattern
+    private double delayJitter = 0.3;
 
     // Realistic browser user agent
     private String userAgent = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    // Record mode: directory to archive every received response in, disabled when empty
+    private String recordDirectory;
 }
@@ -0,0 +1,44 @@
+package com.jobmarket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "series-store")
+@Getter
+@Setter
+public class SeriesStoreConfig {
+
+    /**
+     * Whether stats reads are served from the memory-mapped series store.
+     * When disabled, or while the store is being built, all reads go to the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory holding the mapped data file and the series key index.
+     * Kept between restarts so the store does not have to be rebuilt from scratch.
+     */
+    private String directory = "data/series-store";
+
+    private int initialDayCapacity = 1024;
+    private int initialSeriesCapacity = 512;
+
+    /**
+     * Number of records loaded per query when (re)building the store from the database.
+     */
+    private int rebuildBatchSize = 5000;
+
+    /**
+     * How often records committed by other replicas are caught up by ingest version.
+     */
+    private long syncIntervalMs = 10000;
+
+    /**
+     * While other replicas are live, reads go to the database once the last successful
+     * catch-up is older than this.
+     */
+    private long maxSyncLagMs = 60000;
+}
@@ -2,6 +2,7 @@ package com.jobmarket.controller;
 
 import com.jobmarket.dto.CategoryDto;
 import com.jobmarket.dto.CreateCategoryRequest;
+import com.jobmarket.dto.UpdateCategoryScheduleRequest;
 import com.jobmarket.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -49,4 +50,12 @@ public class CategoryController {
             @RequestParam boolean active) {
         return ResponseEntity.ok(categoryService.setActive(id, active));
     }
+
+    @PutMapping("/{id}/schedule")
+    @Operation(summary = "Set how often and in which daily time window a category is scraped")
+    public ResponseEntity<CategoryDto> updateSchedule(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateCategoryScheduleRequest request) {
+        return ResponseEntity.ok(categoryService.updateSchedule(id, request));
+    }
 }
@@ -0,0 +1,62 @@
+package com.jobmarket.controller;
+
+import com.jobmarket.dto.FacetsDto;
+import com.jobmarket.facet.FacetDimension;
+import com.jobmarket.facet.FacetService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/facets")
+@RequiredArgsConstructor
+@Tag(name = "Facets", description = "Ad-hoc filter and facet counts over the current offers")
+public class FacetController {
+
+    private final FacetService facetService;
+
+    @GetMapping
+    @Operation(summary = "Count current offers by any filter combination, with a breakdown per dimension")
+    public ResponseEntity<FacetsDto> getFacets(
+            @Parameter(description = "Category slugs; several values match any of them")
+            @RequestParam(required = false) List<String> category,
+            @Parameter(description = "City names as listed in offers, e.g. 'Wrocław'")
+            @RequestParam(required = false) List<String> city,
+            @Parameter(description = "Workplace types: remote, hybrid, office")
+            @RequestParam(required = false) List<String> workplaceType,
+            @Parameter(description = "Experience levels as listed in offers: junior, mid, senior, c_level")
+            @RequestParam(required = false) List<String> experienceLevel,
+            @Parameter(description = "Salary buckets of PLN offers: UNDER_25K, RANGE_25_30K, OVER_30K; " +
+                    "or UNDISCLOSED, OTHER_CURRENCY")
+            @RequestParam(required = false) List<String> salary,
+            @Parameter(description = "Skills, e.g. 'spring'")
+            @RequestParam(required = false) List<String> skill,
+            @Parameter(description = "Dimensions to break down: CATEGORY, CITY, WORKPLACE_TYPE, EXPERIENCE_LEVEL, " +
+                    "SALARY, SKILL. All when empty")
+            @RequestParam(required = false) List<FacetDimension> facets,
+            @Parameter(description = "Values per facet, largest first")
+            @RequestParam(required = false) Integer limit) {
+        Map<FacetDimension, List<String>> filters = new EnumMap<>(FacetDimension.class);
+        putIfPresent(filters, FacetDimension.CATEGORY, category);
+        putIfPresent(filters, FacetDimension.CITY, city);
+        putIfPresent(filters, FacetDimension.WORKPLACE_TYPE, workplaceType);
+        putIfPresent(filters, FacetDimension.EXPERIENCE_LEVEL, experienceLevel);
+        putIfPresent(filters, FacetDimension.SALARY, salary);
+        putIfPresent(filters, FacetDimension.SKILL, skill);
+        return ResponseEntity.ok(facetService.query(filters, facets, limit));
+    }
+
+    private static void putIfPresent(Map<FacetDimension, List<String>> filters, FacetDimension dimension,
+                                     List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            filters.put(dimension, values);
+        }
+    }
+}
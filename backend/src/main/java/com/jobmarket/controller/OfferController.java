@@ -0,0 +1,42 @@
+package com.jobmarket.controller;
+
+import com.jobmarket.dto.OfferCountDto;
+import com.jobmarket.service.OfferStoreService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/offers")
+@RequiredArgsConstructor
+@Tag(name = "Offers", description = "Counts over individual offers and their listing intervals")
+public class OfferController {
+
+    private final OfferStoreService offerStoreService;
+
+    @GetMapping("/count")
+    @Operation(summary = "Count the offers of a category listed on a date, by any combination of filters")
+    public ResponseEntity<OfferCountDto> countOffers(
+            @Parameter(description = "Category slug, e.g. 'java'")
+            @RequestParam String category,
+            @Parameter(description = "Date, format: yyyy-MM-dd. Today when empty")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "City name as listed in offers, e.g. 'Wrocław'. Null for all cities")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Experience level as listed in offers: junior, mid, senior, c_level")
+            @RequestParam(required = false) String experienceLevel,
+            @Parameter(description = "Workplace type: remote, hybrid, office")
+            @RequestParam(required = false) String workplaceType,
+            @Parameter(description = "Minimum lower salary bound, in the offer's currency")
+            @RequestParam(required = false) Integer salaryMin) {
+        return ResponseEntity.ok(offerStoreService.countOffers(
+                date, category, city, experienceLevel, workplaceType, salaryMin));
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobmarket.controller;
+
+import com.jobmarket.dto.ScrapeJobDto;
+import com.jobmarket.service.ScrapeJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequestMapping("/api/scrape-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Scrape Jobs", description = "Background scrape job endpoints")
+public class ScrapeJobController {
+
+    private final ScrapeJobService scrapeJobService;
+
+    @PostMapping
+    @Operation(summary = "Start a background scrape and return its run id")
+    public ResponseEntity<ScrapeJobDto> submit(
+            @Parameter(description = "Category slug. Omit to scrape all active categories")
+            @RequestParam(required = false) String category) {
+        return accepted(scrapeJobService.submit(category));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get the progress of a scrape job")
+    public ResponseEntity<ScrapeJobDto> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(scrapeJobService.find(id));
+    }
+
+    static ResponseEntity<ScrapeJobDto> accepted(ScrapeJobDto job) {
+        if (job.id() == null) {
+            return ResponseEntity.accepted().body(job);
+        }
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api/scrape-jobs/{id}")
+                        .buildAndExpand(job.id())
+                        .toUri())
+                .body(job);
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobmarket.controller;
+
+import com.jobmarket.dto.PageDto;
+import com.jobmarket.dto.ScrapeRequestDto;
+import com.jobmarket.dto.ScrapeRunDto;
+import com.jobmarket.service.ScrapeRunService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/scrape-runs")
+@RequiredArgsConstructor
+@Tag(name = "Scrape Runs", description = "Scrape run history endpoints")
+public class ScrapeRunController {
+
+    private final ScrapeRunService scrapeRunService;
+
+    @GetMapping
+    @Operation(summary = "List scrape runs, most recent first")
+    public ResponseEntity<PageDto<ScrapeRunDto>> getRuns(
+            @Parameter(description = "Category slug. Omit for runs of all categories")
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(scrapeRunService.findRuns(category, page, size));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a single scrape run")
+    public ResponseEntity<ScrapeRunDto> getRun(@PathVariable Long id) {
+        return ResponseEntity.ok(scrapeRunService.findRun(id));
+    }
+
+    @GetMapping("/{id}/requests")
+    @Operation(summary = "List the page requests made during a scrape run")
+    public ResponseEntity<PageDto<ScrapeRequestDto>> getRunRequests(
+            @PathVariable Long id,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "100") int size) {
+        return ResponseEntity.ok(scrapeRunService.findRequests(id, page, size));
+    }
+}
@@ -1,12 +1,14 @@
 package com.jobmarket.controller;
 
+import com.jobmarket.dto.ChangesDto;
 import com.jobmarket.dto.JobCountStatsDto;
 import com.jobmarket.dto.LatestCountDto;
+import com.jobmarket.dto.ScrapeJobDto;
 import com.jobmarket.entity.ExperienceLevel;
 import com.jobmarket.entity.MetricType;
 import com.jobmarket.entity.SalaryRange;
-import com.jobmarket.scraper.JustJoinItScraperService;
-import com.jobmarket.scraper.dto.JobCountResult;
+import com.jobmarket.service.ChangesService;
+import com.jobmarket.service.ScrapeJobService;
 import com.jobmarket.service.StatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,7 +20,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/stats")
@@ -27,7 +28,22 @@ import java.util.Map;
 public class StatsController {
 
     private final StatsService statsService;
-    private final JustJoinItScraperService scraperService;
+    private final ScrapeJobService scrapeJobService;
+    private final ChangesService changesService;
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get records added since an ingest version, grouped by series key")
+    public ResponseEntity<ChangesDto> getChanges(
+            @Parameter(description = "Version returned by the previous call (or a data-version event); 0 for everything")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Category slug. Null for all categories")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "Encoded series keys to sync. Empty for all series")
+            @RequestParam(required = false) List<String> series,
+            @Parameter(description = "Maximum number of records in one response")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(changesService.getChanges(since, category, series, limit));
+    }
 
     @GetMapping("/{category}")
     @Operation(summary = "Get historical job count data for a category")
@@ -69,24 +85,8 @@ public class StatsController {
     }
 
     @PostMapping("/scrape")
-    @Operation(summary = "Manually trigger a job count scrape for all active categories and cities")
-    public ResponseEntity<Map<String, Object>> triggerScrape() {
-        List<JobCountResult> results = scraperService.fetchAndSaveAllJobCounts();
-        long successCount = results.stream().filter(JobCountResult::isSuccess).count();
-        return ResponseEntity.ok(Map.of(
-                "total", results.size(),
-                "success", successCount,
-                "failed", results.size() - successCount,
-                "results", results.stream()
-                        .map(r -> Map.of(
-                                "category", r.getCategory().getName(),
-                                "metricType", r.getMetricType().name(),
-                                "city", r.getCity() != null ? r.getCity() : "all-locations",
-                                "count", r.isSuccess() ? r.getCount() : 0,
-                                "success", r.isSuccess(),
-                                "source", r.isSuccess() ? r.getSource() : "N/A"
-                        ))
-                        .toList()
-        ));
+    @Operation(summary = "Start a background scrape of all active categories; poll /api/scrape-jobs/{id} for progress")
+    public ResponseEntity<ScrapeJobDto> triggerScrape() {
+        return ScrapeJobController.accepted(scrapeJobService.submit(null));
     }
 }
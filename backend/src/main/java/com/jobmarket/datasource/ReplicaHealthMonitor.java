@@ -0,0 +1,22 @@
+package com.jobmarket.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Probes the read replica so reads move back to it after a failover.
+ */
+@Component
+@ConditionalOnProperty(prefix = "read-replica", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReplicaHealthMonitor {
+
+    private final WorkloadRoutingDataSource routingDataSource;
+
+    @Scheduled(fixedDelayString = "${read-replica.health-check-interval-ms:10000}")
+    public void probe() {
+        routingDataSource.probeReplica();
+    }
+}
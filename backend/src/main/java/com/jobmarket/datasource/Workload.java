@@ -0,0 +1,29 @@
+package com.jobmarket.datasource;
+
+/**
+ * Who is using the database on the current thread; each workload gets its own connection pool.
+ * <p>
+ * Scraper threads are created with {@link #newThread} and run as {@link #INGEST} for their whole
+ * life. Every other thread, including web requests, runs as {@link #API}.
+ */
+public enum Workload {
+
+    API,
+    INGEST;
+
+    private static final ThreadLocal<Workload> CURRENT = ThreadLocal.withInitial(() -> API);
+
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Creates a thread whose database work all runs as this workload.
+     */
+    public Thread newThread(Runnable runnable, String name) {
+        return new Thread(() -> {
+            CURRENT.set(this);
+            runnable.run();
+        }, name);
+    }
+}
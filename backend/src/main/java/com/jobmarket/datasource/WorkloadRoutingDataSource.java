@@ -0,0 +1,94 @@
+package com.jobmarket.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out connections from the pool of the current {@link Workload}: scraper threads use the
+ * ingest pool, read-only transactions of the API use the replica pool when there is one, and all
+ * other API work uses the API pool.
+ * <p>
+ * The read-only flag of a transaction is only known after the transaction manager asked for a
+ * connection, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers the
+ * lookup to the first statement. When the replica cannot hand out a connection, reads fail over
+ * to the API pool until {@link #probeReplica()} sees it healthy again.
+ */
+@Slf4j
+public class WorkloadRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource api;
+    private final DataSource ingest;
+    private final DataSource replica;
+
+    private volatile boolean replicaHealthy = true;
+
+    /**
+     * @param ingest  pool for scraper threads; pass {@code api} to share it
+     * @param replica pool for read-only API transactions, or null to keep them on {@code api}
+     */
+    public WorkloadRoutingDataSource(DataSource api, DataSource ingest, DataSource replica) {
+        this.api = api;
+        this.ingest = ingest;
+        this.replica = replica;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        // Ingest always reads from the primary, it must see the records it just wrote
+        if (Workload.current() == Workload.INGEST) {
+            return ingest.getConnection();
+        }
+        if (replica == null || !replicaHealthy || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return api.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return api.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return api.getConnection(username, password);
+    }
+
+    /**
+     * Checks whether the replica hands out a valid connection and routes reads accordingly.
+     */
+    public void probeReplica() {
+        if (replica == null) {
+            return;
+        }
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(2)) {
+                markReplicaDown(new SQLException("Replica connection is not valid"));
+                return;
+            }
+            if (!replicaHealthy) {
+                log.info("Read replica is healthy again, routing read-only transactions to it");
+                replicaHealthy = true;
+            }
+        } catch (SQLException e) {
+            markReplicaDown(e);
+        }
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    private void markReplicaDown(SQLException cause) {
+        if (replicaHealthy) {
+            log.warn("Read replica unavailable, failing reads over to the primary: {}", cause.getMessage());
+            replicaHealthy = false;
+        }
+    }
+}
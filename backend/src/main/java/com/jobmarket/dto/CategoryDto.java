@@ -2,10 +2,18 @@ package com.jobmarket.dto;
 
 import lombok.Builder;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
 @Builder
 public record CategoryDto(
     Long id,
     String name,
     String slug,
-    boolean active
+    boolean active,
+    int scrapeEveryDays,
+    LocalTime scrapeWindowStart,
+    LocalTime scrapeWindowEnd,
+    LocalDateTime lastScrapeStartedAt,
+    LocalDateTime lastScrapeFinishedAt
 ) {}
@@ -0,0 +1,8 @@
+package com.jobmarket.dto;
+
+import java.time.LocalDate;
+
+public record ChangePointDto(
+    LocalDate date,
+    int count
+) {}
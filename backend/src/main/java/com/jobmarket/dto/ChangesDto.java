@@ -0,0 +1,16 @@
+package com.jobmarket.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Records added after a client's last sync, grouped by encoded series key. Pass {@code version}
+ * as {@code since} on the next call; while {@code hasMore} is set, call again right away.
+ */
+@Builder
+public record ChangesDto(
+    long version,
+    boolean hasMore,
+    List<SeriesChangesDto> series
+) {}
@@ -0,0 +1,6 @@
+package com.jobmarket.dto;
+
+public record FacetCountDto(
+    String value,
+    int count
+) {}
@@ -0,0 +1,20 @@
+package com.jobmarket.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offers of the snapshot synced on {@code asOf} that match the filters, and per requested
+ * dimension the matching offers per value. A dimension's own filter is ignored for its
+ * breakdown, so every value shows what selecting it would match.
+ */
+@Builder
+public record FacetsDto(
+    LocalDate asOf,
+    int total,
+    int matching,
+    Map<String, List<FacetCountDto>> facets
+) {}
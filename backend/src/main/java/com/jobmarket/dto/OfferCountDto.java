@@ -0,0 +1,12 @@
+package com.jobmarket.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record OfferCountDto(
+    LocalDate date,
+    String category,
+    long count
+) {}
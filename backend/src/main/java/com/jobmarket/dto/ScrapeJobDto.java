@@ -0,0 +1,21 @@
+package com.jobmarket.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ScrapeJobDto(
+    Long id,
+    String category,
+    String status,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    int totalCells,
+    int completedCells,
+    int failedCells,
+    int carriedCells,
+    double percentComplete,
+    Long etaSeconds,
+    String errorMessage
+) {}
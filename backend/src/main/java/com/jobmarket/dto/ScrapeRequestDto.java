@@ -0,0 +1,26 @@
+package com.jobmarket.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ScrapeRequestDto(
+    Long id,
+    int requestIndex,
+    String category,
+    String metricType,
+    String city,
+    String experienceLevel,
+    Integer salaryMin,
+    Integer salaryMax,
+    String url,
+    LocalDateTime requestedAt,
+    int httpStatus,
+    int latencyMs,
+    Integer responseBytes,
+    String extractionStrategy,
+    Integer extractedCount,
+    String anomalyDecision,
+    String finalSource
+) {}
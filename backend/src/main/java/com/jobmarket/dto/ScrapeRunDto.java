@@ -0,0 +1,19 @@
+package com.jobmarket.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ScrapeRunDto(
+    Long id,
+    String category,
+    String status,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    Long durationMs,
+    int totalCells,
+    Integer successCount,
+    Integer failedCount,
+    String errorMessage
+) {}
@@ -0,0 +1,8 @@
+package com.jobmarket.dto;
+
+import java.util.List;
+
+public record SeriesChangesDto(
+    String key,
+    List<ChangePointDto> points
+) {}
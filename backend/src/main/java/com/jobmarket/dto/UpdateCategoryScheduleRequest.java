@@ -0,0 +1,27 @@
+package com.jobmarket.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalTime;
+
+public record UpdateCategoryScheduleRequest(
+    @NotNull(message = "Scrape interval is required")
+    @Min(value = 1, message = "Scrape interval must be at least 1 day")
+    @Max(value = 365, message = "Scrape interval must be at most 365 days")
+    Integer scrapeEveryDays,
+
+    @NotNull(message = "Window start is required")
+    LocalTime scrapeWindowStart,
+
+    @NotNull(message = "Window end is required")
+    LocalTime scrapeWindowEnd
+) {
+
+    @AssertTrue(message = "Window start must be before window end")
+    public boolean isWindowValid() {
+        return scrapeWindowStart == null || scrapeWindowEnd == null || scrapeWindowStart.isBefore(scrapeWindowEnd);
+    }
+}
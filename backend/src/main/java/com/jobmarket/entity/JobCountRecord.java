@@ -1,5 +1,6 @@
 package com.jobmarket.entity;
 
+import com.jobmarket.series.SeriesKey;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,7 +12,10 @@ import java.time.LocalDateTime;
     @Index(name = "idx_job_count_category", columnList = "category"),
     @Index(name = "idx_job_count_fetched_at", columnList = "fetched_at"),
     @Index(name = "idx_job_count_category_location", columnList = "category, location"),
-    @Index(name = "idx_job_count_category_metric", columnList = "category, metric_type")
+    @Index(name = "idx_job_count_category_metric", columnList = "category, metric_type"),
+    @Index(name = "uk_job_count_record_series_day", columnList = "series_key, record_date", unique = true),
+    @Index(name = "idx_job_count_ingest_version", columnList = "ingest_version"),
+    @Index(name = "idx_job_count_filters", columnList = "category, metric_type, location, fetched_at")
 })
 @Getter
 @Setter
@@ -52,4 +56,29 @@ public class JobCountRecord extends BaseEntity {
 
     @Column(name = "record_date", nullable = false)
     private LocalDate recordDate;
+
+    /**
+     * {@link SeriesKey#encode()} of the filter columns; unique together with the record date.
+     */
+    @Column(name = "series_key", nullable = false, length = 300)
+    private String seriesKey;
+
+    /**
+     * Where the count came from, e.g. {@code HTML} or {@code CARRIED}; null for old records.
+     */
+    @Column(name = "source", length = 20)
+    private String source;
+
+    /**
+     * Value of the ingest counter for the batch this record was committed in; grows with every
+     * batch, so it orders records by when they became visible.
+     */
+    @Column(name = "ingest_version")
+    private Long ingestVersion;
+
+    @PrePersist
+    @PreUpdate
+    void updateSeriesKey() {
+        seriesKey = SeriesKey.of(this).encode();
+    }
 }
@@ -0,0 +1,79 @@
+package com.jobmarket.entity;
+
+import com.jobmarket.scraper.dto.ExtractionStrategy;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single page request made during a scrape run, together with the outcome of the
+ * filter cell it belonged to. Rows are inserted in batches by
+ * {@link com.jobmarket.scraper.history.ScrapeHistoryWriter}; this mapping is used for reads.
+ */
+@Entity
+@Table(name = "scrape_request", indexes = {
+    @Index(name = "idx_scrape_request_run", columnList = "run_id"),
+    @Index(name = "idx_scrape_request_category_requested_at", columnList = "category, requested_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScrapeRequest extends BaseEntity {
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "request_index", nullable = false)
+    private Integer requestIndex;
+
+    @Column(name = "category", nullable = false, length = 100)
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric_type", nullable = false, length = 50)
+    private MetricType metricType;
+
+    @Column(name = "city", length = 100)
+    private String city;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level", length = 20)
+    private ExperienceLevel experienceLevel;
+
+    @Column(name = "salary_min")
+    private Integer salaryMin;
+
+    @Column(name = "salary_max")
+    private Integer salaryMax;
+
+    @Column(name = "url", nullable = false, length = 1000)
+    private String url;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "http_status", nullable = false)
+    private Integer httpStatus;
+
+    @Column(name = "latency_ms", nullable = false)
+    private Integer latencyMs;
+
+    @Column(name = "response_bytes")
+    private Integer responseBytes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "extraction_strategy", length = 20)
+    private ExtractionStrategy extractionStrategy;
+
+    @Column(name = "extracted_count")
+    private Integer extractedCount;
+
+    @Column(name = "anomaly_decision", length = 30)
+    private String anomalyDecision;
+
+    @Column(name = "final_source", length = 20)
+    private String finalSource;
+}
@@ -0,0 +1,47 @@
+package com.jobmarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scrape_run", indexes = {
+    @Index(name = "idx_scrape_run_started_at", columnList = "started_at"),
+    @Index(name = "idx_scrape_run_category_started_at", columnList = "category, started_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScrapeRun extends BaseEntity {
+
+    /**
+     * Category slug, or null for a run over all active categories.
+     */
+    @Column(name = "category", length = 100)
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ScrapeRunStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "total_cells", nullable = false)
+    private Integer totalCells;
+
+    @Column(name = "success_count")
+    private Integer successCount;
+
+    @Column(name = "failed_count")
+    private Integer failedCount;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+}
@@ -0,0 +1,7 @@
+package com.jobmarket.entity;
+
+public enum ScrapeRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
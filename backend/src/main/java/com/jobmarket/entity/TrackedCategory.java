@@ -3,6 +3,9 @@ package com.jobmarket.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
 @Entity
 @Table(name = "tracked_category", indexes = {
     @Index(name = "idx_tracked_category_slug", columnList = "slug", unique = true),
@@ -24,4 +27,22 @@ public class TrackedCategory extends BaseEntity {
     @Column(name = "active", nullable = false)
     @Builder.Default
     private Boolean active = true;
+
+    @Column(name = "scrape_every_days", nullable = false)
+    @Builder.Default
+    private Integer scrapeEveryDays = 1;
+
+    @Column(name = "scrape_window_start", nullable = false)
+    @Builder.Default
+    private LocalTime scrapeWindowStart = LocalTime.of(6, 0);
+
+    @Column(name = "scrape_window_end", nullable = false)
+    @Builder.Default
+    private LocalTime scrapeWindowEnd = LocalTime.of(22, 0);
+
+    @Column(name = "last_scrape_started_at")
+    private LocalDateTime lastScrapeStartedAt;
+
+    @Column(name = "last_scrape_finished_at")
+    private LocalDateTime lastScrapeFinishedAt;
 }
@@ -0,0 +1,8 @@
+package com.jobmarket.exception;
+
+public class FacetIndexUnavailableException extends RuntimeException {
+
+    public FacetIndexUnavailableException() {
+        super("Facet index is not built yet, no offer snapshot has been synced");
+    }
+}
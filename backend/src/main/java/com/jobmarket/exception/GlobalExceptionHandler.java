@@ -51,6 +51,27 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(ScrapeRunNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleScrapeRunNotFound(
+            ScrapeRunNotFoundException ex, HttpServletRequest request) {
+        log.warn("Scrape run not found: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ScrapeJobConflictException.class)
+    public ResponseEntity<ErrorResponse> handleScrapeJobConflict(
+            ScrapeJobConflictException ex, HttpServletRequest request) {
+        log.warn("Scrape job conflict: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(FacetIndexUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleFacetIndexUnavailable(
+            FacetIndexUnavailableException ex, HttpServletRequest request) {
+        log.warn("Facet index unavailable: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -0,0 +1,12 @@
+package com.jobmarket.exception;
+
+public class ScrapeJobConflictException extends RuntimeException {
+
+    public ScrapeJobConflictException(Long runningId) {
+        super("A scrape job is already running with id: " + runningId);
+    }
+
+    public ScrapeJobConflictException(String category) {
+        super("Another scrape is already running for category: " + category);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobmarket.exception;
+
+public class ScrapeRunNotFoundException extends RuntimeException {
+
+    public ScrapeRunNotFoundException(Long id) {
+        super("Scrape run not found with id: " + id);
+    }
+}
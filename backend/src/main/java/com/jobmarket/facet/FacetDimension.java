@@ -0,0 +1,71 @@
+package com.jobmarket.facet;
+
+import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.repository.JobOfferFact;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An offer attribute the facet index keeps one bitmap per value for. Values are stored
+ * normalized, and filter values go through {@link #normalize} before lookup.
+ */
+public enum FacetDimension {
+
+    CATEGORY,
+    CITY,
+    WORKPLACE_TYPE,
+    EXPERIENCE_LEVEL,
+    SALARY,
+    SKILL;
+
+    static final String UNDISCLOSED = "UNDISCLOSED";
+    static final String OTHER_CURRENCY = "OTHER_CURRENCY";
+
+    /**
+     * The values of this dimension for one offer; empty when the offer has none.
+     */
+    List<String> valuesOf(JobOfferFact offer) {
+        return switch (this) {
+            case CATEGORY -> listOf(offer.category());
+            case CITY -> listOf(offer.city());
+            case WORKPLACE_TYPE -> listOf(offer.workplaceType());
+            case EXPERIENCE_LEVEL -> listOf(offer.experienceLevel());
+            case SALARY -> List.of(salaryBucket(offer));
+            case SKILL -> offer.skills();
+        };
+    }
+
+    public String normalize(String value) {
+        return switch (this) {
+            case CATEGORY -> JobOfferFact.normalizeCategory(value);
+            case CITY -> JobOfferFact.normalizeCity(value);
+            case SKILL -> JobOfferFact.normalizeSkill(value);
+            case SALARY -> value.trim().toUpperCase(Locale.ROOT);
+            default -> value.trim().toLowerCase(Locale.ROOT);
+        };
+    }
+
+    /**
+     * The {@link SalaryRange} of the lower salary bound for PLN offers, like the stats cells.
+     */
+    static String salaryBucket(JobOfferFact offer) {
+        if (offer.salaryFrom() == null) {
+            return UNDISCLOSED;
+        }
+        if (!"PLN".equals(offer.currency())) {
+            return OTHER_CURRENCY;
+        }
+        for (SalaryRange range : SalaryRange.values()) {
+            if ((range.getMin() == null || offer.salaryFrom() >= range.getMin())
+                    && (range.getMax() == null || offer.salaryFrom() < range.getMax())) {
+                return range.name();
+            }
+        }
+        return UNDISCLOSED;
+    }
+
+    private static List<String> listOf(String value) {
+        return value != null ? List.of(value) : List.of();
+    }
+}
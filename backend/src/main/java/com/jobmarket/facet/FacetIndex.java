@@ -0,0 +1,126 @@
+package com.jobmarket.facet;
+
+import com.jobmarket.repository.JobOfferFact;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable bitmap index over one offer snapshot. Offer {@code i} of the snapshot is bit
+ * {@code i}, and every value of every {@link FacetDimension} has a compressed bitmap of the
+ * offers carrying it.
+ * <p>
+ * A filter is an OR of the selected values within each dimension and an AND across
+ * dimensions; a facet breakdown is the intersection cardinality of each value's bitmap with
+ * the matching offers. Neither touches the offers themselves, so both run in microseconds
+ * regardless of how the filters are combined.
+ */
+public final class FacetIndex {
+
+    private final Map<FacetDimension, Map<String, RoaringBitmap>> bitmaps;
+    private final RoaringBitmap all;
+    private final LocalDate asOf;
+
+    private FacetIndex(Map<FacetDimension, Map<String, RoaringBitmap>> bitmaps, int size, LocalDate asOf) {
+        this.bitmaps = bitmaps;
+        this.all = new RoaringBitmap();
+        this.all.add(0L, size);
+        this.asOf = asOf;
+    }
+
+    public static FacetIndex build(List<JobOfferFact> offers, LocalDate asOf) {
+        Map<FacetDimension, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(FacetDimension.class);
+        for (FacetDimension dimension : FacetDimension.values()) {
+            bitmaps.put(dimension, new HashMap<>());
+        }
+        for (int i = 0; i < offers.size(); i++) {
+            JobOfferFact offer = offers.get(i);
+            for (FacetDimension dimension : FacetDimension.values()) {
+                Map<String, RoaringBitmap> values = bitmaps.get(dimension);
+                for (String value : dimension.valuesOf(offer)) {
+                    values.computeIfAbsent(value, key -> new RoaringBitmap()).add(i);
+                }
+            }
+        }
+        bitmaps.values().forEach(values -> values.values().forEach(RoaringBitmap::runOptimize));
+        return new FacetIndex(bitmaps, offers.size(), asOf);
+    }
+
+    public int size() {
+        return all.getCardinality();
+    }
+
+    public LocalDate asOf() {
+        return asOf;
+    }
+
+    /**
+     * Offers matching every dimension in {@code filters}, each by any of its (normalized) values.
+     * Dimensions without values do not filter. The result may be one of the index's own
+     * bitmaps and must not be modified.
+     */
+    public RoaringBitmap match(Map<FacetDimension, ? extends Collection<String>> filters) {
+        return matchExcept(filters, null);
+    }
+
+    /**
+     * Like {@link #match}, ignoring the filter on {@code excluded}. Used for the breakdown of a
+     * filtered dimension, so its other values still show how many offers selecting them would add.
+     */
+    public RoaringBitmap matchExcept(Map<FacetDimension, ? extends Collection<String>> filters,
+                                     FacetDimension excluded) {
+        List<RoaringBitmap> selected = new ArrayList<>();
+        for (Map.Entry<FacetDimension, ? extends Collection<String>> filter : filters.entrySet()) {
+            if (filter.getKey() == excluded || filter.getValue() == null || filter.getValue().isEmpty()) {
+                continue;
+            }
+            Map<String, RoaringBitmap> values = bitmaps.get(filter.getKey());
+            RoaringBitmap[] matching = filter.getValue().stream()
+                    .map(values::get)
+                    .filter(Objects::nonNull)
+                    .toArray(RoaringBitmap[]::new);
+            if (matching.length == 0) {
+                return new RoaringBitmap();
+            }
+            selected.add(matching.length == 1 ? matching[0] : FastAggregation.or(matching));
+        }
+        if (selected.isEmpty()) {
+            return all;
+        }
+        if (selected.size() == 1) {
+            return selected.get(0);
+        }
+        return FastAggregation.and(selected.toArray(RoaringBitmap[]::new));
+    }
+
+    /**
+     * Number of {@code matching} offers per value of {@code dimension}, largest first, at most
+     * {@code limit} values. Values no matching offer has are left out.
+     */
+    public Map<String, Integer> counts(FacetDimension dimension, RoaringBitmap matching, int limit) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        bitmaps.get(dimension).forEach((value, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(bitmap, matching);
+            if (count > 0) {
+                counts.add(Map.entry(value, count));
+            }
+        });
+        counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Integer> top = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : counts.subList(0, Math.min(limit, counts.size()))) {
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return top;
+    }
+}
@@ -0,0 +1,109 @@
+package com.jobmarket.facet;
+
+import com.jobmarket.config.FacetsConfig;
+import com.jobmarket.dto.FacetCountDto;
+import com.jobmarket.dto.FacetsDto;
+import com.jobmarket.exception.FacetIndexUnavailableException;
+import com.jobmarket.repository.JobOfferFact;
+import com.jobmarket.repository.JobOfferJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Answers ad-hoc filter and facet queries over the offers listed in the latest offer sync.
+ * <p>
+ * The {@link FacetIndex} is rebuilt from the open {@code job_offer} rows whenever a newer sync
+ * than the one it was built from appears, which every replica notices on its next refresh.
+ * Queries read whichever index is current and never wait for a rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FacetService {
+
+    private final FacetsConfig config;
+    private final JobOfferJdbcRepository jobOfferRepository;
+
+    private volatile FacetIndex index;
+
+    @Scheduled(fixedDelayString = "${facets.refresh-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Optional<LocalDate> lastSync = jobOfferRepository.lastSyncDate();
+        FacetIndex current = index;
+        if (lastSync.isEmpty() || (current != null && lastSync.get().equals(current.asOf()))) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<JobOfferFact> offers = jobOfferRepository.findOpenFacts();
+        index = FacetIndex.build(offers, lastSync.get());
+        log.info("Facet index built for the offer snapshot of {}: {} offers in {} ms",
+                lastSync.get(), offers.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * @param filters values to select per dimension; values of one dimension are OR-ed, dimensions AND-ed
+     * @param facets  dimensions to break the matching offers down by, all when empty
+     * @param limit   values per facet, largest first
+     */
+    public FacetsDto query(Map<FacetDimension, List<String>> filters, Collection<FacetDimension> facets,
+                           Integer limit) {
+        FacetIndex current = index;
+        if (current == null) {
+            throw new FacetIndexUnavailableException();
+        }
+        int perFacet = limit != null ? Math.clamp(limit, 1, config.getMaxLimit()) : config.getDefaultLimit();
+        Map<FacetDimension, List<String>> normalized = normalize(filters);
+        RoaringBitmap matching = current.match(normalized);
+
+        Map<String, List<FacetCountDto>> breakdowns = new LinkedHashMap<>();
+        Collection<FacetDimension> dimensions = facets == null || facets.isEmpty()
+                ? List.of(FacetDimension.values())
+                : facets;
+        for (FacetDimension dimension : dimensions) {
+            RoaringBitmap base = normalized.containsKey(dimension)
+                    ? current.matchExcept(normalized, dimension)
+                    : matching;
+            breakdowns.put(dimension.name(), current.counts(dimension, base, perFacet).entrySet().stream()
+                    .map(entry -> new FacetCountDto(entry.getKey(), entry.getValue()))
+                    .toList());
+        }
+
+        return FacetsDto.builder()
+                .asOf(current.asOf())
+                .total(current.size())
+                .matching(matching.getCardinality())
+                .facets(breakdowns)
+                .build();
+    }
+
+    private static Map<FacetDimension, List<String>> normalize(Map<FacetDimension, List<String>> filters) {
+        Map<FacetDimension, List<String>> normalized = new EnumMap<>(FacetDimension.class);
+        filters.forEach((dimension, values) -> {
+            if (values != null && !values.isEmpty()) {
+                normalized.put(dimension, values.stream()
+                        .filter(Objects::nonNull)
+                        .map(dimension::normalize)
+                        .filter(Objects::nonNull)
+                        .toList());
+            }
+        });
+        return normalized;
+    }
+}
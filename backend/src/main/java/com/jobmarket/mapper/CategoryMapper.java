@@ -13,6 +13,11 @@ public class CategoryMapper {
                 .name(entity.getName())
                 .slug(entity.getSlug())
                 .active(entity.getActive())
+                .scrapeEveryDays(entity.getScrapeEveryDays())
+                .scrapeWindowStart(entity.getScrapeWindowStart())
+                .scrapeWindowEnd(entity.getScrapeWindowEnd())
+                .lastScrapeStartedAt(entity.getLastScrapeStartedAt())
+                .lastScrapeFinishedAt(entity.getLastScrapeFinishedAt())
                 .build();
     }
 }
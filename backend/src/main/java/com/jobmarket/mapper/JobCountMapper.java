@@ -2,6 +2,8 @@ package com.jobmarket.mapper;
 
 import com.jobmarket.dto.JobCountStatsDto;
 import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.series.SeriesKey;
+import com.jobmarket.series.SeriesPoint;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,4 +19,15 @@ public class JobCountMapper {
                 .metricType(entity.getMetricType().name())
                 .build();
     }
+
+    public JobCountStatsDto toDto(SeriesKey key, SeriesPoint point) {
+        return JobCountStatsDto.builder()
+                .id(point.recordId())
+                .category(key.category())
+                .count(point.count())
+                .fetchedAt(point.fetchedAt())
+                .location(key.location())
+                .metricType(key.metricType().name())
+                .build();
+    }
 }
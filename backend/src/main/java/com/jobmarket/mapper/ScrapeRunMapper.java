@@ -0,0 +1,98 @@
+package com.jobmarket.mapper;
+
+import com.jobmarket.dto.ScrapeJobDto;
+import com.jobmarket.dto.ScrapeRequestDto;
+import com.jobmarket.dto.ScrapeRunDto;
+import com.jobmarket.entity.ScrapeRequest;
+import com.jobmarket.entity.ScrapeRun;
+import com.jobmarket.scraper.progress.ScrapeProgress;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class ScrapeRunMapper {
+
+    public ScrapeRunDto toDto(ScrapeRun entity) {
+        Long durationMs = entity.getFinishedAt() != null
+                ? Duration.between(entity.getStartedAt(), entity.getFinishedAt()).toMillis()
+                : null;
+
+        return ScrapeRunDto.builder()
+                .id(entity.getId())
+                .category(entity.getCategory())
+                .status(entity.getStatus().name())
+                .startedAt(entity.getStartedAt())
+                .finishedAt(entity.getFinishedAt())
+                .durationMs(durationMs)
+                .totalCells(entity.getTotalCells())
+                .successCount(entity.getSuccessCount())
+                .failedCount(entity.getFailedCount())
+                .errorMessage(entity.getErrorMessage())
+                .build();
+    }
+
+    public ScrapeJobDto toJobDto(ScrapeProgress progress) {
+        Duration eta = progress.estimatedRemaining();
+        return ScrapeJobDto.builder()
+                .id(progress.getRunId())
+                .category(progress.getCategory())
+                .status(progress.getState().name())
+                .startedAt(progress.getStartedAt())
+                .finishedAt(progress.getFinishedAt())
+                .totalCells(progress.getTotalCells())
+                .completedCells(progress.getCompletedCells())
+                .failedCells(progress.getFailedCells())
+                .carriedCells(progress.getCarriedCells())
+                .percentComplete(percent(progress.getCompletedCells(), progress.getTotalCells()))
+                .etaSeconds(eta != null ? eta.toSeconds() : null)
+                .errorMessage(progress.getErrorMessage())
+                .build();
+    }
+
+    /**
+     * Job view of a run that is no longer tracked in memory, e.g. one started before a restart.
+     */
+    public ScrapeJobDto toJobDto(ScrapeRun entity) {
+        int succeeded = entity.getSuccessCount() != null ? entity.getSuccessCount() : 0;
+        int failed = entity.getFailedCount() != null ? entity.getFailedCount() : 0;
+        return ScrapeJobDto.builder()
+                .id(entity.getId())
+                .category(entity.getCategory())
+                .status(entity.getStatus().name())
+                .startedAt(entity.getStartedAt())
+                .finishedAt(entity.getFinishedAt())
+                .totalCells(entity.getTotalCells())
+                .completedCells(succeeded + failed)
+                .failedCells(failed)
+                .percentComplete(percent(succeeded + failed, entity.getTotalCells()))
+                .errorMessage(entity.getErrorMessage())
+                .build();
+    }
+
+    public ScrapeRequestDto toDto(ScrapeRequest entity) {
+        return ScrapeRequestDto.builder()
+                .id(entity.getId())
+                .requestIndex(entity.getRequestIndex())
+                .category(entity.getCategory())
+                .metricType(entity.getMetricType().name())
+                .city(entity.getCity())
+                .experienceLevel(entity.getExperienceLevel() != null ? entity.getExperienceLevel().name() : null)
+                .salaryMin(entity.getSalaryMin())
+                .salaryMax(entity.getSalaryMax())
+                .url(entity.getUrl())
+                .requestedAt(entity.getRequestedAt())
+                .httpStatus(entity.getHttpStatus())
+                .latencyMs(entity.getLatencyMs())
+                .responseBytes(entity.getResponseBytes())
+                .extractionStrategy(entity.getExtractionStrategy() != null ? entity.getExtractionStrategy().name() : null)
+                .extractedCount(entity.getExtractedCount())
+                .anomalyDecision(entity.getAnomalyDecision())
+                .finalSource(entity.getFinalSource())
+                .build();
+    }
+
+    private static double percent(int done, int total) {
+        return total > 0 ? Math.round(1000.0 * done / total) / 10.0 : 0;
+    }
+}
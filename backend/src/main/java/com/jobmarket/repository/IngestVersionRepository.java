@@ -0,0 +1,33 @@
+package com.jobmarket.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The single-row {@code ingest_counter}. {@link #next()} locks the row until the calling
+ * transaction ends, so concurrent writers commit their versions in increasing order and a
+ * reader never sees version n + 1 before version n.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IngestVersionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes the next version; must run inside the transaction that writes the records.
+     */
+    public long next() {
+        jdbcTemplate.update("UPDATE ingest_counter SET version = version + 1 WHERE id = 1");
+        return current();
+    }
+
+    /**
+     * Highest committed version; every record with a version up to it is visible.
+     */
+    public long current() {
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM ingest_counter WHERE id = 1", Long.class);
+        return version != null ? version : 0;
+    }
+}
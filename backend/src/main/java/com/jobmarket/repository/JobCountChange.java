@@ -0,0 +1,9 @@
+package com.jobmarket.repository;
+
+import java.time.LocalDate;
+
+/**
+ * One job count record as returned by a delta sync: just enough to update a cached series.
+ */
+public record JobCountChange(String seriesKey, LocalDate recordDate, int count, long ingestVersion) {
+}
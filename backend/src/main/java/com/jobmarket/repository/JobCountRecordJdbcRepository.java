@@ -0,0 +1,151 @@
+package com.jobmarket.repository;
+
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.series.SeriesKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inserts job count records at most once per series and day, so concurrent scrapers
+ * cannot write the same record twice.
+ * <p>
+ * On Postgres this is a single {@code INSERT ... ON CONFLICT DO NOTHING} against the unique
+ * {@code (series_key, record_date)} index. Other databases (H2 in development and tests)
+ * check first and then insert, relying on the index to reject a concurrent duplicate.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class JobCountRecordJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO job_count_record (category, count, fetched_at, " +
+            "location, metric_type, city, experience_level, salary_min, salary_max, record_date, series_key, " +
+            "source, ingest_version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SQL = INSERT_SQL +
+            " ON CONFLICT (series_key, record_date) DO NOTHING RETURNING id";
+    private static final String EXISTS_SQL =
+            "SELECT COUNT(*) FROM job_count_record WHERE series_key = ? AND record_date = ?";
+
+    private static final String CHANGES_SQL = "SELECT series_key, record_date, count, ingest_version " +
+            "FROM job_count_record WHERE ingest_version > ? AND ingest_version <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    /**
+     * Inserts the record unless its series already has a record for that date.
+     *
+     * @return the id of the inserted record, empty if it already existed
+     */
+    public Optional<Long> insertIfAbsent(JobCountRecord record) {
+        String seriesKey = SeriesKey.of(record).encode();
+        if (isPostgres()) {
+            List<Long> ids = jdbcTemplate.query(
+                    connection -> bind(connection.prepareStatement(UPSERT_SQL), record, seriesKey),
+                    (rs, rowNum) -> rs.getLong(1));
+            return ids.stream().findFirst();
+        }
+
+        Integer existing = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class,
+                seriesKey, Date.valueOf(record.getRecordDate()));
+        if (existing != null && existing > 0) {
+            return Optional.empty();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> bind(connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                record, seriesKey), keyHolder);
+        Number id = keyHolder.getKey();
+        return Optional.ofNullable(id).map(Number::longValue);
+    }
+
+    /**
+     * Records with an ingest version in {@code (after, upTo]}, oldest version first.
+     *
+     * @param category   only this category, or all when null
+     * @param seriesKeys only these encoded series keys, or all when empty
+     * @param limit      maximum number of rows, or unlimited when null
+     */
+    public List<JobCountChange> findChanges(long after, long upTo, String category,
+                                            Collection<String> seriesKeys, Integer limit) {
+        StringBuilder sql = new StringBuilder(CHANGES_SQL);
+        List<Object> args = new ArrayList<>(List.of(after, upTo));
+        if (category != null) {
+            sql.append(" AND category = ?");
+            args.add(category);
+        }
+        if (!seriesKeys.isEmpty()) {
+            sql.append(" AND series_key IN (")
+                    .append(String.join(", ", Collections.nCopies(seriesKeys.size(), "?")))
+                    .append(")");
+            args.addAll(seriesKeys);
+        }
+        sql.append(" ORDER BY ingest_version, id");
+        if (limit != null) {
+            sql.append(" LIMIT ?");
+            args.add(limit);
+        }
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new JobCountChange(
+                rs.getString("series_key"),
+                rs.getDate("record_date").toLocalDate(),
+                rs.getInt("count"),
+                rs.getLong("ingest_version")), args.toArray());
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+            log.debug("Job count records are inserted with {}", postgres ? "ON CONFLICT" : "check-then-insert");
+        }
+        return postgres;
+    }
+
+    private static PreparedStatement bind(PreparedStatement statement, JobCountRecord record, String seriesKey)
+            throws SQLException {
+        statement.setString(1, record.getCategory());
+        statement.setInt(2, record.getCount());
+        statement.setTimestamp(3, Timestamp.valueOf(record.getFetchedAt()));
+        statement.setString(4, record.getLocation());
+        statement.setString(5, record.getMetricType().name());
+        statement.setString(6, record.getCity());
+        statement.setString(7, record.getExperienceLevel() != null ? record.getExperienceLevel().name() : null);
+        setNullableInt(statement, 8, record.getSalaryMin());
+        setNullableInt(statement, 9, record.getSalaryMax());
+        statement.setDate(10, Date.valueOf(record.getRecordDate()));
+        statement.setString(11, seriesKey);
+        statement.setString(12, record.getSource());
+        if (record.getIngestVersion() != null) {
+            statement.setLong(13, record.getIngestVersion());
+        } else {
+            statement.setNull(13, Types.BIGINT);
+        }
+        return statement;
+    }
+
+    private static void setNullableInt(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value != null) {
+            statement.setInt(index, value);
+        } else {
+            statement.setNull(index, Types.INTEGER);
+        }
+    }
+}
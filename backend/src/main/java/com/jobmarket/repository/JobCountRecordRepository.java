@@ -3,6 +3,7 @@ package com.jobmarket.repository;
 import com.jobmarket.entity.ExperienceLevel;
 import com.jobmarket.entity.JobCountRecord;
 import com.jobmarket.entity.MetricType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,6 +27,8 @@ public interface JobCountRecordRepository extends JpaRepository<JobCountRecord,
 
     Optional<JobCountRecord> findTopByCategoryAndMetricTypeOrderByFetchedAtDesc(String category, MetricType metricType);
 
+    List<JobCountRecord> findByCategoryAndRecordDateGreaterThanEqualOrderByRecordDateAsc(String category, LocalDate since);
+
     @Query("SELECT j FROM JobCountRecord j WHERE j.category = :category " +
            "AND j.fetchedAt >= :startDate ORDER BY j.fetchedAt ASC")
     List<JobCountRecord> findByCategoryAndFetchedAtAfter(
@@ -65,6 +68,19 @@ public interface JobCountRecordRepository extends JpaRepository<JobCountRecord,
     @Query("SELECT DISTINCT j.category FROM JobCountRecord j")
     List<String> findDistinctCategories();
 
+    @Query("SELECT MAX(j.id) FROM JobCountRecord j")
+    Long findMaxId();
+
+    List<JobCountRecord> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT j FROM JobCountRecord j WHERE j.ingestVersion > :after " +
+           "AND j.ingestVersion <= :upTo AND j.id > :afterId ORDER BY j.id ASC")
+    List<JobCountRecord> findIngestedBetween(
+        @Param("after") long after,
+        @Param("upTo") long upTo,
+        @Param("afterId") long afterId,
+        Pageable pageable);
+
     @Query("SELECT j FROM JobCountRecord j WHERE j.category = :category " +
            "AND j.metricType = :metricType " +
            "AND j.location = :location " +
@@ -112,20 +128,4 @@ public interface JobCountRecordRepository extends JpaRepository<JobCountRecord,
         @Param("salaryMin") Integer salaryMin,
         @Param("salaryMax") Integer salaryMax,
         @Param("currentFetchedAt") LocalDateTime currentFetchedAt);
-
-    @Query("SELECT j FROM JobCountRecord j WHERE j.category = :category " +
-           "AND j.metricType = :metricType " +
-           "AND ((:city IS NULL AND j.city IS NULL) OR j.city = :city) " +
-           "AND ((:experienceLevel IS NULL AND j.experienceLevel IS NULL) OR j.experienceLevel = :experienceLevel) " +
-           "AND ((:salaryMin IS NULL AND j.salaryMin IS NULL) OR j.salaryMin = :salaryMin) " +
-           "AND ((:salaryMax IS NULL AND j.salaryMax IS NULL) OR j.salaryMax = :salaryMax) " +
-           "AND j.recordDate = :recordDate")
-    Optional<JobCountRecord> findExistingRecord(
-        @Param("category") String category,
-        @Param("metricType") MetricType metricType,
-        @Param("city") String city,
-        @Param("experienceLevel") ExperienceLevel experienceLevel,
-        @Param("salaryMin") Integer salaryMin,
-        @Param("salaryMax") Integer salaryMax,
-        @Param("recordDate") LocalDate recordDate);
 }
@@ -0,0 +1,116 @@
+package com.jobmarket.repository;
+
+import com.jobmarket.scraper.dto.JobOffer;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The attributes of one offer stored in {@code job_offer}. Category and city are normalized
+ * the same way as query parameters, so lookups compare plain values.
+ */
+public record JobOfferFact(
+        String offerId,
+        String category,
+        String city,
+        String workplaceType,
+        String experienceLevel,
+        Integer salaryFrom,
+        Integer salaryTo,
+        String currency,
+        List<String> skills
+) {
+
+    static final int MAX_SKILLS_LENGTH = 2000;
+
+    /**
+     * Takes the salary of the first employment type that has one.
+     *
+     * @return null when the offer has no id or category
+     */
+    public static JobOfferFact from(JobOffer offer) {
+        String category = normalizeCategory(offer.getMarkerIcon());
+        if (offer.getId() == null || category == null) {
+            return null;
+        }
+        JobOffer.Salary salary = firstSalary(offer.getEmploymentTypes());
+        return new JobOfferFact(
+                offer.getId(),
+                category,
+                normalizeCity(offer.getCity()),
+                lowerCase(offer.getWorkplaceType()),
+                lowerCase(offer.getExperienceLevel()),
+                salary != null ? salary.getFrom() : null,
+                salary != null ? salary.getTo() : null,
+                salary != null && salary.getCurrency() != null ? salary.getCurrency().toUpperCase(Locale.ROOT) : null,
+                normalizeSkills(offer.getSkills()));
+    }
+
+    /**
+     * The {@code skills} column: comma separated, cut off at whole skills to fit the column.
+     */
+    public String skillsColumn() {
+        if (skills.isEmpty()) {
+            return null;
+        }
+        StringBuilder column = new StringBuilder();
+        for (String skill : skills) {
+            if (column.length() + skill.length() + 1 > MAX_SKILLS_LENGTH) {
+                break;
+            }
+            if (!column.isEmpty()) {
+                column.append(',');
+            }
+            column.append(skill);
+        }
+        return column.toString();
+    }
+
+    public static List<String> parseSkills(String column) {
+        return column == null || column.isEmpty() ? List.of() : List.of(column.split(","));
+    }
+
+    public static String normalizeSkill(String skill) {
+        return skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT).replace(",", " ");
+    }
+
+    /**
+     * Lower case without dashes and underscores, matching how API offers are assigned to category slugs.
+     */
+    public static String normalizeCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return category.toLowerCase(Locale.ROOT).replace("-", "").replace("_", "").trim();
+    }
+
+    public static String normalizeCity(String city) {
+        return city == null || city.isBlank() ? null : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static List<String> normalizeSkills(List<String> skills) {
+        if (skills == null) {
+            return List.of();
+        }
+        return skills.stream()
+                .map(JobOfferFact::normalizeSkill)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static JobOffer.Salary firstSalary(List<JobOffer.EmploymentType> employmentTypes) {
+        if (employmentTypes == null) {
+            return null;
+        }
+        return employmentTypes.stream()
+                .map(JobOffer.EmploymentType::getSalary)
+                .filter(salary -> salary != null && (salary.getFrom() != null || salary.getTo() != null))
+                .findFirst()
+                .orElse(null);
+    }
+}
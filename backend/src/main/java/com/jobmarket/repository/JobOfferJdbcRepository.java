@@ -0,0 +1,145 @@
+package com.jobmarket.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Offer validity intervals in {@code job_offer}. An offer was listed on a date when
+ * {@code first_seen <= date} and its {@code last_seen} is either open (NULL) or not before
+ * the date, so any historical count is one aggregation over
+ * {@code idx_job_offer_validity}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobOfferJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO job_offer (offer_id, category, city, workplace_type, " +
+            "experience_level, salary_from, salary_to, currency, skills, first_seen) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CLOSE_SQL = "UPDATE job_offer SET last_seen = ? WHERE id = ?";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM job_offer " +
+            "WHERE category = ? AND first_seen <= ? AND (last_seen IS NULL OR last_seen >= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Row ids of the offers that are still listed, by offer id.
+     */
+    public Map<String, Long> findOpen() {
+        Map<String, Long> open = new HashMap<>();
+        jdbcTemplate.query("SELECT id, offer_id FROM job_offer WHERE last_seen IS NULL",
+                rs -> { open.put(rs.getString("offer_id"), rs.getLong("id")); });
+        return open;
+    }
+
+    /**
+     * Every offer that is still listed, in row order: the current snapshot.
+     */
+    public List<JobOfferFact> findOpenFacts() {
+        return jdbcTemplate.query("SELECT offer_id, category, city, workplace_type, experience_level, " +
+                        "salary_from, salary_to, currency, skills FROM job_offer WHERE last_seen IS NULL ORDER BY id",
+                (rs, rowNum) -> new JobOfferFact(
+                        rs.getString("offer_id"),
+                        rs.getString("category"),
+                        rs.getString("city"),
+                        rs.getString("workplace_type"),
+                        rs.getString("experience_level"),
+                        rs.getObject("salary_from", Integer.class),
+                        rs.getObject("salary_to", Integer.class),
+                        rs.getString("currency"),
+                        JobOfferFact.parseSkills(rs.getString("skills"))));
+    }
+
+    /**
+     * Opens an interval starting on {@code firstSeen} for each offer.
+     */
+    public void insertAll(Collection<JobOfferFact> offers, LocalDate firstSeen) {
+        Date date = Date.valueOf(firstSeen);
+        jdbcTemplate.batchUpdate(INSERT_SQL, offers, 500, (statement, offer) -> {
+            statement.setString(1, offer.offerId());
+            statement.setString(2, offer.category());
+            statement.setString(3, offer.city());
+            statement.setString(4, offer.workplaceType());
+            statement.setString(5, offer.experienceLevel());
+            statement.setObject(6, offer.salaryFrom(), Types.INTEGER);
+            statement.setObject(7, offer.salaryTo(), Types.INTEGER);
+            statement.setString(8, offer.currency());
+            statement.setString(9, offer.skillsColumn());
+            statement.setDate(10, date);
+        });
+    }
+
+    /**
+     * Closes the intervals with these row ids on {@code lastSeen}.
+     */
+    public void closeAll(Collection<Long> ids, LocalDate lastSeen) {
+        Date date = Date.valueOf(lastSeen);
+        jdbcTemplate.batchUpdate(CLOSE_SQL, ids, 500, (statement, id) -> {
+            statement.setDate(1, date);
+            statement.setLong(2, id);
+        });
+    }
+
+    /**
+     * Offers of a category listed on {@code date}. Filters are normalized like {@link JobOfferFact}
+     * and skipped when null; {@code salaryMin} compares the lower salary bound in the offer's currency.
+     */
+    public long countListedOn(LocalDate date, String category, String city, String experienceLevel,
+                              String workplaceType, Integer salaryMin) {
+        StringBuilder sql = new StringBuilder(COUNT_SQL);
+        List<Object> args = new ArrayList<>(List.of(category, Date.valueOf(date), Date.valueOf(date)));
+        if (city != null) {
+            sql.append(" AND city = ?");
+            args.add(city);
+        }
+        if (experienceLevel != null) {
+            sql.append(" AND experience_level = ?");
+            args.add(experienceLevel);
+        }
+        if (workplaceType != null) {
+            sql.append(" AND workplace_type = ?");
+            args.add(workplaceType);
+        }
+        if (salaryMin != null) {
+            sql.append(" AND salary_from >= ?");
+            args.add(salaryMin);
+        }
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    public Optional<LocalDate> lastSyncDate() {
+        Date date = jdbcTemplate.queryForObject("SELECT MAX(synced_on) FROM offer_sync", Date.class);
+        return Optional.ofNullable(date).map(Date::toLocalDate);
+    }
+
+    public boolean isSynced(LocalDate date) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM offer_sync WHERE synced_on = ?",
+                Integer.class, Date.valueOf(date));
+        return count != null && count > 0;
+    }
+
+    /**
+     * Records a completed sync. Fails with a duplicate key if another replica already synced
+     * that day, rolling back the calling transaction.
+     */
+    public void recordSync(OfferSync sync, LocalDateTime syncedAt) {
+        jdbcTemplate.update("INSERT INTO offer_sync (synced_on, offers, opened, closed, synced_at) " +
+                        "VALUES (?, ?, ?, ?, ?)",
+                Date.valueOf(sync.syncedOn()), sync.offers(), sync.opened(), sync.closed(),
+                Timestamp.valueOf(syncedAt));
+    }
+}
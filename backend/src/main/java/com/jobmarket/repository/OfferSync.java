@@ -0,0 +1,10 @@
+package com.jobmarket.repository;
+
+import java.time.LocalDate;
+
+/**
+ * One completed sync of the offer list: how many offers were listed, and how many
+ * intervals it opened and closed.
+ */
+public record OfferSync(LocalDate syncedOn, int offers, int opened, int closed) {
+}
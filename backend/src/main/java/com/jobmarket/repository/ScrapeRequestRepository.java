@@ -0,0 +1,13 @@
+package com.jobmarket.repository;
+
+import com.jobmarket.entity.ScrapeRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScrapeRequestRepository extends JpaRepository<ScrapeRequest, Long> {
+
+    Page<ScrapeRequest> findByRunId(Long runId, Pageable pageable);
+}
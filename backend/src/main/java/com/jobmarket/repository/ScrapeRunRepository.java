@@ -0,0 +1,13 @@
+package com.jobmarket.repository;
+
+import com.jobmarket.entity.ScrapeRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScrapeRunRepository extends JpaRepository<ScrapeRun, Long> {
+
+    Page<ScrapeRun> findByCategory(String category, Pageable pageable);
+}
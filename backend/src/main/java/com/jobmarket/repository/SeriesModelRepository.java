@@ -0,0 +1,43 @@
+package com.jobmarket.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores the encoded {@link com.jobmarket.scraper.anomaly.SeriesModel} of each series.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeriesModelRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<byte[]> find(String seriesKey) {
+        List<byte[]> states = jdbcTemplate.query("SELECT state FROM series_model WHERE series_key = ?",
+                (rs, rowNum) -> rs.getBytes(1), seriesKey);
+        return states.stream().findFirst();
+    }
+
+    public void save(String seriesKey, byte[] state) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update("UPDATE series_model SET state = ?, updated_at = ? WHERE series_key = ?",
+                state, now, seriesKey);
+        if (updated > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO series_model (series_key, state, updated_at) VALUES (?, ?, ?)",
+                    seriesKey, state, now);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update("UPDATE series_model SET state = ?, updated_at = ? WHERE series_key = ?",
+                    state, now, seriesKey);
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.jobmarket.repository;
 
 import com.jobmarket.entity.TrackedCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +20,14 @@ public interface TrackedCategoryRepository extends JpaRepository<TrackedCategory
     Optional<TrackedCategory> findBySlug(String slug);
 
     boolean existsBySlug(String slug);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TrackedCategory c SET c.lastScrapeStartedAt = :startedAt WHERE c.id = :id")
+    int markScrapeStarted(@Param("id") Long id, @Param("startedAt") LocalDateTime startedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TrackedCategory c SET c.lastScrapeFinishedAt = :finishedAt WHERE c.id = :id")
+    int markScrapeFinished(@Param("id") Long id, @Param("finishedAt") LocalDateTime finishedAt);
 }
@@ -0,0 +1,125 @@
+package com.jobmarket.repository.monitoring;
+
+import com.jobmarket.config.QueryMonitorConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs the plan of a sample of slow statements.
+ * <p>
+ * Plans are taken with {@code EXPLAIN (GENERIC_PLAN)} on a background thread, so the request
+ * that was already slow does not wait for them. A generic plan needs no parameter values, which
+ * is what makes it possible to explain the captured SQL at all; it requires Postgres 16, and
+ * on other databases nothing is explained.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryExplainer {
+
+    private static final int MAX_TRACKED_STATEMENTS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QueryMonitorConfig config;
+
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private volatile Boolean supported;
+    private ThreadPoolExecutor worker;
+
+    @PostConstruct
+    void start() {
+        worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), runnable -> {
+            Thread thread = new Thread(runnable, "query-explainer");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Explains the statements of one slow call if the call is sampled and none of them was
+     * explained recently.
+     */
+    void maybeExplain(String call, List<String> statements) {
+        if (statements.isEmpty() || ThreadLocalRandom.current().nextDouble() >= config.getExplainSampleRate()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (lastExplained.size() > MAX_TRACKED_STATEMENTS) {
+            lastExplained.clear();
+        }
+        for (String sql : statements) {
+            Long previous = lastExplained.get(sql);
+            if (previous != null && now - previous < config.getExplainCooldownMs()) {
+                continue;
+            }
+            lastExplained.put(sql, now);
+            worker.execute(() -> explain(call, sql));
+        }
+    }
+
+    private void explain(String call, String sql) {
+        if (!isSupported()) {
+            return;
+        }
+        try {
+            List<String> plan = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class);
+            log.warn("Plan of slow query {}:\n{}", call, String.join("\n", plan));
+        } catch (RuntimeException e) {
+            log.debug("Could not explain {}: {}", call, e.getMessage());
+        }
+    }
+
+    private boolean isSupported() {
+        if (supported == null) {
+            supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+                DatabaseMetaData metaData = connection.getMetaData();
+                return "PostgreSQL".equalsIgnoreCase(metaData.getDatabaseProductName())
+                        && metaData.getDatabaseMajorVersion() >= 16;
+            });
+            if (!supported) {
+                log.info("Slow query plans need Postgres 16 or newer; only timings and SQL are logged");
+            }
+        }
+        return supported;
+    }
+
+    /**
+     * Turns JDBC {@code ?} placeholders into the {@code $1, $2, ...} a generic plan expects.
+     */
+    static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+}
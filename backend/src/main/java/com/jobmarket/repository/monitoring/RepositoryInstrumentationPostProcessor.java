@@ -0,0 +1,52 @@
+package com.jobmarket.repository.monitoring;
+
+import com.jobmarket.config.QueryMonitorConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds a {@link RepositoryTimingInterceptor} to every Spring Data repository of the application
+ * ({@code JobCountRecordRepository}, {@code TrackedCategoryRepository}, {@code TrackedCityRepository}
+ * and the rest) before the repository proxy is created.
+ * <p>
+ * Collaborators are looked up lazily: a post processor is created before most other beans.
+ */
+@Component
+public class RepositoryInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final ObjectProvider<QueryMonitorConfig> config;
+    private final ObjectProvider<SqlCapture> sqlCapture;
+    private final ObjectProvider<QueryExplainer> explainer;
+
+    public RepositoryInstrumentationPostProcessor(ObjectProvider<MeterRegistry> registry,
+                                                  ObjectProvider<QueryMonitorConfig> config,
+                                                  ObjectProvider<SqlCapture> sqlCapture,
+                                                  ObjectProvider<QueryExplainer> explainer) {
+        this.registry = registry;
+        this.config = config;
+        this.sqlCapture = sqlCapture;
+        this.explainer = explainer;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean
+                && factoryBean.getObjectType().getPackageName().startsWith("com.jobmarket")) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> {
+                QueryMonitorConfig monitorConfig = config.getObject();
+                if (!monitorConfig.isEnabled()) {
+                    return;
+                }
+                factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                        proxyFactory.addAdvice(new RepositoryTimingInterceptor(
+                                repositoryInformation.getRepositoryInterface().getSimpleName(),
+                                registry.getObject(), monitorConfig, sqlCapture.getObject(), explainer.getObject())));
+            });
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,124 @@
+package com.jobmarket.repository.monitoring;
+
+import com.jobmarket.config.QueryMonitorConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.query.Param;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call of one Spring Data repository as {@code repository.query}, tagged with the
+ * repository, the method, a bucket of the number of rows returned and the outcome. Calls slower
+ * than {@code query-monitor.slow-threshold-ms} are logged with their parameters and SQL.
+ */
+@RequiredArgsConstructor
+@Slf4j
+class RepositoryTimingInterceptor implements MethodInterceptor {
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final String repository;
+    private final MeterRegistry registry;
+    private final QueryMonitorConfig config;
+    private final SqlCapture sqlCapture;
+    private final QueryExplainer explainer;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        boolean capturing = sqlCapture.start();
+        long start = System.nanoTime();
+        Object result = null;
+        String outcome = "success";
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            List<String> statements = capturing ? sqlCapture.stop() : List.of();
+            String rows = "success".equals(outcome) ? rowsBucket(result) : "none";
+            Timer.builder("repository.query")
+                    .description("Latency of Spring Data repository calls")
+                    .tag("repository", repository)
+                    .tag("method", method.getName())
+                    .tag("rows", rows)
+                    .tag("outcome", outcome)
+                    .register(registry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            if (capturing && elapsed >= TimeUnit.MILLISECONDS.toNanos(config.getSlowThresholdMs())) {
+                String call = repository + "." + method.getName();
+                log.warn("Slow query {} took {} ms ({} rows) with {}: {}", call,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), rows,
+                        describeParameters(method, invocation.getArguments()), statements);
+                explainer.maybeExplain(call, statements);
+            }
+        }
+    }
+
+    /**
+     * Coarse row count of a repository result, kept to a handful of values so the tag does not
+     * blow up the number of time series.
+     */
+    static String rowsBucket(Object result) {
+        long rows;
+        if (result == null) {
+            rows = 0;
+        } else if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            rows = slice.getNumberOfElements();
+        } else if (result instanceof Optional<?> optional) {
+            rows = optional.isPresent() ? 1 : 0;
+        } else if (result instanceof Number || result instanceof Boolean) {
+            return "scalar";
+        } else {
+            rows = 1;
+        }
+        if (rows <= 1) {
+            return String.valueOf(rows);
+        }
+        if (rows <= 10) {
+            return "2-10";
+        }
+        if (rows <= 100) {
+            return "11-100";
+        }
+        if (rows <= 1000) {
+            return "101-1000";
+        }
+        return "1000+";
+    }
+
+    static String describeParameters(Method method, Object[] arguments) {
+        Parameter[] parameters = method.getParameters();
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < arguments.length; i++) {
+            Param param = parameters[i].getAnnotation(Param.class);
+            String name = param != null ? param.value() : parameters[i].getName();
+            String value = String.valueOf(arguments[i]);
+            if (value.length() > MAX_PARAMETER_LENGTH) {
+                value = value.substring(0, MAX_PARAMETER_LENGTH) + "...";
+            }
+            joiner.add(name + "=" + value);
+        }
+        return joiner.toString();
+    }
+}
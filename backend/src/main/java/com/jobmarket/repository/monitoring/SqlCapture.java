@@ -0,0 +1,58 @@
+package com.jobmarket.repository.monitoring;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers the SQL Hibernate prepares while a repository call is being timed, so a slow call
+ * can be logged with the statements it actually ran.
+ */
+@Component
+public class SqlCapture implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final int MAX_STATEMENTS = 10;
+
+    private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = captured.get();
+        if (statements != null && statements.size() < MAX_STATEMENTS) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Starts capturing on this thread.
+     *
+     * @return false when a capture is already running, e.g. for a repository calling another
+     */
+    boolean start() {
+        if (captured.get() != null) {
+            return false;
+        }
+        captured.set(new ArrayList<>());
+        return true;
+    }
+
+    /**
+     * Stops capturing on this thread and returns the statements seen since {@link #start()}.
+     */
+    List<String> stop() {
+        List<String> statements = captured.get();
+        captured.remove();
+        return statements != null ? statements : List.of();
+    }
+}
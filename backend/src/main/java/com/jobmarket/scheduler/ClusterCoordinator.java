@@ -0,0 +1,214 @@
+package com.jobmarket.scheduler;
+
+import com.jobmarket.config.SchedulerConfig;
+import com.jobmarket.scraper.CategoryClaim;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Coordinates scheduled scraping between backend replicas through the database.
+ * <p>
+ * Every replica heartbeats a row in {@code scheduler_node}; replicas with a recent heartbeat
+ * are live. Active categories are sharded among live replicas by rendezvous hashing, so each
+ * replica only starts its own share and a dead replica's share moves to the others as soon as
+ * its heartbeat is older than {@code leaseTtlMs}. Before scraping, a replica also takes the
+ * category's row in {@code scrape_lease}; the lease is renewed with the heartbeat and only
+ * expires if its owner stops, so two replicas that briefly disagree about membership still
+ * cannot scrape the same category at once.
+ * <p>
+ * Manual scrapes take the same leases under a separate owner, {@code <nodeId>/manual}, so they
+ * also exclude the scheduler of their own replica.
+ * <p>
+ * Timestamps come from the replicas' clocks, which must agree to well within the lease TTL.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.job-count.enabled", havingValue = "true")
+@Slf4j
+public class ClusterCoordinator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerConfig config;
+    private final String nodeId;
+    private final String manualOwner;
+
+    public ClusterCoordinator(JdbcTemplate jdbcTemplate, SchedulerConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.nodeId = config.getNodeId() != null && !config.getNodeId().isBlank()
+                ? config.getNodeId()
+                : ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.manualOwner = nodeId + "/manual";
+        log.info("Scheduler node id: {}", nodeId);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.job-count.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        try {
+            heartbeat(LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.warn("Scheduler heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Records that this replica is alive and extends every lease it holds.
+     */
+    void heartbeat(LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int updated = jdbcTemplate.update("UPDATE scheduler_node SET heartbeat_at = ? WHERE node_id = ?",
+                timestamp, nodeId);
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO scheduler_node (node_id, started_at, heartbeat_at) VALUES (?, ?, ?)",
+                        nodeId, timestamp, timestamp);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update("UPDATE scheduler_node SET heartbeat_at = ? WHERE node_id = ?", timestamp, nodeId);
+            }
+        }
+        jdbcTemplate.update("UPDATE scrape_lease SET expires_at = ? WHERE owner IN (?, ?)",
+                expiry(now), nodeId, manualOwner);
+    }
+
+    /**
+     * Returns the ids of replicas whose heartbeat has not expired, always including this one.
+     */
+    public List<String> liveNodes(LocalDateTime now) {
+        List<String> nodes = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT node_id FROM scheduler_node WHERE heartbeat_at > ? ORDER BY node_id",
+                String.class, Timestamp.valueOf(now.minusNanos(config.getLeaseTtlMs() * 1_000_000))));
+        if (!nodes.contains(nodeId)) {
+            nodes.add(nodeId);
+        }
+        return nodes;
+    }
+
+    /**
+     * Whether this replica is responsible for {@code category} among {@code liveNodes}.
+     */
+    public boolean isAssignedToThisNode(String category, List<String> liveNodes) {
+        return nodeId.equals(assignedNode(category, liveNodes));
+    }
+
+    /**
+     * Rendezvous (highest random weight) hashing: the node with the highest weight for the
+     * category wins, so adding or removing a node only moves that node's categories.
+     */
+    static String assignedNode(String category, List<String> nodes) {
+        String winner = null;
+        long best = Long.MIN_VALUE;
+        for (String node : nodes) {
+            long weight = mix(node.hashCode() * 31L + category.hashCode());
+            if (winner == null || weight > best || (weight == best && node.compareTo(winner) < 0)) {
+                winner = node;
+                best = weight;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Takes the category's lease if it is free, expired or already held by this replica's scheduler.
+     */
+    public boolean tryAcquire(String category, LocalDateTime now) {
+        return tryAcquire(category, nodeId, now);
+    }
+
+    public void release(String category) {
+        release(category, nodeId);
+    }
+
+    /**
+     * Claims categories for manual scrapes, which must not overlap a scheduled scrape of the
+     * same category on any replica, this one included.
+     */
+    public CategoryClaim manualClaim() {
+        return new CategoryClaim() {
+            @Override
+            public boolean tryClaim(String category) {
+                return tryAcquireManual(category, LocalDateTime.now());
+            }
+
+            @Override
+            public void release(String category) {
+                try {
+                    releaseManual(category);
+                } catch (DataAccessException e) {
+                    log.warn("Could not release the manual lease of '{}', it expires on its own: {}",
+                            category, e.getMessage());
+                }
+            }
+        };
+    }
+
+    boolean tryAcquireManual(String category, LocalDateTime now) {
+        return tryAcquire(category, manualOwner, now);
+    }
+
+    void releaseManual(String category) {
+        release(category, manualOwner);
+    }
+
+    private boolean tryAcquire(String category, String owner, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int updated = jdbcTemplate.update("UPDATE scrape_lease SET owner = ?, acquired_at = ?, expires_at = ? " +
+                        "WHERE category = ? AND (owner = ? OR expires_at < ?)",
+                owner, timestamp, expiry(now), category, owner, timestamp);
+        if (updated > 0) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO scrape_lease (category, owner, acquired_at, expires_at) VALUES (?, ?, ?, ?)",
+                    category, owner, timestamp, expiry(now));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void release(String category, String owner) {
+        jdbcTemplate.update("DELETE FROM scrape_lease WHERE category = ? AND owner = ?", category, owner);
+    }
+
+    /**
+     * Leaves the cluster on shutdown, so the other replicas take over without waiting for expiry.
+     */
+    @PreDestroy
+    void leave() {
+        try {
+            jdbcTemplate.update("DELETE FROM scrape_lease WHERE owner IN (?, ?)", nodeId, manualOwner);
+            jdbcTemplate.update("DELETE FROM scheduler_node WHERE node_id = ?", nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Could not deregister scheduler node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private Timestamp expiry(LocalDateTime now) {
+        return Timestamp.valueOf(now.plusNanos(config.getLeaseTtlMs() * 1_000_000));
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
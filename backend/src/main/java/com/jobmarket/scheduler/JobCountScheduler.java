@@ -1,18 +1,43 @@
 package com.jobmarket.scheduler;
 
+import com.jobmarket.config.SchedulerConfig;
+import com.jobmarket.datasource.Workload;
+import com.jobmarket.entity.TrackedCategory;
+import com.jobmarket.repository.TrackedCategoryRepository;
 import com.jobmarket.scraper.JustJoinItScraperService;
-import com.jobmarket.scraper.dto.JobCountResult;
+import com.jobmarket.scraper.dto.ScrapeSummary;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
-import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Starts scrape runs from the schedule stored in {@code tracked_category}.
+ * <p>
+ * A lightweight tick checks which active categories are due: inside their daily time window
+ * and either not scraped for {@code scrapeEveryDays} or left unfinished by an interrupted run.
+ * Of those, this replica only takes the ones the {@link ClusterCoordinator} assigns to it and
+ * whose lease it can acquire. A taken category is marked as started, then submitted to a
+ * bounded worker pool after a random jitter, without blocking the tick. The run spreads its
+ * requests evenly over what is left of the window. A category that is still waiting or
+ * running is never submitted again.
+ */
 @Component
 @ConditionalOnProperty(name = "scheduler.job-count.enabled", havingValue = "true")
 @RequiredArgsConstructor
@@ -20,52 +45,111 @@ import java.util.Random;
 public class JobCountScheduler {
 
     private final JustJoinItScraperService scraperService;
-    private final Random random = new Random();
+    private final TrackedCategoryRepository categoryRepository;
+    private final SchedulerConfig config;
+    private final ClusterCoordinator coordinator;
 
-    @Value("${scheduler.job-count.jitter-minutes:30}")
-    private int jitterMinutes;
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService workers;
 
-    @Scheduled(cron = "${scheduler.job-count.java.cron:0 0 6 * * *}")
-    public void scrapeJavaCategory() {
-        scrapeCategory("java");
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newScheduledThreadPool(config.getWorkerThreads(), runnable -> {
+            Thread thread = Workload.INGEST.newThread(runnable, "scrape-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
-    @Scheduled(cron = "${scheduler.job-count.data.cron:0 0 14 * * *}")
-    public void scrapeDataCategory() {
-        scrapeCategory("data");
+    @PreDestroy
+    void stop() {
+        workers.shutdownNow();
     }
 
-    private void scrapeCategory(String categorySlug) {
-        try {
-            applyRandomJitter();
+    @Scheduled(fixedDelayString = "${scheduler.job-count.tick-interval-ms:60000}")
+    public void tick() {
+        tick(LocalDateTime.now());
+    }
 
-            log.info("=== Starting scheduled job count fetch for '{}' at {} ===",
-                    categorySlug, LocalDateTime.now());
+    void tick(LocalDateTime now) {
+        List<TrackedCategory> categories = categoryRepository.findByActiveTrue();
+        List<String> liveNodes = coordinator.liveNodes(now);
+        for (TrackedCategory category : categories) {
+            String slug = category.getSlug();
+            if (!isDue(category, now) || !coordinator.isAssignedToThisNode(slug, liveNodes)) {
+                continue;
+            }
+            if (!inProgress.add(slug)) {
+                log.debug("Category '{}' is due but its previous run has not finished", slug);
+                continue;
+            }
+            try {
+                if (coordinator.tryAcquire(slug, now)) {
+                    dispatch(category, now);
+                } else {
+                    inProgress.remove(slug);
+                    log.debug("Category '{}' is leased by another node or a manual scrape", slug);
+                }
+            } catch (RuntimeException e) {
+                inProgress.remove(slug);
+                coordinator.release(slug);
+                log.error("Could not schedule scrape for '{}': {}", slug, e.getMessage(), e);
+            }
+        }
+    }
 
-            List<JobCountResult> results = scraperService.fetchAndSaveJobCountsForCategory(categorySlug);
+    static boolean isDue(TrackedCategory category, LocalDateTime now) {
+        LocalTime time = now.toLocalTime();
+        if (time.isBefore(category.getScrapeWindowStart()) || !time.isBefore(category.getScrapeWindowEnd())) {
+            return false;
+        }
+        LocalDateTime lastStarted = category.getLastScrapeStartedAt();
+        if (lastStarted == null) {
+            return true;
+        }
+        LocalDateTime lastFinished = category.getLastScrapeFinishedAt();
+        if (lastFinished == null || lastFinished.isBefore(lastStarted)) {
+            // Started but never finished: the run was interrupted, or is still running under a lease
+            return true;
+        }
+        LocalDate nextDue = lastStarted.toLocalDate().plusDays(category.getScrapeEveryDays());
+        return !now.toLocalDate().isBefore(nextDue);
+    }
 
-            long successCount = results.stream().filter(JobCountResult::isSuccess).count();
-            long failCount = results.size() - successCount;
+    private void dispatch(TrackedCategory category, LocalDateTime now) {
+        String slug = category.getSlug();
+        categoryRepository.markScrapeStarted(category.getId(), now);
 
-            log.info("=== Scheduled job count fetch for '{}' completed: {} success, {} failed ===",
-                    categorySlug, successCount, failCount);
-        } catch (Exception e) {
-            log.error("=== Scheduled job count fetch for '{}' failed: {} ===",
-                    categorySlug, e.getMessage(), e);
-        }
+        LocalDateTime windowEnd = now.toLocalDate().atTime(category.getScrapeWindowEnd());
+        long remainingMs = Duration.between(now, windowEnd).toMillis();
+        long maxJitterMs = Math.min(TimeUnit.MINUTES.toMillis(config.getJitterMinutes()), remainingMs / 4);
+        long jitterMs = maxJitterMs > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMs) : 0;
+        Duration spreadOver = Duration.ofMillis(remainingMs - jitterMs);
+
+        log.info("Scheduling scrape for '{}' in {} s, spread over {}", slug, jitterMs / 1000, spreadOver);
+        workers.schedule(() -> run(category.getId(), slug, spreadOver), jitterMs, TimeUnit.MILLISECONDS);
     }
 
-    private void applyRandomJitter() {
-        if (jitterMinutes <= 0) {
-            return;
-        }
-        int jitterMs = random.nextInt(jitterMinutes * 60 * 1000);
-        log.info("Applying {} minute jitter before scrape", jitterMs / 60000);
+    private void run(Long categoryId, String slug, Duration spreadOver) {
         try {
-            Thread.sleep(jitterMs);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Jitter sleep interrupted");
+            log.info("=== Starting scheduled job count fetch for '{}' at {} ===", slug, LocalDateTime.now());
+
+            ScrapeSummary summary = scraperService.fetchAndSaveJobCountsForCategory(slug, spreadOver);
+
+            log.info("=== Scheduled job count fetch for '{}' completed: {} success, {} failed ===",
+                    slug, summary.succeeded(), summary.failed());
+        } catch (Exception e) {
+            log.error("=== Scheduled job count fetch for '{}' failed: {} ===", slug, e.getMessage(), e);
+        } finally {
+            try {
+                categoryRepository.markScrapeFinished(categoryId, LocalDateTime.now());
+                coordinator.release(slug);
+            } catch (RuntimeException e) {
+                log.warn("Could not release '{}' after its run: {}", slug, e.getMessage());
+            } finally {
+                inProgress.remove(slug);
+            }
         }
     }
 }
@@ -0,0 +1,96 @@
+package com.jobmarket.scheduler;
+
+import com.jobmarket.datasource.Workload;
+import com.jobmarket.repository.JobOfferJdbcRepository;
+import com.jobmarket.scraper.client.JustJoinItApiClient;
+import com.jobmarket.scraper.dto.JobOffer;
+import com.jobmarket.service.OfferStoreService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Syncs the full offer list into the offer store once a day.
+ * <p>
+ * Every replica checks hourly whether today is synced yet; the first one to take the
+ * {@value #LEASE} lease fetches the list and applies it on an ingest thread. The
+ * {@code offer_sync} row written in the same transaction keeps a day from being applied twice
+ * even if the lease expired during a slow fetch.
+ */
+@Component
+@ConditionalOnExpression("${scheduler.job-count.enabled:false} and ${offer-store.enabled:true}")
+@RequiredArgsConstructor
+@Slf4j
+public class OfferSyncScheduler {
+
+    static final String LEASE = "offer-sync";
+
+    private final JustJoinItApiClient apiClient;
+    private final OfferStoreService offerStoreService;
+    private final JobOfferJdbcRepository jobOfferRepository;
+    private final ClusterCoordinator coordinator;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private ExecutorService worker;
+
+    @PostConstruct
+    void start() {
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = Workload.INGEST.newThread(runnable, "offer-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${offer-store.tick-interval-ms:3600000}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobOfferRepository.isSynced(now.toLocalDate()) || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!coordinator.tryAcquire(LEASE, now)) {
+                running.set(false);
+                log.debug("Offer sync is leased by another node");
+                return;
+            }
+            worker.execute(() -> run(now));
+        } catch (RuntimeException e) {
+            running.set(false);
+            coordinator.release(LEASE);
+            log.error("Could not start offer sync: {}", e.getMessage(), e);
+        }
+    }
+
+    private void run(LocalDateTime now) {
+        try {
+            Optional<List<JobOffer>> offers = apiClient.fetchAllOffers();
+            if (offers.isEmpty()) {
+                log.warn("Offer sync for {} skipped: the offer list could not be fetched", now.toLocalDate());
+                return;
+            }
+            offerStoreService.sync(offers.get(), now.toLocalDate());
+        } catch (RuntimeException e) {
+            log.error("Offer sync for {} failed: {}", now.toLocalDate(), e.getMessage(), e);
+        } finally {
+            coordinator.release(LEASE);
+            running.set(false);
+        }
+    }
+}
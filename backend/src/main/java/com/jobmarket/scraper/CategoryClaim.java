@@ -0,0 +1,28 @@
+package com.jobmarket.scraper;
+
+/**
+ * Keeps other scrapes off a category while a run is scraping it.
+ */
+public interface CategoryClaim {
+
+    /**
+     * Claims nothing, for callers that do not share categories with anyone.
+     */
+    CategoryClaim NONE = new CategoryClaim() {
+        @Override
+        public boolean tryClaim(String category) {
+            return true;
+        }
+
+        @Override
+        public void release(String category) {
+        }
+    };
+
+    /**
+     * Claims {@code category}, returning false if another scrape holds it.
+     */
+    boolean tryClaim(String category);
+
+    void release(String category);
+}
@@ -2,12 +2,12 @@ package com.jobmarket.scraper;
 
 import com.jobmarket.config.ScraperConfig;
 import com.jobmarket.entity.ExperienceLevel;
-import com.jobmarket.entity.JobCountRecord;
 import com.jobmarket.entity.MetricType;
 import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.entity.ScrapeRun;
+import com.jobmarket.entity.ScrapeRunStatus;
 import com.jobmarket.entity.TrackedCategory;
 import com.jobmarket.entity.TrackedCity;
-import com.jobmarket.repository.JobCountRecordRepository;
 import com.jobmarket.repository.TrackedCategoryRepository;
 import com.jobmarket.repository.TrackedCityRepository;
 import com.jobmarket.scraper.anomaly.AnomalyCheckResult;
@@ -16,19 +16,35 @@ import com.jobmarket.scraper.client.JustJoinItApiClient;
 import com.jobmarket.scraper.client.JustJoinItHtmlParser;
 import com.jobmarket.scraper.dto.JobCountResult;
 import com.jobmarket.scraper.dto.JobOffer;
+import com.jobmarket.scraper.dto.PageFetch;
+import com.jobmarket.scraper.dto.ScrapeSummary;
+import com.jobmarket.scraper.event.ScrapeCellCompletedEvent;
+import com.jobmarket.scraper.event.ScrapeRunStateEvent;
 import com.jobmarket.scraper.exception.ScraperException;
+import com.jobmarket.scraper.history.ScrapeHistoryService;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import com.jobmarket.scraper.pacing.AdaptivePacer;
+import com.jobmarket.scraper.pacing.RequestTimeline;
+import com.jobmarket.scraper.persistence.JobCountResultWriter;
+import com.jobmarket.scraper.persistence.ResultBatcher;
+import com.jobmarket.scraper.progress.ScrapeProgress;
+import com.jobmarket.scraper.retry.DeferredCell;
+import com.jobmarket.scraper.retry.DeferredRetryQueue;
+import com.jobmarket.scraper.sampling.CellPrioritizer;
+import com.jobmarket.scraper.sampling.CellSampler;
+import com.jobmarket.scraper.sampling.SamplingPlan;
+import com.jobmarket.scraper.sampling.ScrapeCell;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
@@ -39,15 +55,66 @@ public class JustJoinItScraperService {
     private final JustJoinItHtmlParser htmlParser;
     private final TrackedCategoryRepository categoryRepository;
     private final TrackedCityRepository cityRepository;
-    private final JobCountRecordRepository jobCountRecordRepository;
-    private final ScraperConfig config;
     private final AnomalyDetectionService anomalyDetectionService;
-
-    private final Random random = new Random();
-    private final AtomicInteger requestCount = new AtomicInteger(0);
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScraperMetrics metrics;
+    private final ScrapeHistoryService scrapeHistoryService;
+    private final AdaptivePacer pacer;
+    private final CellSampler sampler;
+    private final CellPrioritizer prioritizer;
+    private final ScraperConfig config;
+    private final JobCountResultWriter resultWriter;
 
     public List<JobCountResult> fetchAllJobCounts() {
-        List<TrackedCategory> categories = categoryRepository.findByActiveTrue();
+        return fetchAllJobCounts(new ScrapeProgress(null));
+    }
+
+    /**
+     * Scrapes every active category, reporting each finished cell to {@code progress}.
+     */
+    public List<JobCountResult> fetchAllJobCounts(ScrapeProgress progress) {
+        List<JobCountResult> results = new ArrayList<>();
+        scrapeAllCategories(progress, ResultBatcher.collecting(results), CategoryClaim.NONE);
+        return results;
+    }
+
+    public ScrapeSummary fetchAndSaveAllJobCounts() {
+        return fetchAndSaveAllJobCounts(new ScrapeProgress(null));
+    }
+
+    /**
+     * Scrapes every active category, saving results in micro-batches while the run goes on.
+     */
+    public ScrapeSummary fetchAndSaveAllJobCounts(ScrapeProgress progress) {
+        return fetchAndSaveAllJobCounts(progress, CategoryClaim.NONE);
+    }
+
+    /**
+     * Scrapes every active category that {@code claim} grants, skipping the ones another scrape
+     * holds; the claimed categories are released when the run ends.
+     */
+    public ScrapeSummary fetchAndSaveAllJobCounts(ScrapeProgress progress, CategoryClaim claim) {
+        return scrapeAllCategories(progress, savingBatcher(), claim);
+    }
+
+    private ScrapeSummary scrapeAllCategories(ScrapeProgress progress, ResultBatcher results, CategoryClaim claim) {
+        List<TrackedCategory> categories = new ArrayList<>();
+        try {
+            for (TrackedCategory category : categoryRepository.findByActiveTrue()) {
+                if (claim.tryClaim(category.getSlug())) {
+                    categories.add(category);
+                } else {
+                    log.warn("Skipping category '{}', another scrape is running it", category.getSlug());
+                }
+            }
+            return scrapeCategories(categories, progress, results);
+        } finally {
+            categories.forEach(category -> claim.release(category.getSlug()));
+        }
+    }
+
+    private ScrapeSummary scrapeCategories(List<TrackedCategory> categories, ScrapeProgress progress,
+                                           ResultBatcher results) {
         List<TrackedCity> cities = cityRepository.findByActiveTrue();
 
         // Experience levels: null (All Levels) + JUNIOR, MID, SENIOR
@@ -71,25 +138,74 @@ public class JustJoinItScraperService {
                 categories.size(), MetricType.values().length, cityOptions.size(),
                 experienceLevels.size(), salaryRanges.size(), totalRequests);
 
-        // Reset request counter for this batch
-        requestCount.set(0);
-
-        List<JobCountResult> results = new ArrayList<>();
+        List<ScrapeCell> cells = ScrapeCell.combinations(cityOptions, experienceLevels, salaryRanges);
+        RunState runState = startRun(null, totalRequests, results, progress);
 
-        for (TrackedCategory category : categories) {
-            scrapeCategory(category, cityOptions, experienceLevels, salaryRanges, results);
+        try {
+            for (TrackedCategory category : categories) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("Scraping interrupted, skipping the remaining categories");
+                    break;
+                }
+                SamplingPlan plan = sampler.plan(category.getSlug(), cells, LocalDate.now());
+                scrapeCategory(runState, category, cells, plan, RequestTimeline.unpaced());
+            }
+            results.flush();
+        } catch (RuntimeException e) {
+            failRun(runState, e);
+            throw e;
         }
 
-        return results;
+        return completeRun(runState);
     }
 
     public List<JobCountResult> fetchJobCountsForCategory(String categorySlug) {
+        return fetchJobCountsForCategory(categorySlug, null);
+    }
+
+    public List<JobCountResult> fetchJobCountsForCategory(String categorySlug, Duration spreadOver) {
+        return fetchJobCountsForCategory(categorySlug, spreadOver, new ScrapeProgress(categorySlug));
+    }
+
+    /**
+     * Scrapes one category, spreading its cells evenly over {@code spreadOver} when given.
+     * Without it cells are only paced by the {@link AdaptivePacer}. Each finished cell is
+     * reported to {@code progress}.
+     */
+    public List<JobCountResult> fetchJobCountsForCategory(String categorySlug, Duration spreadOver,
+                                                          ScrapeProgress progress) {
+        List<JobCountResult> results = new ArrayList<>();
+        scrapeOneCategory(categorySlug, spreadOver, progress, ResultBatcher.collecting(results));
+        return results;
+    }
+
+    public ScrapeSummary fetchAndSaveJobCountsForCategory(String categorySlug) {
+        return fetchAndSaveJobCountsForCategory(categorySlug, null);
+    }
+
+    public ScrapeSummary fetchAndSaveJobCountsForCategory(String categorySlug, Duration spreadOver) {
+        return fetchAndSaveJobCountsForCategory(categorySlug, spreadOver, new ScrapeProgress(categorySlug));
+    }
+
+    /**
+     * Like {@link #fetchJobCountsForCategory(String, Duration, ScrapeProgress)}, but saves results
+     * in micro-batches while the run goes on, each in its own short transaction, instead of
+     * returning them.
+     */
+    public ScrapeSummary fetchAndSaveJobCountsForCategory(String categorySlug, Duration spreadOver,
+                                                          ScrapeProgress progress) {
+        return scrapeOneCategory(categorySlug, spreadOver, progress, savingBatcher());
+    }
+
+    private ScrapeSummary scrapeOneCategory(String categorySlug, Duration spreadOver, ScrapeProgress progress,
+                                            ResultBatcher results) {
         TrackedCategory category = categoryRepository.findBySlug(categorySlug)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found: " + categorySlug));
 
         if (!Boolean.TRUE.equals(category.getActive())) {
             log.warn("Category '{}' is not active, skipping", categorySlug);
-            return List.of();
+            progress.completed();
+            return results.summary(null);
         }
 
         List<TrackedCity> cities = cityRepository.findByActiveTrue();
@@ -112,85 +228,308 @@ public class JustJoinItScraperService {
                 categorySlug, MetricType.values().length, cityOptions.size(),
                 experienceLevels.size(), salaryRanges.size(), totalRequests);
 
-        // Reset request counter for this batch
-        requestCount.set(0);
+        List<ScrapeCell> cells = ScrapeCell.combinations(cityOptions, experienceLevels, salaryRanges);
+        SamplingPlan plan = sampler.plan(categorySlug, cells, LocalDate.now());
+        int scrapedCells = cells.size() - plan.carriedCounts().size();
 
-        List<JobCountResult> results = new ArrayList<>();
-        scrapeCategory(category, cityOptions, experienceLevels, salaryRanges, results);
-        return results;
+        RequestTimeline timeline = spreadOver != null
+                ? RequestTimeline.spread(spreadOver, scrapedCells)
+                : RequestTimeline.unpaced();
+        if (timeline.spacingMs() > 0) {
+            log.info("Spreading {} cells for '{}' over {} (one every {} s)",
+                    scrapedCells, categorySlug, spreadOver, timeline.spacingMs() / 1000);
+        }
+
+        RunState runState = startRun(categorySlug, totalRequests, results, progress);
+
+        try {
+            scrapeCategory(runState, category, cells, plan, timeline);
+            results.flush();
+        } catch (RuntimeException e) {
+            failRun(runState, e);
+            throw e;
+        }
+
+        return completeRun(runState);
     }
 
-    @Transactional
-    public List<JobCountResult> fetchAndSaveJobCountsForCategory(String categorySlug) {
-        List<JobCountResult> results = fetchJobCountsForCategory(categorySlug);
-        saveResults(results);
-        return results;
+    private ResultBatcher savingBatcher() {
+        return new ResultBatcher(resultWriter::write, config.getSaveBatchSize(),
+                Duration.ofMillis(config.getSaveBatchMaxDelayMs()));
+    }
+
+    private RunState startRun(String categorySlug, int totalCells, ResultBatcher results, ScrapeProgress progress) {
+        ScrapeRun run = scrapeHistoryService.startRun(categorySlug, totalCells);
+        progress.runStarted(run.getId(), totalCells);
+        RunState runState = new RunState(run.getId(), results, progress);
+        publishRunState(runState, ScrapeRunStatus.RUNNING);
+        return runState;
+    }
+
+    private ScrapeSummary completeRun(RunState run) {
+        ResultBatcher results = run.results();
+        scrapeHistoryService.completeRun(run.runId(), results.succeeded(), results.failed());
+        publishRunState(run, ScrapeRunStatus.COMPLETED);
+        return results.summary(run.runId());
+    }
+
+    /**
+     * Saves what the run had buffered before recording it as failed, so the cells scraped
+     * before the failure are kept.
+     */
+    private void failRun(RunState run, RuntimeException e) {
+        ResultBatcher results = run.results();
+        try {
+            results.flush();
+        } catch (RuntimeException flushError) {
+            e.addSuppressed(flushError);
+        }
+        scrapeHistoryService.failRun(run.runId(), results.succeeded(), results.failed(), e.getMessage());
+        publishRunState(run, ScrapeRunStatus.FAILED);
+    }
+
+    private void publishRunState(RunState run, ScrapeRunStatus status) {
+        ScrapeProgress progress = run.progress();
+        eventPublisher.publishEvent(new ScrapeRunStateEvent(run.runId(), progress.getCategory(), status.name(),
+                progress.getTotalCells(), progress.getCompletedCells(), progress.getFailedCells()));
+    }
+
+    private void publishCell(RunState run, JobCountResult result) {
+        ScrapeProgress progress = run.progress();
+        eventPublisher.publishEvent(new ScrapeCellCompletedEvent(run.runId(), result.getCategory().getSlug(),
+                result.getMetricType(), result.getCity(), result.getExperienceLevel(), result.getSalaryMin(),
+                result.getSalaryMax(), result.isSuccess(), result.getCount(),
+                result.isSuccess() ? result.getSource() : null,
+                result.getAnomalyReason() != null ? result.getAnomalyReason().name() : null,
+                progress.getCompletedCells(), progress.getTotalCells()));
     }
 
-    private void scrapeCategory(TrackedCategory category, List<String> cityOptions,
-                                 List<ExperienceLevel> experienceLevels, List<SalaryRange> salaryRanges,
-                                 List<JobCountResult> results) {
-        for (MetricType metricType : MetricType.values()) {
-            for (String city : cityOptions) {
-                for (ExperienceLevel experienceLevel : experienceLevels) {
-                    for (SalaryRange salaryRange : salaryRanges) {
-                        fetchAndAddResult(results, category, metricType, city, experienceLevel, salaryRange);
-                    }
+    private void scrapeCategory(RunState run, TrackedCategory category, List<ScrapeCell> cells, SamplingPlan plan,
+                                 RequestTimeline timeline) {
+        metrics.startRun(category.getSlug(), cells.size());
+        try {
+            DeferredRetryQueue retries = new DeferredRetryQueue(config.getRetryBaseDelayMs(),
+                    config.getRetryMaxDelayMs());
+
+            for (ScrapeCell cell : prioritizer.order(category.getSlug(), cells)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("Scraping of '{}' interrupted, skipping its remaining cells", category.getSlug());
+                    break;
                 }
+                if (plan.isCarried(cell)) {
+                    addCarriedResult(run, category, cell, plan.carriedCount(cell));
+                } else {
+                    fetchAndAddResult(run, timeline, retries, category, cell);
+                }
+            }
+
+            if (!retries.isEmpty()) {
+                log.info("Retrying {} deferred cells for category '{}'", retries.size(), category.getSlug());
+                processRetries(run, retries, category);
             }
+        } finally {
+            metrics.finishRun(category.getSlug());
         }
     }
 
-    private void fetchAndAddResult(List<JobCountResult> results, TrackedCategory category,
-                                    MetricType metricType, String city,
-                                    ExperienceLevel experienceLevel, SalaryRange salaryRange) {
-        try {
-            JobCountResult result = fetchCountWithAnomalyDetection(category, metricType, city, experienceLevel, salaryRange);
-            results.add(result);
-            log.info("Category '{}' [{}] city={} exp={} salary={}: {} jobs (source: {})",
-                    category.getName(), metricType, city, experienceLevel, salaryRange,
-                    result.getCount(), result.getSource());
+    /**
+     * Carries a stable cell's last count forward without requesting it.
+     */
+    private void addCarriedResult(RunState run, TrackedCategory category, ScrapeCell cell, int count) {
+        JobCountResult result = JobCountResult.success(category, cell.metricType(), cell.city(),
+                cell.experienceLevel(), cell.salaryRange(), count, LocalDateTime.now(), CellSampler.SOURCE_CARRIED);
+        run.progress().cellCompleted(true, true);
+        publishCell(run, result);
+        metrics.recordResult(category.getSlug(), result.getSource());
+        metrics.cellCompleted(category.getSlug());
+        run.results().add(result);
+        log.debug("Category '{}' [{}] city={} exp={} salary={}: {} jobs carried forward",
+                category.getName(), cell.metricType(), cell.city(), cell.experienceLevel(), cell.salaryRange(), count);
+    }
 
-            applyRandomDelay();
+    /**
+     * Fetches a cell once. A normal count completes the cell; an anomalous count or a failed
+     * fetch defers it to the retry pass at the end of the run instead of waiting here. An
+     * interrupt while waiting for the cell's slot leaves the cell unstarted. The cell is
+     * completed outside the fetch handling, so a failure to save it fails the run instead of
+     * being retried as a fetch.
+     */
+    private void fetchAndAddResult(RunState run, RequestTimeline timeline, DeferredRetryQueue retries,
+                                    TrackedCategory category, ScrapeCell cell) {
+        try {
+            timeline.awaitNextSlot();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.warn("Scraping interrupted");
+            return;
+        }
+
+        List<PageFetch> fetches = new ArrayList<>();
+        JobCountResult completed = null;
+        try {
+            JobCountResult result = fetchCountForCategory(category, cell.metricType(), cell.city(),
+                    cell.experienceLevel(), cell.salaryRange(), fetches);
+            AnomalyCheckResult anomalyCheck = checkForAnomaly(category, cell, result);
+            if (anomalyCheck.isAnomalyDetected()) {
+                log.warn("Anomaly detected for category='{}' [{}] city={} exp={} salary={}: count={}, previous={}; " +
+                                "deferring retry",
+                        category.getName(), cell.metricType(), cell.city(), cell.experienceLevel(),
+                        cell.salaryRange(), result.getCount(), anomalyCheck.getPreviousCount());
+                metrics.recordRetry("anomaly");
+                retries.defer(DeferredCell.suspect(cell, fetches, result.getCount(), anomalyCheck),
+                        anomalyDetectionService.getRetryDelayMs());
+            } else {
+                result.setAnomalyReason(AnomalyCheckResult.Reason.NORMAL);
+                completed = result;
+            }
         } catch (Exception e) {
-            log.error("Failed to fetch count for category '{}' [{}] city={}: {}",
-                    category.getName(), metricType, city, e.getMessage());
-            results.add(JobCountResult.failed(category, metricType, city, experienceLevel, salaryRange, e.getMessage()));
+            log.warn("Failed to fetch count for category '{}' [{}] city={}: {}; deferring retry",
+                    category.getName(), cell.metricType(), cell.city(), e.getMessage());
+            metrics.recordRetry("failure");
+            retries.deferAfterFailure(DeferredCell.failed(cell, fetches, e.getMessage()));
+        }
+        if (completed != null) {
+            completeCell(run, category, completed, fetches);
         }
+        paceNextRequest();
     }
 
-    private void applyRandomDelay() throws InterruptedException {
-        int count = requestCount.incrementAndGet();
+    /**
+     * Works through the deferred cells in due order until each has a final result. A suspect
+     * cell is fetched once more and resolved as before; a failed fetch is retried with
+     * exponential backoff until {@code maxRetries} retries have failed.
+     */
+    private void processRetries(RunState run, DeferredRetryQueue retries, TrackedCategory category) {
+        while (!retries.isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("Scraping interrupted with {} cells awaiting retry", retries.size());
+                retries.drain().forEach(d -> abandonCell(run, category, d.cell(), d.fetches()));
+                return;
+            }
+            DeferredCell deferred;
+            long start = System.nanoTime();
+            try {
+                deferred = retries.awaitNext();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Scraping interrupted with {} cells awaiting retry", retries.size() + 1);
+                retries.drain().forEach(d -> abandonCell(run, category, d.cell(), d.fetches()));
+                return;
+            }
+            metrics.recordPhase(ScraperMetrics.PHASE_RETRY_WAIT, System.nanoTime() - start);
+            retryCell(run, retries, category, deferred);
+        }
+    }
 
-        // Random delay between min and max
-        int delay = random.nextInt(config.getMaxDelayMs() - config.getMinDelayMs()) + config.getMinDelayMs();
-        Thread.sleep(delay);
+    private void retryCell(RunState run, DeferredRetryQueue retries, TrackedCategory category,
+                           DeferredCell deferred) {
+        ScrapeCell cell = deferred.cell();
+        JobCountResult completed = null;
+        try {
+            JobCountResult retryResult = fetchCountForCategory(category, cell.metricType(), cell.city(),
+                    cell.experienceLevel(), cell.salaryRange(), deferred.fetches());
+            if (deferred.isSuspect()) {
+                completed = resolveSuspect(category, deferred, retryResult);
+            } else {
+                AnomalyCheckResult anomalyCheck = checkForAnomaly(category, cell, retryResult);
+                if (anomalyCheck.isAnomalyDetected()) {
+                    metrics.recordRetry("anomaly");
+                    deferred.markSuspect(retryResult.getCount(), anomalyCheck);
+                    retries.defer(deferred, anomalyDetectionService.getRetryDelayMs());
+                } else {
+                    retryResult.setAnomalyReason(AnomalyCheckResult.Reason.NORMAL);
+                    completed = retryResult;
+                }
+            }
+        } catch (Exception e) {
+            deferred.recordFailure(e.getMessage());
+            if (deferred.failures() <= config.getMaxRetries()) {
+                log.warn("Retry {} failed for category '{}' [{}] city={}: {}",
+                        deferred.failures(), category.getName(), cell.metricType(), cell.city(), e.getMessage());
+                metrics.recordRetry("failure");
+                retries.deferAfterFailure(deferred);
+            } else if (deferred.isSuspect()) {
+                completed = usePreviousValue(category, deferred);
+            } else {
+                log.error("Giving up on category '{}' [{}] city={} after {} failures: {}",
+                        category.getName(), cell.metricType(), cell.city(), deferred.failures(), e.getMessage());
+                completed = JobCountResult.failed(category, cell.metricType(), cell.city(),
+                        cell.experienceLevel(), cell.salaryRange(), e.getMessage());
+            }
+        }
+        if (completed != null) {
+            completeCell(run, category, completed, deferred.fetches());
+        }
+        paceNextRequest();
+    }
 
-        // Every N requests, add a longer pause (simulates human taking a break)
-        if (count % config.getPauseEveryNRequests() == 0) {
-            int pause = random.nextInt(30000) + config.getPauseDurationMs();
-            log.info("Taking a longer pause after {} requests ({} ms)", count, pause);
-            Thread.sleep(pause);
+    private void completeCell(RunState run, TrackedCategory category, JobCountResult result,
+                              List<PageFetch> fetches) {
+        run.progress().cellCompleted(result.isSuccess(), false);
+        publishCell(run, result);
+        String source = result.isSuccess() ? result.getSource() : ScraperMetrics.SOURCE_FAILED;
+        metrics.recordResult(category.getSlug(), source);
+        metrics.cellCompleted(category.getSlug());
+        scrapeHistoryService.recordCell(run.runId(), result, fetches);
+        // Last, as it may flush the batch: a failed save then fails the run with the cell counted
+        run.results().add(result);
+        if (result.isSuccess()) {
+            log.info("Category '{}' [{}] city={} exp={} salary={}/{}: {} jobs (source: {})",
+                    category.getName(), result.getMetricType(), result.getCity(), result.getExperienceLevel(),
+                    result.getSalaryMin(), result.getSalaryMax(), result.getCount(), result.getSource());
         }
     }
 
-    private JobCountResult fetchCountForCategory(TrackedCategory category, MetricType metricType) {
-        return fetchCountForCategory(category, metricType, null, null, null);
+    /**
+     * Records an interrupted cell in the scrape history without adding it to the results.
+     */
+    private void abandonCell(RunState run, TrackedCategory category, ScrapeCell cell, List<PageFetch> fetches) {
+        JobCountResult result = JobCountResult.failed(category, cell.metricType(), cell.city(),
+                cell.experienceLevel(), cell.salaryRange(), "Interrupted");
+        run.progress().cellCompleted(false, false);
+        publishCell(run, result);
+        metrics.cellCompleted(category.getSlug());
+        scrapeHistoryService.recordCell(run.runId(), result, fetches);
+    }
+
+    /**
+     * Waits for the pacer after a cell is resolved. An interrupt is kept on the thread, so the
+     * run stops before the next cell; the resolved cell is not touched again.
+     */
+    private void paceNextRequest() {
+        try {
+            awaitNextRequest();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Scraping interrupted");
+        }
+    }
+
+    private void awaitNextRequest() throws InterruptedException {
+        long start = System.nanoTime();
+        pacer.awaitNextRequest();
+        metrics.recordPhase(ScraperMetrics.PHASE_DELAY, System.nanoTime() - start);
+    }
+
+    private void recordFetch(List<PageFetch> fetches, PageFetch page) {
+        fetches.add(page);
+        pacer.onResponse(page);
     }
 
     private JobCountResult fetchCountForCategory(TrackedCategory category, MetricType metricType,
                                                   String city, ExperienceLevel experienceLevel,
-                                                  SalaryRange salaryRange) {
+                                                  SalaryRange salaryRange, List<PageFetch> fetches) {
         int count;
 
         if (salaryRange != null && salaryRange.isRequiresSubtraction()) {
-            count = fetchCountWithSubtraction(category, metricType, city, experienceLevel, salaryRange);
+            count = fetchCountWithSubtraction(category, metricType, city, experienceLevel, salaryRange, fetches);
         } else {
-            Optional<Integer> htmlCount = htmlParser.fetchCountForCategory(
-                    category.getSlug(), metricType, city, experienceLevel, salaryRange);
+            long start = System.nanoTime();
+            PageFetch page = htmlParser.fetchPage(category.getSlug(), metricType, city, experienceLevel, salaryRange);
+            metrics.recordPhase(ScraperMetrics.PHASE_FETCH, System.nanoTime() - start);
+            recordFetch(fetches, page);
+
+            Optional<Integer> htmlCount = page.countIfFound();
 
             if (htmlCount.isEmpty()) {
                 throw new ScraperException("Could not fetch count for category: " + category.getName() +
@@ -205,25 +544,34 @@ public class JustJoinItScraperService {
 
     private int fetchCountWithSubtraction(TrackedCategory category, MetricType metricType,
                                            String city, ExperienceLevel experienceLevel,
-                                           SalaryRange salaryRange) {
+                                           SalaryRange salaryRange, List<PageFetch> fetches) {
         log.info("Using subtraction approach for {} (city={}, exp={}, salary={})",
                 category.getSlug(), city, experienceLevel, salaryRange);
 
-        Optional<Integer> totalCount = htmlParser.fetchCountForCategory(
-                category.getSlug(), metricType, city, experienceLevel, null);
+        long start = System.nanoTime();
+        PageFetch totalPage = htmlParser.fetchPage(category.getSlug(), metricType, city, experienceLevel, null);
+        metrics.recordPhase(ScraperMetrics.PHASE_FETCH, System.nanoTime() - start);
+        recordFetch(fetches, totalPage);
+
+        Optional<Integer> totalCount = totalPage.countIfFound();
 
         if (totalCount.isEmpty()) {
             throw new ScraperException("Could not fetch total count for subtraction: " + category.getName());
         }
 
         try {
-            applyRandomDelay();
+            awaitNextRequest();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
 
-        Optional<Integer> aboveThresholdCount = htmlParser.fetchCountWithSalaryParams(
+        start = System.nanoTime();
+        PageFetch aboveThresholdPage = htmlParser.fetchPageWithSalaryParams(
                 category.getSlug(), metricType, city, experienceLevel, salaryRange.buildSubtractionQueryParams());
+        metrics.recordPhase(ScraperMetrics.PHASE_FETCH, System.nanoTime() - start);
+        recordFetch(fetches, aboveThresholdPage);
+
+        Optional<Integer> aboveThresholdCount = aboveThresholdPage.countIfFound();
 
         if (aboveThresholdCount.isEmpty()) {
             throw new ScraperException("Could not fetch above-threshold count for subtraction: " + category.getName());
@@ -235,126 +583,53 @@ public class JustJoinItScraperService {
         return Math.max(0, result);
     }
 
+    private AnomalyCheckResult checkForAnomaly(TrackedCategory category, ScrapeCell cell, JobCountResult result) {
+        String location = cell.city() != null ? cell.city() : cell.metricType().getLocation();
+        long start = System.nanoTime();
+        AnomalyCheckResult anomalyCheck = anomalyDetectionService.checkForAnomaly(result.getCount(),
+                category.getSlug(), cell.metricType(), location, cell.experienceLevel(),
+                result.getSalaryMin(), result.getSalaryMax());
+        metrics.recordPhase(ScraperMetrics.PHASE_ANOMALY_CHECK, System.nanoTime() - start);
+        return anomalyCheck;
+    }
+
     /**
-     * Fetches job count with anomaly detection and validation.
-     * If the first fetch shows an anomalous drop (>10% from previous day),
-     * a retry is performed. If the retry also fails validation, the previous
-     * day's value is used instead.
+     * Resolves a cell whose first count was anomalous using the retry count. If the retry
+     * is still anomalous the previous day's value is used instead.
      */
-    private JobCountResult fetchCountWithAnomalyDetection(TrackedCategory category, MetricType metricType,
-                                                           String city, ExperienceLevel experienceLevel,
-                                                           SalaryRange salaryRange) throws InterruptedException {
-        // First fetch
-        JobCountResult firstResult = fetchCountForCategory(category, metricType, city, experienceLevel, salaryRange);
-        int firstCount = firstResult.getCount();
-
-        // Determine location for anomaly check (city or metric type location)
-        String location = city != null ? city : metricType.getLocation();
-
-        // Get salary bounds for anomaly check
-        Integer salaryMin = firstResult.getSalaryMin();
-        Integer salaryMax = firstResult.getSalaryMax();
-
-        // Check for anomaly
-        AnomalyCheckResult anomalyCheck = anomalyDetectionService.checkForAnomaly(
-                firstCount, category.getSlug(), metricType, location, experienceLevel, salaryMin, salaryMax);
-
-        if (!anomalyCheck.isAnomalyDetected()) {
-            return firstResult;
-        }
-
-        // Anomaly detected - log and retry
-        log.warn("Anomaly detected for category='{}' [{}] city={} exp={} salary={}: count={}, previous={}",
-                category.getName(), metricType, city, experienceLevel, salaryRange,
-                firstCount, anomalyCheck.getPreviousCount());
-
-        Thread.sleep(anomalyDetectionService.getRetryDelayMs());
-
-        // Retry fetch
-        JobCountResult retryResult = fetchCountForCategory(category, metricType, city, experienceLevel, salaryRange);
+    private JobCountResult resolveSuspect(TrackedCategory category, DeferredCell deferred, JobCountResult retryResult) {
+        ScrapeCell cell = deferred.cell();
         int retryCount = retryResult.getCount();
-
-        // Validate retry result
-        int previousCount = anomalyCheck.getPreviousCount();
-        boolean shouldUsePreviousValue = anomalyDetectionService.validateRetryResult(retryCount, previousCount);
-
-        if (shouldUsePreviousValue) {
-            // Both attempts failed validation - use previous day's value
+        if (anomalyDetectionService.validateRetryResult(retryCount, deferred.anomalyCheck())) {
             log.info("Using previous day's value for category='{}' [{}] city={} exp={} salary={}: " +
-                    "first={}, retry={}, using previous={}",
-                    category.getName(), metricType, city, experienceLevel, salaryRange,
-                    firstCount, retryCount, previousCount);
-
-            return JobCountResult.success(category, metricType, city, experienceLevel, salaryRange,
-                    previousCount, LocalDateTime.now(), "PREVIOUS_DAY");
+                            "first={}, retry={}, using previous={}",
+                    category.getName(), cell.metricType(), cell.city(), cell.experienceLevel(), cell.salaryRange(),
+                    deferred.suspectCount(), retryCount, deferred.anomalyCheck().getPreviousCount());
+            return usePreviousValue(category, deferred);
         }
 
-        // Retry passed validation - use retry result
         log.info("Retry result accepted for category='{}' [{}] city={} exp={} salary={}: " +
-                "first={}, retry={} (within threshold)",
-                category.getName(), metricType, city, experienceLevel, salaryRange,
-                firstCount, retryCount);
-
-        return JobCountResult.success(category, metricType, city, experienceLevel, salaryRange,
-                retryCount, LocalDateTime.now(), "HTML_RETRY");
-    }
-
-    @Transactional
-    public void saveResults(List<JobCountResult> results) {
-        log.info("Saving {} job count results", results.size());
-
-        int successCount = 0;
-        int skippedCount = 0;
-        int failCount = 0;
-
-        for (JobCountResult result : results) {
-            if (result.isSuccess()) {
-                LocalDate recordDate = result.getFetchedAt().toLocalDate();
-
-                Optional<JobCountRecord> existingRecord = jobCountRecordRepository.findExistingRecord(
-                        result.getCategory().getSlug(),
-                        result.getMetricType(),
-                        result.getCity(),
-                        result.getExperienceLevel(),
-                        result.getSalaryMin(),
-                        result.getSalaryMax(),
-                        recordDate);
-
-                if (existingRecord.isPresent()) {
-                    log.debug("Skipping duplicate record for category='{}' metric={} city={} exp={} salary={}/{} date={}",
-                            result.getCategory().getSlug(), result.getMetricType(), result.getCity(),
-                            result.getExperienceLevel(), result.getSalaryMin(), result.getSalaryMax(), recordDate);
-                    skippedCount++;
-                    continue;
-                }
-
-                String location = result.getCity() != null ? result.getCity() : result.getMetricType().getLocation();
-                JobCountRecord record = JobCountRecord.builder()
-                        .category(result.getCategory().getSlug())
-                        .count(result.getCount())
-                        .fetchedAt(result.getFetchedAt())
-                        .location(location)
-                        .metricType(result.getMetricType())
-                        .city(result.getCity())
-                        .experienceLevel(result.getExperienceLevel())
-                        .salaryMin(result.getSalaryMin())
-                        .salaryMax(result.getSalaryMax())
-                        .recordDate(recordDate)
-                        .build();
-                jobCountRecordRepository.save(record);
-                successCount++;
-            } else {
-                failCount++;
-            }
-        }
+                        "first={}, retry={} (within threshold)",
+                category.getName(), cell.metricType(), cell.city(), cell.experienceLevel(), cell.salaryRange(),
+                deferred.suspectCount(), retryCount);
+        JobCountResult acceptedResult = JobCountResult.success(category, cell.metricType(), cell.city(),
+                cell.experienceLevel(), cell.salaryRange(), retryCount, LocalDateTime.now(), "HTML_RETRY");
+        acceptedResult.setAnomalyReason(AnomalyCheckResult.Reason.DROP_DETECTED);
+        return acceptedResult;
+    }
 
-        log.info("Saved {} records, skipped {} duplicates, {} failures", successCount, skippedCount, failCount);
+    private JobCountResult usePreviousValue(TrackedCategory category, DeferredCell deferred) {
+        ScrapeCell cell = deferred.cell();
+        JobCountResult previousResult = JobCountResult.success(category, cell.metricType(), cell.city(),
+                cell.experienceLevel(), cell.salaryRange(), deferred.anomalyCheck().getPreviousCount(),
+                LocalDateTime.now(), CellSampler.SOURCE_PREVIOUS_DAY);
+        previousResult.setAnomalyReason(AnomalyCheckResult.Reason.USED_PREVIOUS_VALUE);
+        return previousResult;
     }
 
-    @Transactional
-    public List<JobCountResult> fetchAndSaveAllJobCounts() {
-        List<JobCountResult> results = fetchAllJobCounts();
-        saveResults(results);
-        return results;
+    /**
+     * Everything one run writes to, so concurrent runs never share mutable state.
+     */
+    private record RunState(Long runId, ResultBatcher results, ScrapeProgress progress) {
     }
 }
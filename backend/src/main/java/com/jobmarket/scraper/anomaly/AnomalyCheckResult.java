@@ -28,6 +28,17 @@ public class AnomalyCheckResult {
     private double dropPercentage;
     private Reason reason;
 
+    /**
+     * Standard score of the checked count under the series model, null when the fixed drop
+     * threshold was used.
+     */
+    private Double zScore;
+
+    /**
+     * Lowest count the series model accepts as normal, null when the fixed drop threshold was used.
+     */
+    private Integer lowerBound;
+
     /**
      * Creates a result indicating no anomaly was detected.
      */
@@ -54,6 +65,27 @@ public class AnomalyCheckResult {
                 .build();
     }
 
+    /**
+     * Creates a result indicating the series model flagged the count as anomalously low.
+     *
+     * @param previousCount the count from the previous record
+     * @param dropPercentage the percentage drop from the previous record
+     * @param zScore the standard score of the count under the series model
+     * @param lowerBound the lowest count the model accepts as normal
+     * @return anomaly check result with model details
+     */
+    public static AnomalyCheckResult modelAnomaly(int previousCount, double dropPercentage, double zScore,
+                                                  int lowerBound) {
+        return AnomalyCheckResult.builder()
+                .anomalyDetected(true)
+                .previousCount(previousCount)
+                .dropPercentage(dropPercentage)
+                .zScore(zScore)
+                .lowerBound(lowerBound)
+                .reason(Reason.DROP_DETECTED)
+                .build();
+    }
+
     /**
      * Creates a result indicating the previous day's value was used
      * because the anomaly persisted after retry.
@@ -5,17 +5,22 @@ import com.jobmarket.entity.ExperienceLevel;
 import com.jobmarket.entity.JobCountRecord;
 import com.jobmarket.entity.MetricType;
 import com.jobmarket.repository.JobCountRecordRepository;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import com.jobmarket.series.SeriesKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * Service responsible for detecting anomalies in job count data.
- * An anomaly is detected when the current count drops more than the configured
- * threshold percentage compared to the previous day's count.
+ * Once a series' {@link SeriesModel} is warmed up, an anomaly is a count more than
+ * {@code modelThresholdSigmas} standard deviations below what the model expects for the day.
+ * Before that, an anomaly is a drop of more than the configured threshold percentage
+ * compared to the previous day's count.
  */
 @Service
 @RequiredArgsConstructor
@@ -24,6 +29,8 @@ public class AnomalyDetectionService {
 
     private final AnomalyDetectionConfig config;
     private final JobCountRecordRepository jobCountRecordRepository;
+    private final ScraperMetrics metrics;
+    private final SeriesModelService seriesModels;
 
     /**
      * Checks if the current count represents an anomaly compared to the previous record.
@@ -40,8 +47,10 @@ public class AnomalyDetectionService {
     public AnomalyCheckResult checkForAnomaly(int currentCount, String category, MetricType metricType,
                                                String location, ExperienceLevel experienceLevel,
                                                Integer salaryMin, Integer salaryMax) {
+        long start = System.nanoTime();
         Optional<JobCountRecord> previousRecord = jobCountRecordRepository.findPreviousByFilters(
                 category, metricType, location, experienceLevel, salaryMin, salaryMax, LocalDateTime.now());
+        metrics.recordAnomalyQuery(System.nanoTime() - start);
 
         if (previousRecord.isEmpty()) {
             log.debug("No previous record found for category='{}' metric={} location={} - skipping anomaly check",
@@ -59,15 +68,60 @@ public class AnomalyDetectionService {
 
         double dropPercentage = calculateDropPercentage(currentCount, previousCount);
 
+        if (config.isModelEnabled()) {
+            SeriesModel model = seriesModels.modelFor(
+                    new SeriesKey(category, metricType, location, experienceLevel, salaryMin, salaryMax));
+            if (model.observations() >= config.getModelWarmupObservations()) {
+                return checkAgainstModel(model, currentCount, previousCount, dropPercentage);
+            }
+        }
+
         if (dropPercentage > config.getDropThreshold()) {
             log.warn("Anomaly detected: count dropped from {} to {} ({:.1f}% drop, threshold: {:.1f}%)",
                     previousCount, currentCount, dropPercentage * 100, config.getDropThreshold() * 100);
+            metrics.recordAnomaly();
             return AnomalyCheckResult.anomalyDetected(previousCount, dropPercentage);
         }
 
         return AnomalyCheckResult.normal();
     }
 
+    private AnomalyCheckResult checkAgainstModel(SeriesModel model, int currentCount, int previousCount,
+                                                 double dropPercentage) {
+        LocalDate today = LocalDate.now();
+        double zScore = model.zScore(today, currentCount, config.getMinStdDev());
+        if (zScore >= -config.getModelThresholdSigmas()) {
+            return AnomalyCheckResult.normal();
+        }
+
+        int lowerBound = (int) Math.ceil(
+                model.lowerBound(today, config.getModelThresholdSigmas(), config.getMinStdDev()));
+        log.warn("Anomaly detected: count {} is {} standard deviations below the expected {} (lowest normal: {})",
+                currentCount, String.format("%.1f", -zScore), Math.round(model.expectedCount(today)), lowerBound);
+        metrics.recordAnomaly();
+        return AnomalyCheckResult.modelAnomaly(previousCount, dropPercentage, zScore, lowerBound);
+    }
+
+    /**
+     * Validates a retry against the check that flagged the first count: the series model's
+     * lower bound when the model was used, the drop threshold from the previous count otherwise.
+     *
+     * @param retryCount the count obtained from the retry fetch
+     * @param anomalyCheck the result of the check that flagged the first count
+     * @return true if the retry is still anomalous (use previous value), false if retry is acceptable
+     */
+    public boolean validateRetryResult(int retryCount, AnomalyCheckResult anomalyCheck) {
+        if (anomalyCheck.getLowerBound() == null) {
+            return validateRetryResult(retryCount, anomalyCheck.getPreviousCount());
+        }
+        if (retryCount < anomalyCheck.getLowerBound()) {
+            log.info("Retry result {} is still below the model's lowest normal count {}",
+                    retryCount, anomalyCheck.getLowerBound());
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Validates whether the retry result still exceeds the anomaly threshold.
      * Returns true if the retry count still shows an anomalous drop from the previous count,
@@ -0,0 +1,130 @@
+package com.jobmarket.scraper.anomaly;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * Online model of one job count series: an exponentially weighted level with a day-of-week
+ * offset and an exponentially weighted residual variance, all on {@code ln(count + 1)} so a
+ * series of 20 and one of 2000 are judged by relative moves.
+ * <p>
+ * {@link #update} is O(1) and {@link #encode()} is a fixed {@value #ENCODED_BYTES} bytes, so
+ * every series can keep its model in memory and in one small database row.
+ */
+public final class SeriesModel {
+
+    static final int ENCODED_BYTES = 1 + 8 + 8 + 7 * 8 + 4 + 8;
+    private static final byte VERSION = 1;
+
+    private double level;
+    private double variance;
+    private final double[] weekdayOffsets;
+    private int observations;
+    private long lastEpochDay;
+
+    private SeriesModel(double level, double variance, double[] weekdayOffsets, int observations, long lastEpochDay) {
+        this.level = level;
+        this.variance = variance;
+        this.weekdayOffsets = weekdayOffsets;
+        this.observations = observations;
+        this.lastEpochDay = lastEpochDay;
+    }
+
+    public static SeriesModel empty() {
+        return new SeriesModel(0, 0, new double[7], 0, Long.MIN_VALUE);
+    }
+
+    /**
+     * Adds the count observed on {@code date}. Dates not after the last observed one are ignored,
+     * so replaying records that are already in the model has no effect.
+     *
+     * @return whether the model changed
+     */
+    public boolean update(LocalDate date, int count, double levelSmoothing, double seasonalSmoothing,
+                          double varianceSmoothing) {
+        long epochDay = date.toEpochDay();
+        if (epochDay <= lastEpochDay) {
+            return false;
+        }
+        double value = Math.log(count + 1.0);
+        int weekday = date.getDayOfWeek().ordinal();
+        if (observations == 0) {
+            level = value;
+        } else {
+            double residual = value - level - weekdayOffsets[weekday];
+            variance = observations == 1
+                    ? residual * residual
+                    : (1 - varianceSmoothing) * variance + varianceSmoothing * residual * residual;
+            level += levelSmoothing * (value - weekdayOffsets[weekday] - level);
+            weekdayOffsets[weekday] += seasonalSmoothing * (value - level - weekdayOffsets[weekday]);
+        }
+        observations++;
+        lastEpochDay = epochDay;
+        return true;
+    }
+
+    /**
+     * Count the model expects on {@code date}.
+     */
+    public double expectedCount(LocalDate date) {
+        return Math.exp(expectedLog(date)) - 1;
+    }
+
+    /**
+     * Standard score of {@code count} on {@code date}; negative for counts below expectation.
+     * The standard deviation is floored at {@code minStdDev} so a perfectly flat series does not
+     * flag every small move.
+     */
+    public double zScore(LocalDate date, int count, double minStdDev) {
+        double stdDev = Math.max(Math.sqrt(variance), minStdDev);
+        return (Math.log(count + 1.0) - expectedLog(date)) / stdDev;
+    }
+
+    /**
+     * Lowest count on {@code date} that is no more than {@code sigmas} standard deviations below
+     * expectation.
+     */
+    public double lowerBound(LocalDate date, double sigmas, double minStdDev) {
+        double stdDev = Math.max(Math.sqrt(variance), minStdDev);
+        return Math.exp(expectedLog(date) - sigmas * stdDev) - 1;
+    }
+
+    public int observations() {
+        return observations;
+    }
+
+    public LocalDate lastDate() {
+        return observations > 0 ? LocalDate.ofEpochDay(lastEpochDay) : null;
+    }
+
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES);
+        buffer.put(VERSION);
+        buffer.putDouble(level);
+        buffer.putDouble(variance);
+        for (double offset : weekdayOffsets) {
+            buffer.putDouble(offset);
+        }
+        buffer.putInt(observations);
+        buffer.putLong(lastEpochDay);
+        return buffer.array();
+    }
+
+    public static SeriesModel decode(byte[] encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        if (encoded.length != ENCODED_BYTES || buffer.get() != VERSION) {
+            throw new IllegalArgumentException("Unsupported series model encoding");
+        }
+        double level = buffer.getDouble();
+        double variance = buffer.getDouble();
+        double[] weekdayOffsets = new double[7];
+        for (int i = 0; i < weekdayOffsets.length; i++) {
+            weekdayOffsets[i] = buffer.getDouble();
+        }
+        return new SeriesModel(level, variance, weekdayOffsets, buffer.getInt(), buffer.getLong());
+    }
+
+    private double expectedLog(LocalDate date) {
+        return level + weekdayOffsets[date.getDayOfWeek().ordinal()];
+    }
+}
@@ -0,0 +1,113 @@
+package com.jobmarket.scraper.anomaly;
+
+import com.jobmarket.config.AnomalyDetectionConfig;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.repository.JobCountRecordRepository;
+import com.jobmarket.repository.SeriesModelRepository;
+import com.jobmarket.scraper.event.JobCountRecordsReplicatedEvent;
+import com.jobmarket.scraper.event.JobCountRecordsSavedEvent;
+import com.jobmarket.scraper.sampling.CellSampler;
+import com.jobmarket.series.SeriesKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link SeriesModel} per series in memory and in {@code series_model}.
+ * <p>
+ * A series seen for the first time is trained from its recent history; afterwards every
+ * committed record updates its model once. Carried-forward and previous-day values are not
+ * observations and are left out. When another replica records a series, that replica updates
+ * the stored model and the cached copy here is dropped, so it is reloaded rather than updated
+ * from a stale state and saved over the newer row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeriesModelService {
+
+    private final AnomalyDetectionConfig config;
+    private final SeriesModelRepository seriesModelRepository;
+    private final JobCountRecordRepository jobCountRecordRepository;
+
+    private final Map<String, SeriesModel> models = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a copy of the model of {@code key}, loading or training it on first use.
+     */
+    public SeriesModel modelFor(SeriesKey key) {
+        SeriesModel model = models.computeIfAbsent(key.encode(), encoded -> loadOrTrain(key));
+        synchronized (model) {
+            return SeriesModel.decode(model.encode());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecordsSaved(JobCountRecordsSavedEvent event) {
+        for (JobCountRecord record : event.records()) {
+            if (!CellSampler.isObserved(record.getSource())) {
+                continue;
+            }
+            SeriesKey key = SeriesKey.of(record);
+            String encoded = key.encode();
+            try {
+                SeriesModel model = models.computeIfAbsent(encoded, k -> loadOrTrain(key));
+                byte[] state;
+                synchronized (model) {
+                    if (!update(model, record)) {
+                        continue;
+                    }
+                    state = model.encode();
+                }
+                seriesModelRepository.save(encoded, state);
+            } catch (DataAccessException e) {
+                log.warn("Could not update anomaly model of {}: {}", encoded, e.getMessage());
+            }
+        }
+    }
+
+    @EventListener
+    public void onRecordsReplicated(JobCountRecordsReplicatedEvent event) {
+        for (JobCountRecord record : event.records()) {
+            if (CellSampler.isObserved(record.getSource())) {
+                models.remove(SeriesKey.of(record).encode());
+            }
+        }
+    }
+
+    private SeriesModel loadOrTrain(SeriesKey key) {
+        String encoded = key.encode();
+        SeriesModel stored = seriesModelRepository.find(encoded).map(SeriesModel::decode).orElse(null);
+        if (stored != null) {
+            return stored;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<JobCountRecord> history = jobCountRecordRepository.findByFilters(key.category(), key.metricType(),
+                key.location(), key.experienceLevel(), key.salaryMin(), key.salaryMax(),
+                now.minusDays(config.getModelTrainingDays()), now);
+        SeriesModel model = SeriesModel.empty();
+        for (JobCountRecord record : history) {
+            if (CellSampler.isObserved(record.getSource())) {
+                update(model, record);
+            }
+        }
+        seriesModelRepository.save(encoded, model.encode());
+        log.debug("Trained anomaly model of {} from {} records", encoded, model.observations());
+        return model;
+    }
+
+    private boolean update(SeriesModel model, JobCountRecord record) {
+        return model.update(record.getRecordDate(), record.getCount(), config.getLevelSmoothing(),
+                config.getSeasonalSmoothing(), config.getVarianceSmoothing());
+    }
+}
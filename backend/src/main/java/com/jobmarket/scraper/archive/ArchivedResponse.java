@@ -0,0 +1,12 @@
+package com.jobmarket.scraper.archive;
+
+/**
+ * A recorded HTTP response. {@code body} is empty when the server returned an error
+ * status and no body was read.
+ */
+public record ArchivedResponse(
+    String url,
+    int status,
+    String contentType,
+    byte[] body
+) {}
@@ -0,0 +1,109 @@
+package com.jobmarket.scraper.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact append-only archive of recorded responses: a gzip stream holding a header
+ * followed by tagged {@code url, status, content type, body length, body} records.
+ * <p>
+ * The stream is sync-flushed after every record, so an archive left behind by a
+ * crashed run stays readable up to the last complete record.
+ */
+public final class ResponseArchive {
+
+    private static final int MAGIC = 0x4A4D5241; // "JMRA"
+    private static final int VERSION = 1;
+    private static final int RECORD = 1;
+
+    private ResponseArchive() {
+    }
+
+    public static Writer create(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024, true), 64 * 1024));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.flush();
+        return new Writer(out);
+    }
+
+    /**
+     * Reads every complete record of an archive, ignoring a truncated tail.
+     */
+    public static List<ArchivedResponse> readAll(Path file) throws IOException {
+        List<ArchivedResponse> responses = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a response archive: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported response archive version " + version + ": " + file);
+            }
+            while (true) {
+                ArchivedResponse response = readRecord(in);
+                if (response == null) {
+                    break;
+                }
+                responses.add(response);
+            }
+        } catch (EOFException e) {
+            // Truncated archive (e.g. the recording process was killed), keep what was read
+        }
+        return responses;
+    }
+
+    private static ArchivedResponse readRecord(DataInputStream in) throws IOException {
+        int tag = in.read();
+        if (tag < 0) {
+            return null;
+        }
+        if (tag != RECORD) {
+            throw new IOException("Corrupt response archive, unexpected record tag " + tag);
+        }
+        String url = in.readUTF();
+        int status = in.readUnsignedShort();
+        String contentType = in.readUTF();
+        byte[] body = new byte[in.readInt()];
+        in.readFully(body);
+        return new ArchivedResponse(url, status, contentType.isEmpty() ? null : contentType, body);
+    }
+
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+
+        private Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        public synchronized void write(ArchivedResponse response) throws IOException {
+            out.writeByte(RECORD);
+            out.writeUTF(response.url());
+            out.writeShort(response.status());
+            out.writeUTF(response.contentType() != null ? response.contentType() : "");
+            out.writeInt(response.body().length);
+            out.write(response.body());
+            out.flush();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            out.close();
+        }
+    }
+}
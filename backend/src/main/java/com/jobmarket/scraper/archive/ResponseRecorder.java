@@ -0,0 +1,66 @@
+package com.jobmarket.scraper.archive;
+
+import com.jobmarket.config.ScraperConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Record mode: when {@code scraper.justjoinit.record-directory} is set, every response the
+ * scraper receives is appended to a {@link ResponseArchive} in that directory, one archive
+ * per application run. The archives can be replayed offline by the justjoin.it stand-in
+ * used in the end-to-end scrape benchmark.
+ */
+@Component
+@Slf4j
+public class ResponseRecorder {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ScraperConfig config;
+    private ResponseArchive.Writer writer;
+    private boolean failed;
+
+    public ResponseRecorder(ScraperConfig config) {
+        this.config = config;
+    }
+
+    public boolean isEnabled() {
+        return config.getRecordDirectory() != null && !config.getRecordDirectory().isBlank() && !failed;
+    }
+
+    public synchronized void record(String url, int status, String contentType, byte[] body) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                Path file = Path.of(config.getRecordDirectory())
+                        .resolve("responses-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jmra.gz");
+                writer = ResponseArchive.create(file);
+                log.info("Recording scraper responses to {}", file.toAbsolutePath());
+            }
+            writer.write(new ArchivedResponse(url, status, contentType, body != null ? body : new byte[0]));
+        } catch (IOException e) {
+            log.error("Failed to record response for {}, recording disabled: {}", url, e.getMessage());
+            failed = true;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Failed to close response archive: {}", e.getMessage());
+            }
+            writer = null;
+        }
+    }
+}
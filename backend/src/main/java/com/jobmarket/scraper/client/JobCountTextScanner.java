@@ -0,0 +1,168 @@
+package com.jobmarket.scraper.client;
+
+/**
+ * Single-pass scanner for job counts such as {@code "1 284 offers"}, {@code "368 ofert"} or
+ * {@code "Remote work - 368 job offers"}.
+ * <p>
+ * It finds exactly what the previous regular expressions found on whitespace-normalized text:
+ * <pre>
+ * count:  (\d[\d\s,]*)\s*(?:current\s+)?(?:job\s+)?(offers?|ofert)
+ * header: [-–]\s*(\d[\d\s,]*)\s*(?:job\s+)?(offers?|ofert)
+ * </pre>
+ * matched ASCII case-insensitively, with {@code \s} extended by the no-break and thin spaces
+ * justjoin.it uses as thousands separators. Both scans read each character a bounded number of
+ * times, so they run in linear time on any input, and they allocate nothing.
+ */
+final class JobCountTextScanner {
+
+    /** No count was found. */
+    static final int NO_MATCH = -1;
+    /** A count was found but does not fit in an {@code int}. */
+    static final int OVERFLOW = -2;
+
+    private JobCountTextScanner() {
+    }
+
+    /**
+     * Returns the first "N offers" count in {@code text}, {@link #NO_MATCH} or {@link #OVERFLOW}.
+     */
+    static int findCount(CharSequence text) {
+        int length = text.length();
+        int pos = 0;
+        while (pos < length) {
+            if (!isDigit(text.charAt(pos))) {
+                pos++;
+                continue;
+            }
+            int end = skipNumber(text, pos);
+            if (matchesOffers(text, end, true)) {
+                return parseNumber(text, pos, end);
+            }
+            // The character at end is not part of any number, so scanning resumes after it
+            pos = end + 1;
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Returns the first "- N job offers" count in {@code text}, {@link #NO_MATCH} or {@link #OVERFLOW}.
+     */
+    static int findHeaderCount(CharSequence text) {
+        int length = text.length();
+        int pos = 0;
+        while (pos < length) {
+            if (!isDash(text.charAt(pos))) {
+                pos++;
+                continue;
+            }
+            int start = skipSpaces(text, pos + 1);
+            if (start == length || !isDigit(text.charAt(start))) {
+                pos = start;
+                continue;
+            }
+            int end = skipNumber(text, start);
+            if (matchesOffers(text, end, false)) {
+                return parseNumber(text, start, end);
+            }
+            // Neither spaces nor numbers contain dashes, so the next candidate is at or after end
+            pos = end;
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Returns the end of the run of digits, spaces and commas starting at {@code pos}.
+     */
+    private static int skipNumber(CharSequence text, int pos) {
+        int length = text.length();
+        while (pos < length) {
+            char c = text.charAt(pos);
+            if (!isDigit(c) && !isSpace(c) && c != ',') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipSpaces(CharSequence text, int pos) {
+        int length = text.length();
+        while (pos < length && isSpace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Whether {@code [current ][job ]offer|ofert} starts at {@code pos}. Spaces before
+     * {@code pos} already belong to the number run.
+     */
+    private static boolean matchesOffers(CharSequence text, int pos, boolean allowCurrent) {
+        if (allowCurrent) {
+            pos = skipWord(text, pos, "current");
+        }
+        pos = skipWord(text, pos, "job");
+        return startsWithIgnoreCase(text, pos, "offer") || startsWithIgnoreCase(text, pos, "ofert");
+    }
+
+    /**
+     * Skips {@code word} and the spaces after it if both are present, otherwise returns {@code pos}.
+     */
+    private static int skipWord(CharSequence text, int pos, String word) {
+        if (!startsWithIgnoreCase(text, pos, word)) {
+            return pos;
+        }
+        int end = pos + word.length();
+        int afterSpaces = skipSpaces(text, end);
+        return afterSpaces > end ? afterSpaces : pos;
+    }
+
+    /**
+     * Matches a lower-case ASCII {@code word}, ignoring ASCII case only like a default
+     * {@link java.util.regex.Pattern#CASE_INSENSITIVE} pattern.
+     */
+    private static boolean startsWithIgnoreCase(CharSequence text, int pos, String word) {
+        if (pos + word.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = text.charAt(pos + i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parseNumber(CharSequence text, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                value = value * 10 + (c - '0');
+                if (value > Integer.MAX_VALUE) {
+                    return OVERFLOW;
+                }
+            }
+        }
+        return (int) value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDash(char c) {
+        return c == '-' || c == '\u2013';
+    }
+
+    private static boolean isSpace(char c) {
+        return switch (c) {
+            case ' ', '\t', '\n', '\u000B', '\f', '\r', '\u00A0', '\u202F', '\u2007', '\u2009' -> true;
+            default -> false;
+        };
+    }
+}
@@ -1,11 +1,18 @@
 package com.jobmarket.scraper.client;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmarket.config.ScraperConfig;
+import com.jobmarket.scraper.archive.ResponseRecorder;
 import com.jobmarket.scraper.dto.JobOffer;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
@@ -14,40 +21,62 @@ import java.util.Optional;
 @Slf4j
 public class JustJoinItApiClient {
 
+    private static final int MAX_RESPONSE_BYTES = 64 * 1024 * 1024;
+    private static final TypeReference<List<JobOffer>> OFFER_LIST = new TypeReference<>() {};
+
     private final WebClient webClient;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
     private final ScraperConfig config;
+    private final ScraperMetrics metrics;
+    private final ResponseRecorder recorder;
 
-    public JustJoinItApiClient(ScraperConfig config) {
+    public JustJoinItApiClient(ScraperConfig config, ScraperMetrics metrics, ResponseRecorder recorder) {
         this.config = config;
+        this.metrics = metrics;
+        this.recorder = recorder;
         this.webClient = WebClient.builder()
                 .baseUrl(config.getApiBaseUrl())
                 .defaultHeader("User-Agent", config.getUserAgent())
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_RESPONSE_BYTES))
                 .build();
     }
 
     public Optional<List<JobOffer>> fetchAllOffers() {
+        long start = System.nanoTime();
         try {
             log.info("Fetching all offers from JustJoinIt API: {}", config.getApiBaseUrl());
-            List<JobOffer> offers = webClient.get()
+            // Read the raw body so it can be recorded before decoding
+            byte[] body = webClient.get()
                     .uri("/offers")
                     .retrieve()
-                    .bodyToFlux(JobOffer.class)
-                    .collectList()
+                    .bodyToMono(byte[].class)
                     .timeout(Duration.ofMillis(config.getReadTimeoutMs()))
                     .block();
+            recorder.record(config.getApiBaseUrl() + "/offers", 200, MediaType.APPLICATION_JSON_VALUE, body);
+            List<JobOffer> offers = decodeOffers(body);
 
             if (offers != null && !offers.isEmpty()) {
                 log.info("Successfully fetched {} offers from API", offers.size());
+                metrics.recordApiRequest(System.nanoTime() - start, true, offers.size());
                 return Optional.of(offers);
             }
             log.warn("API returned empty or null offers list");
+            metrics.recordApiRequest(System.nanoTime() - start, false, 0);
             return Optional.empty();
         } catch (Exception e) {
             log.warn("API call failed: {}", e.getMessage());
+            metrics.recordApiRequest(System.nanoTime() - start, false, 0);
             return Optional.empty();
         }
     }
 
+    private List<JobOffer> decodeOffers(byte[] body) throws IOException {
+        if (body == null || body.length == 0) {
+            return List.of();
+        }
+        return objectMapper.readValue(body, OFFER_LIST);
+    }
+
     public long countOffersForCategory(List<JobOffer> offers, String categorySlug) {
         return offers.stream()
                 .filter(offer -> matchesCategory(offer, categorySlug))
@@ -4,30 +4,35 @@ import com.jobmarket.config.ScraperConfig;
 import com.jobmarket.entity.ExperienceLevel;
 import com.jobmarket.entity.MetricType;
 import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.scraper.archive.ResponseRecorder;
+import com.jobmarket.scraper.dto.ExtractionStrategy;
+import com.jobmarket.scraper.dto.PageFetch;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
 public class JustJoinItHtmlParser {
 
-    // Pattern for "N offers" or "N ofert" format
-    private static final Pattern COUNT_PATTERN = Pattern.compile("(\\d[\\d\\s,]*)\\s*(?:current\\s+)?(?:job\\s+)?(offers?|ofert)", Pattern.CASE_INSENSITIVE);
-    // Pattern for "Remote work - 368 job offers" or similar header formats with dash separator
-    private static final Pattern HEADER_COUNT_PATTERN = Pattern.compile("[-–]\\s*(\\d[\\d\\s,]*)\\s*(?:job\\s+)?(offers?|ofert)", Pattern.CASE_INSENSITIVE);
-
     private final ScraperConfig config;
+    private final ScraperMetrics metrics;
+    private final ResponseRecorder recorder;
 
-    public JustJoinItHtmlParser(ScraperConfig config) {
+    public JustJoinItHtmlParser(ScraperConfig config, ScraperMetrics metrics, ResponseRecorder recorder) {
         this.config = config;
+        this.metrics = metrics;
+        this.recorder = recorder;
     }
 
     public Optional<Integer> fetchCountForCategory(String categorySlug) {
@@ -37,99 +42,134 @@ public class JustJoinItHtmlParser {
     public Optional<Integer> fetchCountForCategory(String categorySlug, MetricType metricType) {
         String url = config.getWebBaseUrl() + metricType.buildFullPath(categorySlug);
         log.info("Fetching job count from HTML for category: {}, metric: {} ({})", categorySlug, metricType, url);
-
-        try {
-            Document doc = Jsoup.connect(url)
-                    .userAgent(config.getUserAgent())
-                    .timeout(config.getConnectionTimeoutMs())
-                    .followRedirects(true)
-                    .get();
-
-            return extractJobCount(doc, categorySlug);
-        } catch (IOException e) {
-            log.error("Failed to fetch HTML for category {}: {}", categorySlug, e.getMessage());
-            return Optional.empty();
-        }
+        return fetchPage(url, categorySlug).countIfFound();
     }
 
     public Optional<Integer> fetchCountForCategory(String categorySlug, MetricType metricType,
                                                     String city, ExperienceLevel experienceLevel,
                                                     SalaryRange salaryRange) {
-        String url = config.getWebBaseUrl() + metricType.buildFullPath(categorySlug, city, experienceLevel, salaryRange);
-        log.info("Fetching job count from HTML for category: {}, metric: {}, city: {}, exp: {}, salary: {} ({})",
-                categorySlug, metricType, city, experienceLevel, salaryRange, url);
-
-        try {
-            Document doc = Jsoup.connect(url)
-                    .userAgent(config.getUserAgent())
-                    .timeout(config.getConnectionTimeoutMs())
-                    .followRedirects(true)
-                    .get();
-
-            return extractJobCount(doc, categorySlug);
-        } catch (IOException e) {
-            log.error("Failed to fetch HTML for category {} with filters: {}", categorySlug, e.getMessage());
-            return Optional.empty();
-        }
+        return fetchPage(categorySlug, metricType, city, experienceLevel, salaryRange).countIfFound();
     }
 
     public Optional<Integer> fetchCountWithSalaryParams(String categorySlug, MetricType metricType,
                                                          String city, ExperienceLevel experienceLevel,
                                                          String salaryParams) {
+        return fetchPageWithSalaryParams(categorySlug, metricType, city, experienceLevel, salaryParams).countIfFound();
+    }
+
+    public PageFetch fetchPage(String categorySlug, MetricType metricType,
+                               String city, ExperienceLevel experienceLevel,
+                               SalaryRange salaryRange) {
+        String url = config.getWebBaseUrl() + metricType.buildFullPath(categorySlug, city, experienceLevel, salaryRange);
+        log.info("Fetching job count from HTML for category: {}, metric: {}, city: {}, exp: {}, salary: {} ({})",
+                categorySlug, metricType, city, experienceLevel, salaryRange, url);
+        return fetchPage(url, categorySlug);
+    }
+
+    public PageFetch fetchPageWithSalaryParams(String categorySlug, MetricType metricType,
+                                               String city, ExperienceLevel experienceLevel,
+                                               String salaryParams) {
         String basePath = metricType.buildFullPath(categorySlug, city, experienceLevel, null);
         String url = config.getWebBaseUrl() + basePath;
         if (salaryParams != null && !salaryParams.isEmpty()) {
             url += (url.contains("?") ? "&" : "?") + salaryParams;
         }
         log.info("Fetching job count with custom salary params: {} ({})", salaryParams, url);
+        return fetchPage(url, categorySlug);
+    }
 
+    /**
+     * Fetches a listing page and extracts the job count, recording latency, status
+     * and size of the response. Never throws: failures are reported through the result.
+     */
+    private PageFetch fetchPage(String url, String categorySlug) {
+        PageFetch.PageFetchBuilder fetch = PageFetch.builder()
+                .url(url)
+                .requestedAt(LocalDateTime.now())
+                .extractionStrategy(ExtractionStrategy.NONE);
+
+        long start = System.nanoTime();
         try {
-            Document doc = Jsoup.connect(url)
+            Connection.Response response = Jsoup.connect(url)
                     .userAgent(config.getUserAgent())
                     .timeout(config.getConnectionTimeoutMs())
                     .followRedirects(true)
-                    .get();
-
-            return extractJobCount(doc, categorySlug);
+                    .execute();
+            long latencyNanos = System.nanoTime() - start;
+            byte[] body = response.bodyAsBytes();
+            int bytes = body.length;
+            metrics.recordHttpRequest(latencyNanos, response.statusCode(), bytes);
+            recorder.record(url, response.statusCode(), response.contentType(), body);
+            fetch.httpStatus(response.statusCode())
+                    .latencyMs(TimeUnit.NANOSECONDS.toMillis(latencyNanos))
+                    .responseBytes(bytes);
+
+            long parseStart = System.nanoTime();
+            Document doc = response.parse();
+            metrics.recordParse(System.nanoTime() - parseStart);
+
+            Extraction extraction = extract(doc, categorySlug);
+            metrics.recordExtraction(extraction.strategy());
+            fetch.extractionStrategy(extraction.strategy())
+                    .count(extraction.count());
+        } catch (HttpStatusException e) {
+            long latencyNanos = System.nanoTime() - start;
+            metrics.recordHttpRequest(latencyNanos, e.getStatusCode(), -1);
+            recorder.record(url, e.getStatusCode(), null, null);
+            fetch.httpStatus(e.getStatusCode())
+                    .latencyMs(TimeUnit.NANOSECONDS.toMillis(latencyNanos))
+                    .responseBytes(-1);
+            log.error("Failed to fetch HTML for category {} ({}): HTTP {}", categorySlug, url, e.getStatusCode());
         } catch (IOException e) {
-            log.error("Failed to fetch HTML for category {} with salary params {}: {}",
-                    categorySlug, salaryParams, e.getMessage());
-            return Optional.empty();
+            long latencyNanos = System.nanoTime() - start;
+            metrics.recordHttpRequest(latencyNanos, 0, -1);
+            fetch.latencyMs(TimeUnit.NANOSECONDS.toMillis(latencyNanos))
+                    .responseBytes(-1);
+            log.error("Failed to fetch HTML for category {} ({}): {}", categorySlug, url, e.getMessage());
         }
+        return fetch.build();
     }
 
-    private Optional<Integer> extractJobCount(Document doc, String categorySlug) {
+    // Extraction steps are package-private so the JMH benchmarks can drive them directly
+    Extraction extract(Document doc, String categorySlug) {
         // Try page title first
         Optional<Integer> fromTitle = extractFromTitle(doc);
         if (fromTitle.isPresent()) {
             log.debug("Found count in title: {}", fromTitle.get());
-            return fromTitle;
+            return new Extraction(fromTitle.get(), ExtractionStrategy.TITLE);
         }
 
         // Try meta description
         Optional<Integer> fromMeta = extractFromMetaDescription(doc);
         if (fromMeta.isPresent()) {
             log.debug("Found count in meta description: {}", fromMeta.get());
-            return fromMeta;
+            return new Extraction(fromMeta.get(), ExtractionStrategy.META);
         }
 
         // Try specific elements
         Optional<Integer> fromElements = extractFromElements(doc);
         if (fromElements.isPresent()) {
             log.debug("Found count in page elements: {}", fromElements.get());
-            return fromElements;
+            return new Extraction(fromElements.get(), ExtractionStrategy.ELEMENT);
+        }
+
+        // Fall back to the whole page body
+        Optional<Integer> fromBody = extractFromBody(doc);
+        if (fromBody.isPresent()) {
+            log.debug("Found count {} in page body text", fromBody.get());
+            return new Extraction(fromBody.get(), ExtractionStrategy.BODY);
         }
 
         log.warn("Could not extract job count from HTML for category: {}", categorySlug);
-        return Optional.empty();
+        return new Extraction(null, ExtractionStrategy.NONE);
     }
 
-    private Optional<Integer> extractFromTitle(Document doc) {
+    Optional<Integer> extractFromTitle(Document doc) {
         String title = doc.title();
         return extractNumber(title);
     }
 
-    private Optional<Integer> extractFromMetaDescription(Document doc) {
+    Optional<Integer> extractFromMetaDescription(Document doc) {
         Element metaDesc = doc.selectFirst("meta[name=description]");
         if (metaDesc != null) {
             String content = metaDesc.attr("content");
@@ -138,7 +178,7 @@ public class JustJoinItHtmlParser {
         return Optional.empty();
     }
 
-    private Optional<Integer> extractFromElements(Document doc) {
+    Optional<Integer> extractFromElements(Document doc) {
         // Try specific data-test selectors first (most reliable)
         String[] specificSelectors = {
                 "[data-test='offers-count']",
@@ -158,72 +198,52 @@ public class JustJoinItHtmlParser {
             }
         }
 
+        return Optional.empty();
+    }
+
+    Optional<Integer> extractFromBody(Document doc) {
         // Try to find text containing "N job offers" pattern in the page body
         // This handles "Remote work - 368 job offers" format
         String bodyText = doc.body() != null ? doc.body().text() : "";
-        Optional<Integer> fromBody = extractCountFromText(bodyText);
-        if (fromBody.isPresent()) {
-            log.debug("Found count {} in page body text", fromBody.get());
-            return fromBody;
-        }
-
-        return Optional.empty();
+        return extractCountFromText(bodyText);
     }
 
-    private Optional<Integer> extractCountFromText(String text) {
+    Optional<Integer> extractCountFromText(String text) {
         if (text == null || text.isEmpty()) {
             return Optional.empty();
         }
 
-        String normalized = text.replaceAll("[\\s\\u00A0\\u202F\\u2007\\u2009]+", " ");
-
         // Try main count pattern: "N offers" or "N ofert"
-        Matcher matcher = COUNT_PATTERN.matcher(normalized);
-        if (matcher.find()) {
-            String numberStr = matcher.group(1).replaceAll("[\\s,]", "");
-            try {
-                return Optional.of(Integer.parseInt(numberStr));
-            } catch (NumberFormatException e) {
-                log.debug("Failed to parse number: {}", numberStr);
-            }
+        int count = JobCountTextScanner.findCount(text);
+        if (count >= 0) {
+            return Optional.of(count);
+        }
+        if (count == JobCountTextScanner.OVERFLOW) {
+            log.debug("Count in text does not fit in an int, trying header pattern");
         }
 
         // Try header pattern: "- N job offers"
-        matcher = HEADER_COUNT_PATTERN.matcher(normalized);
-        if (matcher.find()) {
-            String numberStr = matcher.group(1).replaceAll("[\\s,]", "");
-            try {
-                return Optional.of(Integer.parseInt(numberStr));
-            } catch (NumberFormatException e) {
-                log.debug("Failed to parse header number: {}", numberStr);
-            }
+        int headerCount = JobCountTextScanner.findHeaderCount(text);
+        if (headerCount == JobCountTextScanner.OVERFLOW) {
+            log.debug("Header count in text does not fit in an int");
         }
-
-        return Optional.empty();
+        return headerCount >= 0 ? Optional.of(headerCount) : Optional.empty();
     }
 
-    private Optional<Integer> extractNumber(String text) {
+    Optional<Integer> extractNumber(String text) {
         if (text == null || text.isEmpty()) {
             return Optional.empty();
         }
 
-        // Normalize text: replace all whitespace-like characters with regular space
-        String normalized = text.replaceAll("[\\s\\u00A0\\u202F\\u2007\\u2009]+", " ");
-        log.debug("Normalized text: {}", normalized);
-
-        Matcher matcher = COUNT_PATTERN.matcher(normalized);
-        if (matcher.find()) {
-            String numberStr = matcher.group(1).replaceAll("[\\s,]", "");
-            log.debug("Extracted number string: {}", numberStr);
-            try {
-                return Optional.of(Integer.parseInt(numberStr));
-            } catch (NumberFormatException e) {
-                log.debug("Failed to parse number: {}", numberStr);
-            }
+        int count = JobCountTextScanner.findCount(text);
+        if (count == JobCountTextScanner.OVERFLOW) {
+            log.debug("Count in text does not fit in an int: {}", text);
         }
 
         // No fallback - only return count if it matches the expected "N offers" pattern
         // This prevents picking up random numbers from the page (like category counts, dates, etc.)
-        return Optional.empty();
+        return count >= 0 ? Optional.of(count) : Optional.empty();
     }
+
+    record Extraction(Integer count, ExtractionStrategy strategy) {}
 }
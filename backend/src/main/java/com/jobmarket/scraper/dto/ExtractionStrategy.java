@@ -0,0 +1,12 @@
+package com.jobmarket.scraper.dto;
+
+/**
+ * Which part of a listing page the job count was read from.
+ */
+public enum ExtractionStrategy {
+    TITLE,
+    META,
+    ELEMENT,
+    BODY,
+    NONE
+}
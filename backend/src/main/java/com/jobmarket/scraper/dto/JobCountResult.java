@@ -4,6 +4,7 @@ import com.jobmarket.entity.ExperienceLevel;
 import com.jobmarket.entity.MetricType;
 import com.jobmarket.entity.SalaryRange;
 import com.jobmarket.entity.TrackedCategory;
+import com.jobmarket.scraper.anomaly.AnomalyCheckResult;
 import lombok.Builder;
 import lombok.Data;
 
@@ -24,6 +25,7 @@ public class JobCountResult {
     private boolean success;
     private String errorMessage;
     private String source;
+    private AnomalyCheckResult.Reason anomalyReason;
 
     public static JobCountResult success(TrackedCategory category, MetricType metricType,
                                           int count, LocalDateTime fetchedAt, String source) {
@@ -0,0 +1,27 @@
+package com.jobmarket.scraper.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Outcome of a single listing page request: what was requested, how the server
+ * responded and which strategy, if any, yielded the job count.
+ * An {@code httpStatus} of 0 means no HTTP response was received.
+ */
+@Builder
+public record PageFetch(
+    String url,
+    LocalDateTime requestedAt,
+    int httpStatus,
+    long latencyMs,
+    long responseBytes,
+    ExtractionStrategy extractionStrategy,
+    Integer count
+) {
+
+    public Optional<Integer> countIfFound() {
+        return Optional.ofNullable(count);
+    }
+}
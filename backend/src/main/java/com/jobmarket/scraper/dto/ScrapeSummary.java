@@ -0,0 +1,13 @@
+package com.jobmarket.scraper.dto;
+
+/**
+ * Outcome of a scrape run whose results were saved while it ran.
+ *
+ * @param runId id of the scrape run, or null when nothing was scraped
+ */
+public record ScrapeSummary(Long runId, int succeeded, int failed) {
+
+    public int total() {
+        return succeeded + failed;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jobmarket.scraper.event;
+
+/**
+ * Sent to live clients when new records of a category have been committed.
+ *
+ * @param version highest ingest version of the category; usable as {@code since} for
+ *                {@code /api/stats/changes}
+ * @param records records added by the commit
+ */
+public record DataVersionChangedEvent(String category, long version, int records) {}
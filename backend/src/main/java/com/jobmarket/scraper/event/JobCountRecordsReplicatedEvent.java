@@ -0,0 +1,12 @@
+package com.jobmarket.scraper.event;
+
+import com.jobmarket.entity.JobCountRecord;
+
+import java.util.List;
+
+/**
+ * Published when the series store catches up with records another replica committed.
+ * Unlike {@link JobCountRecordsSavedEvent}, nothing was written by this replica, so listeners
+ * should refresh what they cached rather than derive new state from the records.
+ */
+public record JobCountRecordsReplicatedEvent(List<JobCountRecord> records) {}
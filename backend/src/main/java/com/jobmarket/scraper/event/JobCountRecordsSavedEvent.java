@@ -0,0 +1,11 @@
+package com.jobmarket.scraper.event;
+
+import com.jobmarket.entity.JobCountRecord;
+
+import java.util.List;
+
+/**
+ * Published by the scraper whenever a batch of job count records has been persisted.
+ * Listeners that mirror the data elsewhere should react after the transaction commits.
+ */
+public record JobCountRecordsSavedEvent(List<JobCountRecord> records) {}
@@ -0,0 +1,24 @@
+package com.jobmarket.scraper.event;
+
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.MetricType;
+
+/**
+ * Published by the scraper for every cell a run finishes, whether scraped, carried forward
+ * or given up on. {@code count} and {@code source} are null for failed cells.
+ */
+public record ScrapeCellCompletedEvent(
+    Long runId,
+    String category,
+    MetricType metricType,
+    String city,
+    ExperienceLevel experienceLevel,
+    Integer salaryMin,
+    Integer salaryMax,
+    boolean success,
+    Integer count,
+    String source,
+    String anomalyReason,
+    int completedCells,
+    int totalCells
+) {}
@@ -0,0 +1,16 @@
+package com.jobmarket.scraper.event;
+
+/**
+ * Published by the scraper when a run starts and when it completes or fails.
+ *
+ * @param category category slug, or null for a run over all active categories
+ * @param state    RUNNING, COMPLETED or FAILED
+ */
+public record ScrapeRunStateEvent(
+    Long runId,
+    String category,
+    String state,
+    int totalCells,
+    int completedCells,
+    int failedCells
+) {}
@@ -0,0 +1,111 @@
+package com.jobmarket.scraper.history;
+
+import com.jobmarket.entity.ScrapeRequest;
+import com.jobmarket.entity.ScrapeRun;
+import com.jobmarket.entity.ScrapeRunStatus;
+import com.jobmarket.repository.ScrapeRunRepository;
+import com.jobmarket.scraper.dto.JobCountResult;
+import com.jobmarket.scraper.dto.PageFetch;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the lifecycle of scrape runs and the page requests made for each filter cell.
+ * <p>
+ * Run rows are written in their own transactions so they are visible to the request
+ * writer and survive a rollback of the scrape's save transaction. Request rows are
+ * handed to {@link ScrapeHistoryWriter} and never block the scrape.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScrapeHistoryService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ScrapeRunRepository scrapeRunRepository;
+    private final ScrapeHistoryWriter writer;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ScrapeRun startRun(String category, int totalCells) {
+        ScrapeRun run = ScrapeRun.builder()
+                .category(category)
+                .status(ScrapeRunStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .totalCells(totalCells)
+                .build();
+        return scrapeRunRepository.save(run);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void completeRun(Long runId, int successCount, int failedCount) {
+        finishRun(runId, ScrapeRunStatus.COMPLETED, successCount, failedCount, null);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void failRun(Long runId, int successCount, int failedCount, String errorMessage) {
+        finishRun(runId, ScrapeRunStatus.FAILED, successCount, failedCount, errorMessage);
+    }
+
+    /**
+     * Queues one row per page request made for a filter cell, tagged with the cell's
+     * anomaly decision and the source of the value that was kept.
+     */
+    public void recordCell(Long runId, JobCountResult result, List<PageFetch> fetches) {
+        if (fetches.isEmpty() || result == null) {
+            return;
+        }
+
+        String anomalyDecision = result.getAnomalyReason() != null ? result.getAnomalyReason().name() : null;
+        String finalSource = result.isSuccess() ? result.getSource() : ScraperMetrics.SOURCE_FAILED;
+
+        List<ScrapeRequest> requests = new ArrayList<>(fetches.size());
+        for (int i = 0; i < fetches.size(); i++) {
+            PageFetch fetch = fetches.get(i);
+            requests.add(ScrapeRequest.builder()
+                    .runId(runId)
+                    .requestIndex(i)
+                    .category(result.getCategory().getSlug())
+                    .metricType(result.getMetricType())
+                    .city(result.getCity())
+                    .experienceLevel(result.getExperienceLevel())
+                    .salaryMin(result.getSalaryMin())
+                    .salaryMax(result.getSalaryMax())
+                    .url(fetch.url())
+                    .requestedAt(fetch.requestedAt())
+                    .httpStatus(fetch.httpStatus())
+                    .latencyMs((int) Math.min(fetch.latencyMs(), Integer.MAX_VALUE))
+                    .responseBytes(fetch.responseBytes() >= 0
+                            ? (int) Math.min(fetch.responseBytes(), Integer.MAX_VALUE) : null)
+                    .extractionStrategy(fetch.extractionStrategy())
+                    .extractedCount(fetch.count())
+                    .anomalyDecision(anomalyDecision)
+                    .finalSource(finalSource)
+                    .build());
+        }
+        writer.enqueue(requests);
+    }
+
+    private void finishRun(Long runId, ScrapeRunStatus status, int successCount, int failedCount,
+                           String errorMessage) {
+        scrapeRunRepository.findById(runId).ifPresentOrElse(run -> {
+            run.setStatus(status);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setSuccessCount(successCount);
+            run.setFailedCount(failedCount);
+            if (errorMessage != null) {
+                run.setErrorMessage(errorMessage.length() > MAX_ERROR_LENGTH
+                        ? errorMessage.substring(0, MAX_ERROR_LENGTH) : errorMessage);
+            }
+            log.info("Scrape run {} {}: {} succeeded, {} failed", runId, status, successCount, failedCount);
+        }, () -> log.warn("Scrape run {} not found, cannot mark it {}", runId, status));
+    }
+}
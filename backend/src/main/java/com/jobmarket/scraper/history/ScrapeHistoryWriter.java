@@ -0,0 +1,150 @@
+package com.jobmarket.scraper.history;
+
+import com.jobmarket.config.ScrapeHistoryConfig;
+import com.jobmarket.datasource.Workload;
+import com.jobmarket.entity.ScrapeRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes {@code scrape_request} rows off the scrape path. Requests are queued in memory
+ * and inserted by a single background thread in JDBC batches, either when a batch is full
+ * or when the oldest queued request has waited for the configured flush interval.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScrapeHistoryWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO scrape_request (run_id, request_index, category, " +
+            "metric_type, city, experience_level, salary_min, salary_max, url, requested_at, http_status, " +
+            "latency_ms, response_bytes, extraction_strategy, extracted_count, anomaly_decision, final_source) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScrapeHistoryConfig config;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private BlockingQueue<ScrapeRequest> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        running = true;
+        worker = Workload.INGEST.newThread(this::drainLoop, "scrape-history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(config.getFlushIntervalMs() * 2);
+    }
+
+    /**
+     * Queues requests for writing without blocking. Requests that do not fit are dropped.
+     */
+    public void enqueue(List<ScrapeRequest> requests) {
+        for (ScrapeRequest request : requests) {
+            if (!queue.offer(request)) {
+                long dropped = droppedCount.incrementAndGet();
+                log.warn("Scrape history queue is full, dropped request for {} ({} dropped so far)",
+                        request.getUrl(), dropped);
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<ScrapeRequest> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                ScrapeRequest first = queue.poll(config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMs());
+                while (running && batch.size() < config.getBatchSize()) {
+                    queue.drainTo(batch, config.getBatchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= config.getBatchSize() || remaining <= 0) {
+                        break;
+                    }
+                    ScrapeRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                queue.drainTo(batch, config.getBatchSize() - batch.size());
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} scrape history rows: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ScrapeRequest> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ScrapeRequest request = batch.get(i);
+                ps.setLong(1, request.getRunId());
+                ps.setInt(2, request.getRequestIndex());
+                ps.setString(3, request.getCategory());
+                ps.setString(4, request.getMetricType().name());
+                ps.setString(5, request.getCity());
+                ps.setString(6, request.getExperienceLevel() != null ? request.getExperienceLevel().name() : null);
+                setNullableInt(ps, 7, request.getSalaryMin());
+                setNullableInt(ps, 8, request.getSalaryMax());
+                ps.setString(9, request.getUrl());
+                ps.setTimestamp(10, Timestamp.valueOf(request.getRequestedAt()));
+                ps.setInt(11, request.getHttpStatus());
+                ps.setInt(12, request.getLatencyMs());
+                setNullableInt(ps, 13, request.getResponseBytes());
+                ps.setString(14, request.getExtractionStrategy() != null ? request.getExtractionStrategy().name() : null);
+                setNullableInt(ps, 15, request.getExtractedCount());
+                ps.setString(16, request.getAnomalyDecision());
+                ps.setString(17, request.getFinalSource());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+        log.debug("Wrote {} scrape history rows", batch.size());
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.jobmarket.scraper.metrics;
+
+import com.jobmarket.scraper.dto.ExtractionStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Central place for the scrape pipeline's Micrometer meters, so meter names and tags
+ * stay consistent between the scraper service, the HTTP clients and anomaly detection.
+ * Everything is exposed through the actuator {@code metrics} and {@code prometheus} endpoints.
+ */
+@Component
+public class ScraperMetrics {
+
+    public static final String PHASE_FETCH = "fetch";
+    public static final String PHASE_ANOMALY_CHECK = "anomaly_check";
+    public static final String PHASE_RETRY_WAIT = "retry_wait";
+    public static final String PHASE_DELAY = "delay";
+    public static final String PHASE_SAVE = "save";
+
+    public static final String SOURCE_FAILED = "FAILED";
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> cellsRemaining = new ConcurrentHashMap<>();
+
+    public ScraperMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Records one HTML page request. A status of 0 means no HTTP response was received.
+     */
+    public void recordHttpRequest(long durationNanos, int status, long bytes) {
+        Timer.builder("scraper.http.requests")
+                .description("Latency of justjoin.it page requests")
+                .tag("status", String.valueOf(status))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        if (bytes >= 0) {
+            DistributionSummary.builder("scraper.http.response.size")
+                    .description("Size of justjoin.it page responses")
+                    .baseUnit("bytes")
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(bytes);
+        }
+    }
+
+    public void recordApiRequest(long durationNanos, boolean success, int offers) {
+        Timer.builder("scraper.api.requests")
+                .description("Latency of justjoin.it API requests")
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        if (success) {
+            registry.summary("scraper.api.offers").record(offers);
+        }
+    }
+
+    public void recordParse(long durationNanos) {
+        registry.timer("scraper.html.parse").record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts which extraction strategy produced the job count, {@code none} if no strategy did.
+     */
+    public void recordExtraction(ExtractionStrategy strategy) {
+        Counter.builder("scraper.extractions")
+                .tag("strategy", strategy.name().toLowerCase())
+                .register(registry)
+                .increment();
+    }
+
+    public void recordPhase(String phase, long durationNanos) {
+        Timer.builder("scraper.phase")
+                .description("Time spent per scrape pipeline phase")
+                .tag("phase", phase)
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Exposes the current request rate of the adaptive pacer, in requests per minute.
+     */
+    public <T> void registerPacingRate(T pacer, ToDoubleFunction<T> rate) {
+        Gauge.builder("scraper.pacing.rate", pacer, rate)
+                .description("Current scraping request rate")
+                .baseUnit("requests/min")
+                .register(registry);
+    }
+
+    /**
+     * Counts a multiplicative backoff of the request rate by the signal that caused it.
+     */
+    public void recordBackoff(String signal) {
+        registry.counter("scraper.pacing.backoffs", "signal", signal).increment();
+    }
+
+    /**
+     * Counts a cell deferred to the retry pass, by reason ({@code anomaly} or {@code failure}).
+     */
+    public void recordRetry(String reason) {
+        registry.counter("scraper.retries", "reason", reason).increment();
+    }
+
+    public void recordAnomalyQuery(long durationNanos) {
+        registry.timer("scraper.anomaly.query").record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAnomaly() {
+        registry.counter("scraper.anomalies").increment();
+    }
+
+    /**
+     * Counts a finished cell by the source of its result, or {@link #SOURCE_FAILED}.
+     */
+    public void recordResult(String category, String source) {
+        registry.counter("scraper.results", Tags.of("category", category, "source", source)).increment();
+    }
+
+    /**
+     * Sets the category's remaining cells at the start of its run; {@link #finishRun} resets it
+     * however the run ends, so an interrupted or failed run leaves no cells behind.
+     */
+    public void startRun(String category, int cells) {
+        remainingFor(category).set(cells);
+    }
+
+    public void finishRun(String category) {
+        remainingFor(category).set(0);
+    }
+
+    public void cellCompleted(String category) {
+        remainingFor(category).decrementAndGet();
+    }
+
+    private AtomicInteger remainingFor(String category) {
+        return cellsRemaining.computeIfAbsent(category, c ->
+                registry.gauge("scraper.cells.remaining", Tags.of("category", c), new AtomicInteger()));
+    }
+}
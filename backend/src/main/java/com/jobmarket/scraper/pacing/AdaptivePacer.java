@@ -0,0 +1,127 @@
+package com.jobmarket.scraper.pacing;
+
+import com.jobmarket.config.ScraperConfig;
+import com.jobmarket.scraper.dto.PageFetch;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces listing page requests with additive-increase/multiplicative-decrease (AIMD).
+ * <p>
+ * Every healthy response raises the request rate by {@code rateIncreasePerMinute}; a distress
+ * signal (429, 503 or another 5xx, no response at all, a response slower than
+ * {@code slowResponseMs}, or a page without an extractable count) multiplies it by
+ * {@code backoffFactor}. The rate always stays between {@code minRequestsPerMinute} and
+ * {@code maxRequestsPerMinute}, and is kept across runs so each run starts from what the
+ * site tolerated last.
+ */
+@Component
+@Slf4j
+public class AdaptivePacer {
+
+    static final String SIGNAL_THROTTLED = "throttled";
+    static final String SIGNAL_UNAVAILABLE = "unavailable";
+    static final String SIGNAL_SERVER_ERROR = "server_error";
+    static final String SIGNAL_NO_RESPONSE = "no_response";
+    static final String SIGNAL_SLOW = "slow";
+    static final String SIGNAL_EXTRACTION_FAILED = "extraction_failed";
+
+    private final ScraperConfig config;
+    private final ScraperMetrics metrics;
+    private double requestsPerMinute;
+    private long nextSlotNanos = System.nanoTime();
+
+    public AdaptivePacer(ScraperConfig config, ScraperMetrics metrics) {
+        this.config = config;
+        this.metrics = metrics;
+        this.requestsPerMinute = clamp(config.getInitialRequestsPerMinute());
+        metrics.registerPacingRate(this, AdaptivePacer::currentRate);
+    }
+
+    /**
+     * Sleeps until the next request may be sent at the current rate. Concurrent callers get
+     * consecutive slots, so the rate applies to all scrape workers together.
+     */
+    public void awaitNextRequest() throws InterruptedException {
+        long slotNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            slotNanos = Math.max(now, nextSlotNanos) + TimeUnit.MILLISECONDS.toNanos(nextDelayMs());
+            nextSlotNanos = slotNanos;
+        }
+        long waitMs = TimeUnit.NANOSECONDS.toMillis(slotNanos - System.nanoTime());
+        if (waitMs > 0) {
+            Thread.sleep(waitMs);
+        }
+    }
+
+    /**
+     * Adjusts the rate to the outcome of a page request.
+     */
+    public void onResponse(PageFetch fetch) {
+        String signal = distressSignal(fetch);
+        if (signal != null) {
+            backOff(signal);
+        } else if (fetch.httpStatus() >= 200 && fetch.httpStatus() < 300) {
+            increase();
+        }
+        // Other statuses (e.g. 404 for an unknown filter combination) say nothing about load
+    }
+
+    public synchronized double currentRate() {
+        return requestsPerMinute;
+    }
+
+    synchronized long nextDelayMs() {
+        double baseDelay = 60_000 / requestsPerMinute;
+        double jitter = config.getDelayJitter() > 0
+                ? ThreadLocalRandom.current().nextDouble(-config.getDelayJitter(), config.getDelayJitter())
+                : 0;
+        return Math.max(0, Math.round(baseDelay * (1 + jitter)));
+    }
+
+    private synchronized void increase() {
+        requestsPerMinute = clamp(requestsPerMinute + config.getRateIncreasePerMinute());
+    }
+
+    private synchronized void backOff(String signal) {
+        double previous = requestsPerMinute;
+        requestsPerMinute = clamp(requestsPerMinute * config.getBackoffFactor());
+        metrics.recordBackoff(signal);
+        log.info("Backing off after {} response: {} -> {} requests/min",
+                signal, String.format(Locale.ROOT, "%.1f", previous),
+                String.format(Locale.ROOT, "%.1f", requestsPerMinute));
+    }
+
+    private String distressSignal(PageFetch fetch) {
+        int status = fetch.httpStatus();
+        if (status == 429) {
+            return SIGNAL_THROTTLED;
+        }
+        if (status == 503) {
+            return SIGNAL_UNAVAILABLE;
+        }
+        if (status >= 500) {
+            return SIGNAL_SERVER_ERROR;
+        }
+        if (status == 0) {
+            return SIGNAL_NO_RESPONSE;
+        }
+        if (fetch.latencyMs() > config.getSlowResponseMs()) {
+            return SIGNAL_SLOW;
+        }
+        if (status >= 200 && status < 300 && fetch.count() == null) {
+            return SIGNAL_EXTRACTION_FAILED;
+        }
+        return null;
+    }
+
+    private double clamp(double rate) {
+        return Math.min(config.getMaxRequestsPerMinute(), Math.max(config.getMinRequestsPerMinute(), rate));
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobmarket.scraper.pacing;
+
+import java.time.Duration;
+
+/**
+ * Spreads a run's cells evenly between its start and a deadline, so a daily run uses its
+ * whole time window instead of bursting at the start. Cell {@code i} is not started before
+ * {@code start + i * spacing}; cells that fall behind start as soon as the
+ * {@link AdaptivePacer} allows.
+ */
+public final class RequestTimeline {
+
+    private static final RequestTimeline UNPACED = new RequestTimeline(0, 0);
+
+    private final long startNanos;
+    private final long spacingNanos;
+    private int nextSlot;
+
+    private RequestTimeline(long startNanos, long spacingNanos) {
+        this.startNanos = startNanos;
+        this.spacingNanos = spacingNanos;
+    }
+
+    /**
+     * A timeline that never waits, leaving pacing to the {@link AdaptivePacer} alone.
+     */
+    public static RequestTimeline unpaced() {
+        return UNPACED;
+    }
+
+    /**
+     * Spreads {@code slots} cells evenly over {@code window}, starting now.
+     */
+    public static RequestTimeline spread(Duration window, int slots) {
+        if (slots <= 1 || window.isNegative() || window.isZero()) {
+            return UNPACED;
+        }
+        return new RequestTimeline(System.nanoTime(), window.toNanos() / slots);
+    }
+
+    public long spacingMs() {
+        return spacingNanos / 1_000_000;
+    }
+
+    /**
+     * Sleeps until the next cell's slot has been reached.
+     */
+    public void awaitNextSlot() throws InterruptedException {
+        if (spacingNanos == 0) {
+            return;
+        }
+        long slotNanos;
+        synchronized (this) {
+            slotNanos = startNanos + nextSlot++ * spacingNanos;
+        }
+        long waitNanos = slotNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jobmarket.scraper.persistence;
+
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.repository.IngestVersionRepository;
+import com.jobmarket.repository.JobCountRecordJdbcRepository;
+import com.jobmarket.repository.JobCountRecordRepository;
+import com.jobmarket.scraper.dto.JobCountResult;
+import com.jobmarket.scraper.event.JobCountRecordsSavedEvent;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persists one micro-batch of scrape results in its own short transaction, so a connection
+ * is only held while a batch is written and not for the whole run. All records of a batch share
+ * one ingest version.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobCountResultWriter {
+
+    private final JobCountRecordRepository jobCountRecordRepository;
+    private final JobCountRecordJdbcRepository jobCountRecordJdbcRepository;
+    private final IngestVersionRepository ingestVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScraperMetrics metrics;
+
+    @Transactional
+    public void write(List<JobCountResult> results) {
+        log.debug("Saving {} job count results", results.size());
+        long start = System.nanoTime();
+
+        int successCount = 0;
+        int skippedCount = 0;
+        int failCount = 0;
+        List<Long> savedIds = new ArrayList<>();
+        Long ingestVersion = null;
+
+        for (JobCountResult result : results) {
+            if (result.isSuccess()) {
+                if (ingestVersion == null) {
+                    ingestVersion = ingestVersionRepository.next();
+                }
+                LocalDate recordDate = result.getFetchedAt().toLocalDate();
+                String location = result.getCity() != null ? result.getCity() : result.getMetricType().getLocation();
+                JobCountRecord record = JobCountRecord.builder()
+                        .category(result.getCategory().getSlug())
+                        .count(result.getCount())
+                        .fetchedAt(result.getFetchedAt())
+                        .location(location)
+                        .metricType(result.getMetricType())
+                        .city(result.getCity())
+                        .experienceLevel(result.getExperienceLevel())
+                        .salaryMin(result.getSalaryMin())
+                        .salaryMax(result.getSalaryMax())
+                        .recordDate(recordDate)
+                        .source(result.getSource())
+                        .ingestVersion(ingestVersion)
+                        .build();
+
+                // Atomic per series and day, so a concurrent scrape of the same cell cannot double-write
+                Optional<Long> id = jobCountRecordJdbcRepository.insertIfAbsent(record);
+                if (id.isEmpty()) {
+                    log.debug("Skipping duplicate record for category='{}' metric={} city={} exp={} salary={}/{} date={}",
+                            result.getCategory().getSlug(), result.getMetricType(), result.getCity(),
+                            result.getExperienceLevel(), result.getSalaryMin(), result.getSalaryMax(), recordDate);
+                    skippedCount++;
+                    continue;
+                }
+                savedIds.add(id.get());
+                successCount++;
+            } else {
+                failCount++;
+            }
+        }
+
+        log.info("Saved {} records, skipped {} duplicates, {} failures", successCount, skippedCount, failCount);
+        metrics.recordPhase(ScraperMetrics.PHASE_SAVE, System.nanoTime() - start);
+
+        if (!savedIds.isEmpty()) {
+            eventPublisher.publishEvent(new JobCountRecordsSavedEvent(jobCountRecordRepository.findAllById(savedIds)));
+        }
+    }
+}
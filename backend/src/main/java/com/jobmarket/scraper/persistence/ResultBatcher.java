@@ -0,0 +1,83 @@
+package com.jobmarket.scraper.persistence;
+
+import com.jobmarket.scraper.dto.JobCountResult;
+import com.jobmarket.scraper.dto.ScrapeSummary;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Buffers the results of one run and hands them to a writer in micro-batches: when
+ * {@code batchSize} results are buffered or the oldest buffered result has waited
+ * {@code maxDelay}. Only the current batch is held in memory; the run keeps counts.
+ * <p>
+ * Used by the single thread running a scrape, so it is not thread-safe.
+ */
+public class ResultBatcher {
+
+    private final Consumer<List<JobCountResult>> writer;
+    private final int batchSize;
+    private final long maxDelayNanos;
+
+    private List<JobCountResult> batch = new ArrayList<>();
+    private long oldestNanos;
+    private int succeeded;
+    private int failed;
+
+    /**
+     * @param maxDelay longest a result waits for its batch to fill, or zero to wait for a full batch
+     */
+    public ResultBatcher(Consumer<List<JobCountResult>> writer, int batchSize, Duration maxDelay) {
+        this.writer = writer;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    /**
+     * Batcher that writes nothing and collects every result into {@code into} on flush.
+     */
+    public static ResultBatcher collecting(List<JobCountResult> into) {
+        return new ResultBatcher(into::addAll, Integer.MAX_VALUE, Duration.ZERO);
+    }
+
+    public void add(JobCountResult result) {
+        if (batch.isEmpty()) {
+            oldestNanos = System.nanoTime();
+        }
+        batch.add(result);
+        if (result.isSuccess()) {
+            succeeded++;
+        } else {
+            failed++;
+        }
+        if (batch.size() >= batchSize || (maxDelayNanos > 0 && System.nanoTime() - oldestNanos >= maxDelayNanos)) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffered results, if any. A batch the writer rejects stays buffered, so the
+     * next flush, such as the one saving a failed run, writes it again.
+     */
+    public void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        writer.accept(batch);
+        batch = new ArrayList<>();
+    }
+
+    public int succeeded() {
+        return succeeded;
+    }
+
+    public int failed() {
+        return failed;
+    }
+
+    public ScrapeSummary summary(Long runId) {
+        return new ScrapeSummary(runId, succeeded, failed);
+    }
+}
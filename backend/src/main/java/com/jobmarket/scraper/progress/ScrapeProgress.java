@@ -0,0 +1,137 @@
+package com.jobmarket.scraper.progress;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live progress of one scrape run, written by the thread running it and read by anyone
+ * polling it. All counters are updated per finished cell.
+ */
+public class ScrapeProgress {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String category;
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final AtomicInteger completedCells = new AtomicInteger();
+    private final AtomicInteger failedCells = new AtomicInteger();
+    private final AtomicInteger carriedCells = new AtomicInteger();
+
+    private volatile State state = State.PENDING;
+    private volatile Long runId;
+    private volatile int totalCells;
+    private volatile LocalDateTime startedAt;
+    private volatile long startedNanos;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+
+    /**
+     * @param category category slug, or null for a run over all active categories
+     */
+    public ScrapeProgress(String category) {
+        this.category = category;
+    }
+
+    public void runStarted(Long runId, int totalCells) {
+        this.runId = runId;
+        this.totalCells = totalCells;
+        this.startedAt = LocalDateTime.now();
+        this.startedNanos = System.nanoTime();
+        this.state = State.RUNNING;
+        started.countDown();
+    }
+
+    public void cellCompleted(boolean success, boolean carried) {
+        completedCells.incrementAndGet();
+        if (!success) {
+            failedCells.incrementAndGet();
+        }
+        if (carried) {
+            carriedCells.incrementAndGet();
+        }
+    }
+
+    public void completed() {
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+        started.countDown();
+    }
+
+    public void failed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        finishedAt = LocalDateTime.now();
+        state = State.FAILED;
+        started.countDown();
+    }
+
+    /**
+     * Waits until the run has its id, or has failed before getting one.
+     *
+     * @return whether the run started within {@code timeout}
+     */
+    public boolean awaitStart(Duration timeout) throws InterruptedException {
+        return started.await(timeout.toMillis(), TimeUnit.MILLISECONDS) && runId != null;
+    }
+
+    /**
+     * Estimated time left, extrapolated from the cells finished so far; null until the first
+     * scraped cell finished or once the run is no longer scraping.
+     */
+    public Duration estimatedRemaining() {
+        int scraped = completedCells.get() - carriedCells.get();
+        if (state != State.RUNNING || scraped <= 0) {
+            return null;
+        }
+        long elapsedNanos = System.nanoTime() - startedNanos;
+        int remaining = Math.max(totalCells - completedCells.get(), 0);
+        return Duration.ofNanos(elapsedNanos / scraped * remaining);
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public int getTotalCells() {
+        return totalCells;
+    }
+
+    public int getCompletedCells() {
+        return completedCells.get();
+    }
+
+    public int getFailedCells() {
+        return failedCells.get();
+    }
+
+    public int getCarriedCells() {
+        return carriedCells.get();
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -0,0 +1,90 @@
+package com.jobmarket.scraper.retry;
+
+import com.jobmarket.scraper.anomaly.AnomalyCheckResult;
+import com.jobmarket.scraper.dto.PageFetch;
+import com.jobmarket.scraper.sampling.ScrapeCell;
+
+import java.util.List;
+
+/**
+ * A cell whose result is not final yet: either its count looked anomalous and must be
+ * confirmed by a second fetch, or fetching it failed. Keeps every page fetched for the
+ * cell so far, so the scrape history still shows all attempts.
+ */
+public final class DeferredCell {
+
+    private final ScrapeCell cell;
+    private final List<PageFetch> fetches;
+    private AnomalyCheckResult anomalyCheck;
+    private Integer suspectCount;
+    private String lastError;
+    private int failures;
+    private long dueAtNanos;
+
+    private DeferredCell(ScrapeCell cell, List<PageFetch> fetches) {
+        this.cell = cell;
+        this.fetches = fetches;
+    }
+
+    public static DeferredCell suspect(ScrapeCell cell, List<PageFetch> fetches, int count,
+                                       AnomalyCheckResult anomalyCheck) {
+        DeferredCell deferred = new DeferredCell(cell, fetches);
+        deferred.markSuspect(count, anomalyCheck);
+        return deferred;
+    }
+
+    public static DeferredCell failed(ScrapeCell cell, List<PageFetch> fetches, String error) {
+        DeferredCell deferred = new DeferredCell(cell, fetches);
+        deferred.recordFailure(error);
+        return deferred;
+    }
+
+    /**
+     * Marks the cell's latest count as anomalous, to be confirmed by the next fetch.
+     */
+    public void markSuspect(int count, AnomalyCheckResult anomalyCheck) {
+        this.suspectCount = count;
+        this.anomalyCheck = anomalyCheck;
+    }
+
+    public void recordFailure(String error) {
+        this.lastError = error;
+        this.failures++;
+    }
+
+    public boolean isSuspect() {
+        return anomalyCheck != null;
+    }
+
+    public ScrapeCell cell() {
+        return cell;
+    }
+
+    public List<PageFetch> fetches() {
+        return fetches;
+    }
+
+    public AnomalyCheckResult anomalyCheck() {
+        return anomalyCheck;
+    }
+
+    public Integer suspectCount() {
+        return suspectCount;
+    }
+
+    public String lastError() {
+        return lastError;
+    }
+
+    public int failures() {
+        return failures;
+    }
+
+    long dueAtNanos() {
+        return dueAtNanos;
+    }
+
+    void dueAt(long nanos) {
+        this.dueAtNanos = nanos;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobmarket.scraper.retry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Cells of one run waiting for a retry, ordered by when they become due. The run's main pass
+ * only enqueues, so it never stalls on a retry delay; the retry pass at the end of the run
+ * takes cells in due order and sleeps only when none is due yet.
+ * <p>
+ * Failed fetches back off exponentially: the n-th failure of a cell is retried after
+ * {@code baseDelayMs * 2^(n-1)}, capped at {@code maxDelayMs}.
+ */
+public final class DeferredRetryQueue {
+
+    private final PriorityQueue<DeferredCell> queue =
+            new PriorityQueue<>(Comparator.comparingLong(DeferredCell::dueAtNanos));
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    public DeferredRetryQueue(long baseDelayMs, long maxDelayMs) {
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    /**
+     * Queues a cell to be retried after {@code delayMs}.
+     */
+    public void defer(DeferredCell cell, long delayMs) {
+        cell.dueAt(System.nanoTime() + delayMs * 1_000_000);
+        queue.add(cell);
+    }
+
+    /**
+     * Queues a failed cell with the backoff for its number of failures so far.
+     */
+    public void deferAfterFailure(DeferredCell cell) {
+        defer(cell, backoffMs(cell.failures()));
+    }
+
+    long backoffMs(int failures) {
+        int exponent = Math.min(Math.max(failures - 1, 0), 30);
+        return Math.min(baseDelayMs << exponent, maxDelayMs);
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Removes and returns the cell that is due first, sleeping until it is due.
+     */
+    public DeferredCell awaitNext() throws InterruptedException {
+        DeferredCell next = queue.poll();
+        if (next == null) {
+            throw new IllegalStateException("No deferred cells");
+        }
+        long waitNanos = next.dueAtNanos() - System.nanoTime();
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+        return next;
+    }
+
+    /**
+     * Removes and returns every remaining cell without waiting.
+     */
+    public List<DeferredCell> drain() {
+        List<DeferredCell> remaining = new ArrayList<>(queue);
+        queue.clear();
+        return remaining;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobmarket.scraper.sampling;
+
+import com.jobmarket.config.ScrapeOrderConfig;
+import com.jobmarket.series.SeriesAccessCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders the cells of a run so the series users look at are refreshed first: the headline
+ * cells (every metric for all locations, levels and salaries) in metric order, then cells by
+ * how often their series is requested, then the rest in declaration order.
+ */
+@Component
+@RequiredArgsConstructor
+public class CellPrioritizer {
+
+    private final ScrapeOrderConfig config;
+    private final SeriesAccessCounter accessCounter;
+
+    public List<ScrapeCell> order(String category, List<ScrapeCell> cells) {
+        if (!config.isEnabled()) {
+            return cells;
+        }
+        Map<ScrapeCell, Long> views = new HashMap<>();
+        for (ScrapeCell cell : cells) {
+            views.put(cell, isHeadline(cell) ? 0 : accessCounter.count(cell.seriesKey(category)));
+        }
+        List<ScrapeCell> ordered = new ArrayList<>(cells);
+        // List.sort is stable, so equally ranked cells keep their declaration order
+        ordered.sort(Comparator.comparing((ScrapeCell cell) -> !isHeadline(cell))
+                .thenComparing(views::get, Comparator.reverseOrder()));
+        return ordered;
+    }
+
+    static boolean isHeadline(ScrapeCell cell) {
+        return cell.city() == null && cell.experienceLevel() == null && cell.salaryRange() == null;
+    }
+}
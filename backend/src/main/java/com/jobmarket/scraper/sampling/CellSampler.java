@@ -0,0 +1,120 @@
+package com.jobmarket.scraper.sampling;
+
+import com.jobmarket.config.SamplingConfig;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.repository.JobCountRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decides which cells of a category a run scrapes, so a run's requests go where the data moves.
+ * <p>
+ * Volatility of a cell is the mean absolute day-over-day log change between its scraped values
+ * in the last {@code historyDays}, scaled to one day for gaps. Its priority is the change
+ * expected since it was last scraped: volatility times the square root of the days since then.
+ * Cells with too little history or a last scraped value older than {@code maxCarryDays} are
+ * always scraped; the rest of the request budget goes to the cells with the highest priority.
+ * Every other cell carries its last value forward under {@link #SOURCE_CARRIED}. Carried and
+ * {@link #SOURCE_PREVIOUS_DAY} values repeat an earlier count, so neither counts as scraped.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CellSampler {
+
+    public static final String SOURCE_CARRIED = "CARRIED";
+    public static final String SOURCE_PREVIOUS_DAY = "PREVIOUS_DAY";
+    private static final Set<String> NOT_OBSERVED = Set.of(SOURCE_CARRIED, SOURCE_PREVIOUS_DAY);
+
+    private final JobCountRecordRepository jobCountRecordRepository;
+    private final SamplingConfig config;
+
+    public SamplingPlan plan(String category, List<ScrapeCell> cells, LocalDate today) {
+        int fullRequests = cells.stream().mapToInt(ScrapeCell::requestCost).sum();
+        if (!config.isEnabled() || config.getRequestBudgetFraction() >= 1) {
+            return SamplingPlan.scrapeAll(fullRequests);
+        }
+
+        Map<String, List<JobCountRecord>> history = new HashMap<>();
+        for (JobCountRecord record : jobCountRecordRepository.findByCategoryAndRecordDateGreaterThanEqualOrderByRecordDateAsc(
+                category, today.minusDays(config.getHistoryDays()))) {
+            history.computeIfAbsent(record.getSeriesKey(), key -> new ArrayList<>()).add(record);
+        }
+
+        int budget = (int) Math.ceil(fullRequests * Math.max(0, config.getRequestBudgetFraction()));
+        int requests = 0;
+        List<Candidate> candidates = new ArrayList<>();
+        Map<ScrapeCell, Integer> carriedCounts = new LinkedHashMap<>();
+
+        for (ScrapeCell cell : cells) {
+            List<JobCountRecord> records = history.getOrDefault(cell.seriesKey(category).encode(), List.of());
+            List<JobCountRecord> scraped = records.stream().filter(r -> isObserved(r.getSource())).toList();
+            if (scraped.size() < config.getMinObservations()) {
+                requests += cell.requestCost();
+                continue;
+            }
+            long daysSinceScraped = ChronoUnit.DAYS.between(scraped.get(scraped.size() - 1).getRecordDate(), today);
+            if (daysSinceScraped >= config.getMaxCarryDays()) {
+                requests += cell.requestCost();
+                continue;
+            }
+            double priority = volatility(scraped) * Math.sqrt(Math.max(1, daysSinceScraped));
+            candidates.add(new Candidate(cell, priority, records.get(records.size() - 1).getCount()));
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::priority).reversed());
+        for (Candidate candidate : candidates) {
+            int cost = candidate.cell().requestCost();
+            if (requests + cost <= budget) {
+                requests += cost;
+            } else {
+                carriedCounts.put(candidate.cell(), candidate.lastCount());
+            }
+        }
+
+        log.info("Sampling plan for '{}': {} of {} requests, {} of {} cells carried forward",
+                category, requests, fullRequests, carriedCounts.size(), cells.size());
+        return new SamplingPlan(carriedCounts, requests, fullRequests);
+    }
+
+    /**
+     * Mean absolute log change per day between consecutive scraped values.
+     */
+    static double volatility(List<JobCountRecord> scraped) {
+        double sum = 0;
+        int pairs = 0;
+        for (int i = 1; i < scraped.size(); i++) {
+            JobCountRecord previous = scraped.get(i - 1);
+            JobCountRecord current = scraped.get(i);
+            long gapDays = ChronoUnit.DAYS.between(previous.getRecordDate(), current.getRecordDate());
+            if (gapDays <= 0) {
+                continue;
+            }
+            double change = Math.abs(Math.log((current.getCount() + 1.0) / (previous.getCount() + 1.0)));
+            sum += change / Math.sqrt(gapDays);
+            pairs++;
+        }
+        return pairs > 0 ? sum / pairs : 0;
+    }
+
+    /**
+     * Whether a value from {@code source} was observed on its day rather than repeated from an earlier one.
+     */
+    public static boolean isObserved(String source) {
+        return !NOT_OBSERVED.contains(source);
+    }
+
+    private record Candidate(ScrapeCell cell, double priority, int lastCount) {
+    }
+}
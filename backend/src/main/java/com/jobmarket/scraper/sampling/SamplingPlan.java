@@ -0,0 +1,29 @@
+package com.jobmarket.scraper.sampling;
+
+import java.util.Map;
+
+/**
+ * Which cells of a run are scraped and which carry their last value forward.
+ *
+ * @param carriedCounts last known count of every cell that is not scraped this run
+ * @param requests      page requests the scraped cells need
+ * @param fullRequests  page requests scraping every cell would need
+ */
+public record SamplingPlan(
+    Map<ScrapeCell, Integer> carriedCounts,
+    int requests,
+    int fullRequests
+) {
+
+    public static SamplingPlan scrapeAll(int fullRequests) {
+        return new SamplingPlan(Map.of(), fullRequests, fullRequests);
+    }
+
+    public boolean isCarried(ScrapeCell cell) {
+        return carriedCounts.containsKey(cell);
+    }
+
+    public int carriedCount(ScrapeCell cell) {
+        return carriedCounts.get(cell);
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobmarket.scraper.sampling;
+
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.series.SeriesKey;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One filter combination scraped for a category. A {@code null} city, experience level or
+ * salary range stands for "all".
+ */
+public record ScrapeCell(
+    MetricType metricType,
+    String city,
+    ExperienceLevel experienceLevel,
+    SalaryRange salaryRange
+) {
+
+    /**
+     * Every combination of the given options, in the order a run scrapes them.
+     */
+    public static List<ScrapeCell> combinations(List<String> cityOptions, List<ExperienceLevel> experienceLevels,
+                                                List<SalaryRange> salaryRanges) {
+        List<ScrapeCell> cells = new ArrayList<>();
+        for (MetricType metricType : MetricType.values()) {
+            for (String city : cityOptions) {
+                for (ExperienceLevel experienceLevel : experienceLevels) {
+                    for (SalaryRange salaryRange : salaryRanges) {
+                        cells.add(new ScrapeCell(metricType, city, experienceLevel, salaryRange));
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    public SeriesKey seriesKey(String category) {
+        return SeriesKey.of(category, metricType, city, experienceLevel, salaryRange);
+    }
+
+    /**
+     * Page requests needed to scrape the cell; salary ranges counted by subtraction take two.
+     */
+    public int requestCost() {
+        return salaryRange != null && salaryRange.isRequiresSubtraction() ? 2 : 1;
+    }
+}
@@ -0,0 +1,497 @@
+package com.jobmarket.series;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Dense, memory-mapped store of daily job counts.
+ * <p>
+ * Every series owns a contiguous block of {@code dayCapacity} fixed-size slots, one per
+ * epoch day starting at {@code baseEpochDay}, so a history read is a linear walk over a
+ * slice of the mapped file. Series keys live in a sidecar text file whose line number is
+ * the series id. A series that ever receives two records for the same day is marked
+ * ambiguous, since a single slot per day cannot reproduce what the database would return.
+ */
+public class MappedSeriesStore implements Closeable {
+
+    static final int MAGIC = 0x4A4D5353;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int SLOT_BYTES = 24;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int BASE_DAY_OFFSET = 8;
+    private static final int DAY_CAPACITY_OFFSET = 12;
+    private static final int SERIES_CAPACITY_OFFSET = 16;
+    private static final int SERIES_COUNT_OFFSET = 20;
+    private static final int MAX_DAY_OFFSET = 24;
+    private static final int LAST_RECORD_ID_OFFSET = 32;
+    private static final int RECORD_COUNT_OFFSET = 40;
+
+    // Slot layout: record id (0 = empty), fetchedAt as epoch micros, count
+    private static final int SLOT_RECORD_ID = 0;
+    private static final int SLOT_FETCHED_AT = 8;
+    private static final int SLOT_COUNT = 16;
+
+    private static final int NO_DATA = Integer.MIN_VALUE;
+
+    static final String DATA_FILE = "series.dat";
+    static final String KEYS_FILE = "series.keys";
+    private static final String AMBIGUOUS_PREFIX = "!";
+
+    /**
+     * Receives points read from the store without allocating an object per point.
+     */
+    @FunctionalInterface
+    public interface PointConsumer {
+        void accept(long recordId, long fetchedAtMicros, int count);
+    }
+
+    private final Path directory;
+    private final int initialDayCapacity;
+    private final int initialSeriesCapacity;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<SeriesKey, Integer> ids = new HashMap<>();
+    private final List<SeriesKey> keys = new ArrayList<>();
+    private final BitSet ambiguous = new BitSet();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private BufferedWriter keysWriter;
+
+    private int baseEpochDay;
+    private int dayCapacity;
+    private int seriesCapacity;
+    private int maxEpochDay;
+    private long lastRecordId;
+    private long recordCount;
+
+    private MappedSeriesStore(Path directory, int initialDayCapacity, int initialSeriesCapacity) {
+        this.directory = directory;
+        this.initialDayCapacity = initialDayCapacity;
+        this.initialSeriesCapacity = initialSeriesCapacity;
+    }
+
+    /**
+     * Opens the store in the given directory, reusing an existing snapshot when it is
+     * readable and starting from an empty store otherwise.
+     */
+    public static MappedSeriesStore open(Path directory, int initialDayCapacity,
+                                         int initialSeriesCapacity) throws IOException {
+        Files.createDirectories(directory);
+        MappedSeriesStore store = new MappedSeriesStore(directory, initialDayCapacity, initialSeriesCapacity);
+        if (!store.load()) {
+            store.create();
+        }
+        return store;
+    }
+
+    public static long toMicros(LocalDateTime dateTime) {
+        long micros = dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+        // Postgres rounds timestamps to the nearest microsecond
+        return dateTime.getNano() % 1_000 >= 500 ? micros + 1 : micros;
+    }
+
+    public static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    public long getLastRecordId() {
+        lock.readLock().lock();
+        try {
+            return lastRecordId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getRecordCount() {
+        lock.readLock().lock();
+        try {
+            return recordCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSeriesCount() {
+        lock.readLock().lock();
+        try {
+            return keys.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the id of the series, or -1 if the store holds no data for it.
+     */
+    public int find(SeriesKey key) {
+        lock.readLock().lock();
+        try {
+            Integer id = ids.get(key);
+            return id != null ? id : -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isAmbiguous(int seriesId) {
+        lock.readLock().lock();
+        try {
+            return ambiguous.get(seriesId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a single record into its day slot. Re-applying the same record id is a no-op.
+     */
+    public void put(SeriesKey key, long recordId, LocalDateTime fetchedAt, int count) throws IOException {
+        lock.writeLock().lock();
+        try {
+            int seriesId = register(key);
+            int day = (int) fetchedAt.toLocalDate().toEpochDay();
+            ensureDay(day);
+
+            long offset = slotOffset(seriesId, day);
+            long existingId = buffer.getLong((int) (offset + SLOT_RECORD_ID));
+            if (existingId == recordId) {
+                return;
+            }
+
+            long micros = toMicros(fetchedAt);
+            if (existingId != 0) {
+                markAmbiguous(seriesId);
+                if (buffer.getLong((int) (offset + SLOT_FETCHED_AT)) > micros) {
+                    recordApplied(recordId, day);
+                    return;
+                }
+            }
+
+            buffer.putLong((int) (offset + SLOT_RECORD_ID), recordId);
+            buffer.putLong((int) (offset + SLOT_FETCHED_AT), micros);
+            buffer.putInt((int) (offset + SLOT_COUNT), count);
+            recordApplied(recordId, day);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Streams the points of a series whose fetch time lies within {@code [fromMicros, toMicros]},
+     * oldest first.
+     *
+     * @return the number of points passed to the consumer
+     */
+    public int readRange(int seriesId, long fromMicros, long toMicros, PointConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            if (maxEpochDay == NO_DATA || seriesId < 0 || seriesId >= keys.size()) {
+                return 0;
+            }
+            int fromDay = Math.max(baseEpochDay, (int) fromMicros(fromMicros).toLocalDate().toEpochDay());
+            int toDay = Math.min(maxEpochDay, (int) fromMicros(toMicros).toLocalDate().toEpochDay());
+
+            int found = 0;
+            for (int day = fromDay; day <= toDay; day++) {
+                int offset = (int) slotOffset(seriesId, day);
+                long recordId = buffer.getLong(offset + SLOT_RECORD_ID);
+                if (recordId == 0) {
+                    continue;
+                }
+                long micros = buffer.getLong(offset + SLOT_FETCHED_AT);
+                if (micros >= fromMicros && micros <= toMicros) {
+                    consumer.accept(recordId, micros, buffer.getInt(offset + SLOT_COUNT));
+                    found++;
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Streams up to {@code limit} of the most recent points of a series, newest first.
+     *
+     * @return the number of points passed to the consumer
+     */
+    public int readLatest(int seriesId, int limit, PointConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            if (maxEpochDay == NO_DATA || seriesId < 0 || seriesId >= keys.size()) {
+                return 0;
+            }
+            int found = 0;
+            for (int day = maxEpochDay; day >= baseEpochDay && found < limit; day--) {
+                int offset = (int) slotOffset(seriesId, day);
+                long recordId = buffer.getLong(offset + SLOT_RECORD_ID);
+                if (recordId != 0) {
+                    consumer.accept(recordId, buffer.getLong(offset + SLOT_FETCHED_AT),
+                            buffer.getInt(offset + SLOT_COUNT));
+                    found++;
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Forces pending writes of the mapped file and the key index to disk.
+     */
+    public void flush() throws IOException {
+        lock.writeLock().lock();
+        try {
+            keysWriter.flush();
+            buffer.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops all data and starts over with an empty store.
+     */
+    public void clear() throws IOException {
+        lock.writeLock().lock();
+        try {
+            closeFiles();
+            Files.deleteIfExists(directory.resolve(DATA_FILE));
+            Files.deleteIfExists(directory.resolve(KEYS_FILE));
+            ids.clear();
+            keys.clear();
+            ambiguous.clear();
+            create();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (buffer != null) {
+                keysWriter.flush();
+                buffer.force();
+            }
+            closeFiles();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean load() throws IOException {
+        Path dataFile = directory.resolve(DATA_FILE);
+        Path keysFile = directory.resolve(KEYS_FILE);
+        if (!Files.exists(dataFile) || !Files.exists(keysFile) || Files.size(dataFile) < HEADER_BYTES) {
+            return false;
+        }
+
+        FileChannel existing = FileChannel.open(dataFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer mapped = existing.map(FileChannel.MapMode.READ_WRITE, 0, existing.size());
+        if (mapped.getInt(MAGIC_OFFSET) != MAGIC || mapped.getInt(VERSION_OFFSET) != VERSION) {
+            existing.close();
+            return false;
+        }
+
+        int seriesCount = mapped.getInt(SERIES_COUNT_OFFSET);
+        List<SeriesKey> loadedKeys = new ArrayList<>();
+        BitSet loadedAmbiguous = new BitSet();
+        try {
+            for (String line : Files.readAllLines(keysFile, StandardCharsets.UTF_8)) {
+                if (line.startsWith(AMBIGUOUS_PREFIX)) {
+                    loadedAmbiguous.set(Integer.parseInt(line.substring(AMBIGUOUS_PREFIX.length())));
+                } else if (!line.isEmpty()) {
+                    loadedKeys.add(SeriesKey.decode(line));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            existing.close();
+            return false;
+        }
+        // A key written without its header update means the last write did not complete
+        if (loadedKeys.size() != seriesCount) {
+            existing.close();
+            return false;
+        }
+
+        channel = existing;
+        buffer = mapped;
+        baseEpochDay = mapped.getInt(BASE_DAY_OFFSET);
+        dayCapacity = mapped.getInt(DAY_CAPACITY_OFFSET);
+        seriesCapacity = mapped.getInt(SERIES_CAPACITY_OFFSET);
+        maxEpochDay = mapped.getInt(MAX_DAY_OFFSET);
+        lastRecordId = mapped.getLong(LAST_RECORD_ID_OFFSET);
+        recordCount = mapped.getLong(RECORD_COUNT_OFFSET);
+        for (int i = 0; i < loadedKeys.size(); i++) {
+            keys.add(loadedKeys.get(i));
+            ids.put(loadedKeys.get(i), i);
+        }
+        ambiguous.or(loadedAmbiguous);
+        keysWriter = Files.newBufferedWriter(keysFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return true;
+    }
+
+    private void create() throws IOException {
+        Path dataFile = directory.resolve(DATA_FILE);
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(directory.resolve(KEYS_FILE));
+
+        baseEpochDay = 0;
+        dayCapacity = initialDayCapacity;
+        seriesCapacity = initialSeriesCapacity;
+        maxEpochDay = NO_DATA;
+        lastRecordId = 0;
+        recordCount = 0;
+
+        channel = FileChannel.open(dataFile, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(dayCapacity, seriesCapacity));
+        writeHeader(buffer);
+        keysWriter = Files.newBufferedWriter(directory.resolve(KEYS_FILE), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private int register(SeriesKey key) throws IOException {
+        Integer existing = ids.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (keys.size() == seriesCapacity) {
+            relayout(baseEpochDay, dayCapacity, seriesCapacity * 2);
+        }
+        int seriesId = keys.size();
+        keysWriter.write(key.encode());
+        keysWriter.newLine();
+        keys.add(key);
+        ids.put(key, seriesId);
+        buffer.putInt(SERIES_COUNT_OFFSET, keys.size());
+        return seriesId;
+    }
+
+    private void markAmbiguous(int seriesId) throws IOException {
+        if (!ambiguous.get(seriesId)) {
+            ambiguous.set(seriesId);
+            keysWriter.write(AMBIGUOUS_PREFIX + seriesId);
+            keysWriter.newLine();
+        }
+    }
+
+    private void ensureDay(int day) throws IOException {
+        if (maxEpochDay == NO_DATA) {
+            baseEpochDay = day;
+            buffer.putInt(BASE_DAY_OFFSET, baseEpochDay);
+            return;
+        }
+        if (day >= baseEpochDay && day < baseEpochDay + dayCapacity) {
+            return;
+        }
+        int newBase = Math.min(baseEpochDay, day);
+        int newEnd = Math.max(baseEpochDay + dayCapacity, day + 1);
+        relayout(newBase, Math.max(dayCapacity * 2, newEnd - newBase), seriesCapacity);
+    }
+
+    private void recordApplied(long recordId, int day) {
+        recordCount++;
+        lastRecordId = Math.max(lastRecordId, recordId);
+        maxEpochDay = maxEpochDay == NO_DATA ? day : Math.max(maxEpochDay, day);
+        buffer.putLong(RECORD_COUNT_OFFSET, recordCount);
+        buffer.putLong(LAST_RECORD_ID_OFFSET, lastRecordId);
+        buffer.putInt(MAX_DAY_OFFSET, maxEpochDay);
+    }
+
+    /**
+     * Copies every series block into a freshly sized file and atomically swaps it in.
+     */
+    private void relayout(int newBase, int newDayCapacity, int newSeriesCapacity) throws IOException {
+        Path dataFile = directory.resolve(DATA_FILE);
+        Path tempFile = directory.resolve(DATA_FILE + ".tmp");
+        Files.deleteIfExists(tempFile);
+
+        FileChannel newChannel = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                fileSize(newDayCapacity, newSeriesCapacity));
+
+        int dayShift = baseEpochDay - newBase;
+        int blockBytes = dayCapacity * SLOT_BYTES;
+        for (int seriesId = 0; seriesId < keys.size(); seriesId++) {
+            int from = HEADER_BYTES + seriesId * blockBytes;
+            int to = HEADER_BYTES + (seriesId * newDayCapacity + dayShift) * SLOT_BYTES;
+            newBuffer.put(to, buffer, from, blockBytes);
+        }
+
+        baseEpochDay = newBase;
+        dayCapacity = newDayCapacity;
+        seriesCapacity = newSeriesCapacity;
+        writeHeader(newBuffer);
+        newBuffer.force();
+
+        channel.close();
+        Files.move(tempFile, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = newChannel;
+        buffer = newBuffer;
+    }
+
+    private void writeHeader(MappedByteBuffer target) {
+        target.putInt(MAGIC_OFFSET, MAGIC);
+        target.putInt(VERSION_OFFSET, VERSION);
+        target.putInt(BASE_DAY_OFFSET, baseEpochDay);
+        target.putInt(DAY_CAPACITY_OFFSET, dayCapacity);
+        target.putInt(SERIES_CAPACITY_OFFSET, seriesCapacity);
+        target.putInt(SERIES_COUNT_OFFSET, keys.size());
+        target.putInt(MAX_DAY_OFFSET, maxEpochDay);
+        target.putLong(LAST_RECORD_ID_OFFSET, lastRecordId);
+        target.putLong(RECORD_COUNT_OFFSET, recordCount);
+    }
+
+    private long slotOffset(int seriesId, int day) {
+        return HEADER_BYTES + ((long) seriesId * dayCapacity + (day - baseEpochDay)) * SLOT_BYTES;
+    }
+
+    private static long fileSize(int dayCapacity, int seriesCapacity) {
+        long size = HEADER_BYTES + (long) dayCapacity * seriesCapacity * SLOT_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Series store would exceed 2 GB: "
+                    + seriesCapacity + " series × " + dayCapacity + " days");
+        }
+        return size;
+    }
+
+    private void closeFiles() throws IOException {
+        if (keysWriter != null) {
+            keysWriter.close();
+            keysWriter = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        buffer = null;
+    }
+}
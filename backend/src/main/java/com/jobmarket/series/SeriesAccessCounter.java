@@ -0,0 +1,47 @@
+package com.jobmarket.series;
+
+import com.jobmarket.config.ScrapeOrderConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how often each series is requested from the stats endpoints. Counts are halved
+ * periodically, so they approximate recent demand, and are kept in memory only.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeriesAccessCounter {
+
+    private final ScrapeOrderConfig config;
+
+    private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    public void record(SeriesKey key) {
+        String encoded = key.encode();
+        AtomicLong count = counts.get(encoded);
+        if (count == null) {
+            if (counts.size() >= config.getMaxTrackedSeries()) {
+                return;
+            }
+            count = counts.computeIfAbsent(encoded, k -> new AtomicLong());
+        }
+        count.incrementAndGet();
+    }
+
+    public long count(SeriesKey key) {
+        AtomicLong count = counts.get(key.encode());
+        return count != null ? count.get() : 0;
+    }
+
+    @Scheduled(fixedRateString = "${scraper.ordering.access-decay-interval-ms:86400000}",
+            initialDelayString = "${scraper.ordering.access-decay-interval-ms:86400000}")
+    public void decay() {
+        counts.values().forEach(count -> count.updateAndGet(value -> value / 2));
+        counts.values().removeIf(count -> count.get() == 0);
+    }
+}
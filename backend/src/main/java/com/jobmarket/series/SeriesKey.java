@@ -0,0 +1,61 @@
+package com.jobmarket.series;
+
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+
+/**
+ * Identifies a single time series of job counts, using the same filter columns
+ * the stats queries in {@link com.jobmarket.repository.JobCountRecordRepository} match on.
+ */
+public record SeriesKey(
+    String category,
+    MetricType metricType,
+    String location,
+    ExperienceLevel experienceLevel,
+    Integer salaryMin,
+    Integer salaryMax
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public static SeriesKey of(String category, MetricType metricType, String city,
+                               ExperienceLevel experienceLevel, SalaryRange salaryRange) {
+        String location = city != null ? city : metricType.getLocation();
+        Integer salaryMin = salaryRange != null ? salaryRange.getMin() : null;
+        Integer salaryMax = salaryRange != null ? salaryRange.getMax() : null;
+        return new SeriesKey(category, metricType, location, experienceLevel, salaryMin, salaryMax);
+    }
+
+    public static SeriesKey of(JobCountRecord record) {
+        return new SeriesKey(record.getCategory(), record.getMetricType(), record.getLocation(),
+                record.getExperienceLevel(), record.getSalaryMin(), record.getSalaryMax());
+    }
+
+    /**
+     * Encodes the key as a single line, e.g. {@code java|TOTAL|all-locations|JUNIOR||25000}.
+     */
+    public String encode() {
+        return category + SEPARATOR
+                + metricType.name() + SEPARATOR
+                + location + SEPARATOR
+                + (experienceLevel != null ? experienceLevel.name() : "") + SEPARATOR
+                + (salaryMin != null ? salaryMin : "") + SEPARATOR
+                + (salaryMax != null ? salaryMax : "");
+    }
+
+    public static SeriesKey decode(String encoded) {
+        String[] parts = encoded.split("\\|", -1);
+        if (parts.length != 6) {
+            throw new IllegalArgumentException("Malformed series key: " + encoded);
+        }
+        return new SeriesKey(
+                parts[0],
+                MetricType.valueOf(parts[1]),
+                parts[2],
+                parts[3].isEmpty() ? null : ExperienceLevel.valueOf(parts[3]),
+                parts[4].isEmpty() ? null : Integer.valueOf(parts[4]),
+                parts[5].isEmpty() ? null : Integer.valueOf(parts[5]));
+    }
+}
@@ -0,0 +1,12 @@
+package com.jobmarket.series;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single daily count read from the series store.
+ */
+public record SeriesPoint(
+    long recordId,
+    LocalDateTime fetchedAt,
+    int count
+) {}
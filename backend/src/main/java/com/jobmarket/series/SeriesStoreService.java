@@ -0,0 +1,283 @@
+package com.jobmarket.series;
+
+import com.jobmarket.config.SeriesStoreConfig;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.repository.IngestVersionRepository;
+import com.jobmarket.repository.JobCountRecordRepository;
+import com.jobmarket.scheduler.ClusterCoordinator;
+import com.jobmarket.scraper.event.JobCountRecordsReplicatedEvent;
+import com.jobmarket.scraper.event.JobCountRecordsSavedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the memory-mapped {@link MappedSeriesStore} in sync with {@code job_count_record}
+ * and answers stats reads from it.
+ * <p>
+ * On startup the persisted snapshot is reused if it matches the database, caught up if
+ * only newer records are missing, and rebuilt otherwise. Afterwards every batch this replica
+ * commits is appended right away, and batches committed by other replicas are caught up by
+ * ingest version on a poll and announced with a {@link JobCountRecordsReplicatedEvent}.
+ * <p>
+ * Read methods return an empty {@link Optional} whenever the store cannot answer
+ * authoritatively, so callers fall back to the database. While other replicas are live that
+ * includes series the store has not seen yet and any read after the catch-up has fallen more
+ * than {@code maxSyncLagMs} behind.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeriesStoreService {
+
+    private final SeriesStoreConfig config;
+    private final JobCountRecordRepository jobCountRecordRepository;
+    private final IngestVersionRepository ingestVersionRepository;
+    private final ObjectProvider<ClusterCoordinator> coordinator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Ingest versions committed by this replica that the catch-up has not passed yet
+    private final Set<Long> localVersions = ConcurrentHashMap.newKeySet();
+
+    private volatile MappedSeriesStore store;
+    private volatile long syncedVersion = -1;
+    private volatile long syncedAt;
+    private volatile boolean shared = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        // Taken before loading: records committing meanwhile are caught up again, which is a no-op
+        try {
+            syncedVersion = ingestVersionRepository.current();
+            shared = otherReplicasLive();
+            syncedAt = System.currentTimeMillis();
+        } catch (DataAccessException e) {
+            log.error("Failed to read the ingest version, stats will be served from the database: {}",
+                    e.getMessage(), e);
+            return;
+        }
+
+        if (!config.isEnabled()) {
+            log.info("Series store is disabled, stats will be served from the database");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            MappedSeriesStore opened = MappedSeriesStore.open(Path.of(config.getDirectory()),
+                    config.getInitialDayCapacity(), config.getInitialSeriesCapacity());
+            synchronize(opened);
+            store = opened;
+            log.info("Series store ready: {} series, {} records in {} ms",
+                    opened.getSeriesCount(), opened.getRecordCount(), System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to initialize series store, stats will be served from the database: {}",
+                    e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecordsSaved(JobCountRecordsSavedEvent event) {
+        for (JobCountRecord record : event.records()) {
+            if (record.getIngestVersion() != null && record.getIngestVersion() > syncedVersion) {
+                localVersions.add(record.getIngestVersion());
+            }
+        }
+        append(event.records());
+    }
+
+    /**
+     * Applies every record committed since the last catch-up, including other replicas' ones,
+     * and refreshes whether other replicas are live.
+     */
+    @Scheduled(fixedDelayString = "${series-store.sync-interval-ms:10000}")
+    public void catchUp() {
+        long after = syncedVersion;
+        if (after < 0) {
+            return;
+        }
+        try {
+            shared = otherReplicasLive();
+            long head = ingestVersionRepository.current();
+            if (head > after) {
+                catchUp(after, head);
+                syncedVersion = head;
+                localVersions.removeIf(version -> version <= head);
+            }
+            syncedAt = System.currentTimeMillis();
+        } catch (DataAccessException e) {
+            log.warn("Series store catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the points of a series fetched within {@code [start, end]}, oldest first.
+     */
+    public Optional<List<SeriesPoint>> findHistory(SeriesKey key, LocalDateTime start, LocalDateTime end) {
+        MappedSeriesStore current = readableStore();
+        if (current == null) {
+            return Optional.empty();
+        }
+        int seriesId = current.find(key);
+        if (seriesId < 0) {
+            return shared ? Optional.empty() : Optional.of(List.of());
+        }
+        if (current.isAmbiguous(seriesId)) {
+            return Optional.empty();
+        }
+
+        List<SeriesPoint> points = new ArrayList<>();
+        current.readRange(seriesId, MappedSeriesStore.toMicros(start), MappedSeriesStore.toMicros(end),
+                (recordId, fetchedAtMicros, count) ->
+                        points.add(new SeriesPoint(recordId, MappedSeriesStore.fromMicros(fetchedAtMicros), count)));
+        return Optional.of(points);
+    }
+
+    /**
+     * Returns up to {@code limit} of the most recent points of a series, newest first.
+     */
+    public Optional<List<SeriesPoint>> findLatest(SeriesKey key, int limit) {
+        MappedSeriesStore current = readableStore();
+        if (current == null) {
+            return Optional.empty();
+        }
+        int seriesId = current.find(key);
+        if (seriesId < 0) {
+            return shared ? Optional.empty() : Optional.of(List.of());
+        }
+        if (current.isAmbiguous(seriesId)) {
+            return Optional.empty();
+        }
+
+        List<SeriesPoint> points = new ArrayList<>(limit);
+        current.readLatest(seriesId, limit, (recordId, fetchedAtMicros, count) ->
+                points.add(new SeriesPoint(recordId, MappedSeriesStore.fromMicros(fetchedAtMicros), count)));
+        return Optional.of(points);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        MappedSeriesStore current = store;
+        store = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.warn("Failed to close series store: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void catchUp(long after, long head) {
+        int batchSize = config.getRebuildBatchSize();
+        long lastId = 0;
+        List<JobCountRecord> batch;
+        do {
+            batch = jobCountRecordRepository.findIngestedBetween(after, head, lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+            append(batch);
+            List<JobCountRecord> replicated = batch.stream()
+                    .filter(record -> !localVersions.contains(record.getIngestVersion()))
+                    .toList();
+            if (!replicated.isEmpty()) {
+                eventPublisher.publishEvent(new JobCountRecordsReplicatedEvent(replicated));
+            }
+        } while (batch.size() == batchSize);
+        log.debug("Series store caught up from ingest version {} to {}", after, head);
+    }
+
+    private synchronized void append(List<JobCountRecord> records) {
+        MappedSeriesStore current = store;
+        if (current == null) {
+            return;
+        }
+        try {
+            for (JobCountRecord record : records) {
+                current.put(SeriesKey.of(record), record.getId(), record.getFetchedAt(), record.getCount());
+            }
+            current.flush();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to append {} records to series store, disabling it until restart: {}",
+                    records.size(), e.getMessage(), e);
+            store = null;
+        }
+    }
+
+    private MappedSeriesStore readableStore() {
+        if (shared && System.currentTimeMillis() - syncedAt > config.getMaxSyncLagMs()) {
+            return null;
+        }
+        return store;
+    }
+
+    /**
+     * Without the coordinator this replica cannot tell whether others write, so it assumes they do.
+     */
+    private boolean otherReplicasLive() {
+        ClusterCoordinator current = coordinator.getIfAvailable();
+        return current == null || current.liveNodes(LocalDateTime.now()).size() > 1;
+    }
+
+    private void synchronize(MappedSeriesStore target) throws IOException {
+        long databaseCount = jobCountRecordRepository.count();
+        long databaseMaxId = Optional.ofNullable(jobCountRecordRepository.findMaxId()).orElse(0L);
+
+        if (target.getRecordCount() > databaseCount || target.getLastRecordId() > databaseMaxId) {
+            log.info("Series store snapshot is ahead of the database ({} records, last id {} vs {} / {}), rebuilding",
+                    target.getRecordCount(), target.getLastRecordId(), databaseCount, databaseMaxId);
+            rebuild(target);
+            return;
+        }
+
+        long before = target.getRecordCount();
+        load(target, target.getLastRecordId());
+        if (target.getRecordCount() != databaseCount) {
+            log.info("Series store snapshot has gaps ({} of {} records), rebuilding",
+                    target.getRecordCount(), databaseCount);
+            rebuild(target);
+            return;
+        }
+        log.info("Series store snapshot reused, caught up {} new records", target.getRecordCount() - before);
+    }
+
+    private void rebuild(MappedSeriesStore target) throws IOException {
+        target.clear();
+        load(target, 0L);
+    }
+
+    private void load(MappedSeriesStore target, long afterId) throws IOException {
+        int batchSize = config.getRebuildBatchSize();
+        long lastId = afterId;
+        List<JobCountRecord> batch;
+        do {
+            batch = jobCountRecordRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+            for (JobCountRecord record : batch) {
+                target.put(SeriesKey.of(record), record.getId(), record.getFetchedAt(), record.getCount());
+                lastId = record.getId();
+            }
+        } while (batch.size() == batchSize);
+        target.flush();
+    }
+}
@@ -2,6 +2,7 @@ package com.jobmarket.service;
 
 import com.jobmarket.dto.CategoryDto;
 import com.jobmarket.dto.CreateCategoryRequest;
+import com.jobmarket.dto.UpdateCategoryScheduleRequest;
 import com.jobmarket.entity.TrackedCategory;
 import com.jobmarket.exception.CategoryNotFoundException;
 import com.jobmarket.exception.DuplicateCategoryException;
@@ -70,4 +71,17 @@ public class CategoryService {
         log.info("Set category {} active={}", saved.getSlug(), active);
         return categoryMapper.toDto(saved);
     }
+
+    @Transactional
+    public CategoryDto updateSchedule(Long id, UpdateCategoryScheduleRequest request) {
+        TrackedCategory category = categoryRepository.findById(id)
+                .orElseThrow(() -> new CategoryNotFoundException(id));
+        category.setScrapeEveryDays(request.scrapeEveryDays());
+        category.setScrapeWindowStart(request.scrapeWindowStart());
+        category.setScrapeWindowEnd(request.scrapeWindowEnd());
+        TrackedCategory saved = categoryRepository.save(category);
+        log.info("Set category {} schedule: every {} day(s), {}-{}", saved.getSlug(),
+                saved.getScrapeEveryDays(), saved.getScrapeWindowStart(), saved.getScrapeWindowEnd());
+        return categoryMapper.toDto(saved);
+    }
 }
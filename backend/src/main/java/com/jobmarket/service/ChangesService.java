@@ -0,0 +1,78 @@
+package com.jobmarket.service;
+
+import com.jobmarket.dto.ChangePointDto;
+import com.jobmarket.dto.ChangesDto;
+import com.jobmarket.dto.SeriesChangesDto;
+import com.jobmarket.repository.IngestVersionRepository;
+import com.jobmarket.repository.JobCountChange;
+import com.jobmarket.repository.JobCountRecordJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delta sync: the records a client has not seen yet, by ingest version.
+ * <p>
+ * Every saved batch takes the next value of a single counter, so versions are committed in
+ * order and "everything up to version n" is a stable snapshot. A page never splits a version:
+ * it ends either at the counter head or just before the first version that did not fit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChangesService {
+
+    static final int DEFAULT_LIMIT = 5000;
+    static final int MAX_LIMIT = 20000;
+
+    private final JobCountRecordJdbcRepository jobCountRecordJdbcRepository;
+    private final IngestVersionRepository ingestVersionRepository;
+
+    public ChangesDto getChanges(long since, String category, Collection<String> seriesKeys, Integer limit) {
+        long after = Math.max(since, 0);
+        int pageSize = limit != null ? Math.clamp(limit, 1, MAX_LIMIT) : DEFAULT_LIMIT;
+        Collection<String> keys = seriesKeys != null ? seriesKeys : List.of();
+
+        // Read the head first: every version up to it is committed, so the page is complete up to there
+        long head = ingestVersionRepository.current();
+        if (after >= head) {
+            return toDto(head, false, List.of());
+        }
+
+        List<JobCountChange> rows = jobCountRecordJdbcRepository.findChanges(after, head, category, keys, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return toDto(head, false, rows);
+        }
+
+        long cut = rows.get(pageSize).ingestVersion();
+        List<JobCountChange> page = rows.stream().filter(row -> row.ingestVersion() < cut).toList();
+        if (page.isEmpty()) {
+            // A single version larger than the page; send it whole rather than stall the client
+            page = jobCountRecordJdbcRepository.findChanges(after, cut, category, keys, null);
+            log.debug("Ingest version {} holds {} changes, more than the page size {}", cut, page.size(), pageSize);
+            return toDto(cut, cut < head, page);
+        }
+        return toDto(cut - 1, true, page);
+    }
+
+    private static ChangesDto toDto(long version, boolean hasMore, List<JobCountChange> rows) {
+        Map<String, List<ChangePointDto>> bySeries = new LinkedHashMap<>();
+        for (JobCountChange row : rows) {
+            bySeries.computeIfAbsent(row.seriesKey(), key -> new ArrayList<>())
+                    .add(new ChangePointDto(row.recordDate(), row.count()));
+        }
+        return ChangesDto.builder()
+                .version(version)
+                .hasMore(hasMore)
+                .series(bySeries.entrySet().stream()
+                        .map(entry -> new SeriesChangesDto(entry.getKey(), entry.getValue()))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,178 @@
+package com.jobmarket.service;
+
+import com.jobmarket.config.LiveEventsConfig;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.scraper.event.DataVersionChangedEvent;
+import com.jobmarket.scraper.event.JobCountRecordsReplicatedEvent;
+import com.jobmarket.scraper.event.JobCountRecordsSavedEvent;
+import com.jobmarket.scraper.event.ScrapeCellCompletedEvent;
+import com.jobmarket.scraper.event.ScrapeRunStateEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes scrape progress and data version changes to clients over server-sent events.
+ * <p>
+ * Events are handed to a single sender thread through a bounded queue, so a slow client never
+ * blocks the scrape or the transaction that produced the event, and no two sends to the same
+ * emitter ever overlap. When the queue is full events are dropped; the next data version event
+ * or the snapshot sent on reconnect brings clients up to date again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LiveEventService {
+
+    static final String EVENT_RUN = "run";
+    static final String EVENT_CELL = "cell";
+    static final String EVENT_DATA_VERSION = "data-version";
+
+    private final LiveEventsConfig config;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> dataVersions = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor sender;
+
+    @PostConstruct
+    void start() {
+        sender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "live-events");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    /**
+     * Opens a stream for one client. It starts with the current data version of every category
+     * that changed since startup, so a reconnecting client can tell what it missed.
+     *
+     * @return empty when the stream is at its subscriber limit
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (emitters.size() >= config.getMaxSubscribers()) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(config.getEmitterTimeoutMs());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        List<DataVersionChangedEvent> snapshot = new ArrayList<>();
+        dataVersions.forEach((category, version) -> snapshot.add(new DataVersionChangedEvent(category, version, 0)));
+        sender.execute(() -> snapshot.forEach(event -> send(emitter, EVENT_DATA_VERSION, event)));
+        return Optional.of(emitter);
+    }
+
+    @EventListener
+    public void onRunState(ScrapeRunStateEvent event) {
+        broadcast(EVENT_RUN, event);
+    }
+
+    @EventListener
+    public void onCellCompleted(ScrapeCellCompletedEvent event) {
+        broadcast(EVENT_CELL, event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecordsSaved(JobCountRecordsSavedEvent event) {
+        advanceDataVersions(event.records());
+    }
+
+    /**
+     * Records committed by another replica change this replica's data as well.
+     */
+    @EventListener
+    public void onRecordsReplicated(JobCountRecordsReplicatedEvent event) {
+        advanceDataVersions(event.records());
+    }
+
+    private void advanceDataVersions(List<JobCountRecord> saved) {
+        Map<String, List<JobCountRecord>> byCategory = new HashMap<>();
+        for (JobCountRecord record : saved) {
+            byCategory.computeIfAbsent(record.getCategory(), category -> new ArrayList<>()).add(record);
+        }
+        byCategory.forEach((category, records) -> {
+            long latest = records.stream()
+                    .map(JobCountRecord::getIngestVersion)
+                    .filter(Objects::nonNull)
+                    .mapToLong(Long::longValue)
+                    .max()
+                    .orElse(0);
+            long version = dataVersions.merge(category, latest, Math::max);
+            broadcast(EVENT_DATA_VERSION, new DataVersionChangedEvent(category, version, records.size()));
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${live-events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } catch (IOException | IllegalStateException e) {
+                    emitters.remove(emitter);
+                }
+            }
+        });
+    }
+
+    Long dataVersion(String category) {
+        return dataVersions.get(category);
+    }
+
+    int subscriberCount() {
+        return emitters.size();
+    }
+
+    private void broadcast(String name, Object data) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, name, data);
+            }
+        });
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping live event client: {}", e.getMessage());
+            emitters.remove(emitter);
+        }
+    }
+}
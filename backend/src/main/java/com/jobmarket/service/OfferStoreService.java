@@ -0,0 +1,109 @@
+package com.jobmarket.service;
+
+import com.jobmarket.config.OfferStoreConfig;
+import com.jobmarket.dto.OfferCountDto;
+import com.jobmarket.repository.JobOfferFact;
+import com.jobmarket.repository.JobOfferJdbcRepository;
+import com.jobmarket.repository.OfferSync;
+import com.jobmarket.scraper.dto.JobOffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps one row per offer listing in {@code job_offer} and answers counts over any of its
+ * attributes for any past date.
+ * <p>
+ * A daily sync diffs the offer list against the open intervals: offers not seen before open an
+ * interval on the sync date, open offers missing from the list are closed on the previous sync
+ * date, the last day they were seen. Offers listed on both days are not touched, so storage
+ * grows with churn rather than with days times offers. An offer keeps the attributes it was
+ * first seen with; one that disappears and comes back opens a new interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OfferStoreService {
+
+    private final JobOfferJdbcRepository jobOfferRepository;
+    private final OfferStoreConfig config;
+
+    /**
+     * Applies the offer list seen on {@code today}, unless that day is already synced.
+     *
+     * @return the applied sync, empty when skipped
+     */
+    @Transactional
+    public Optional<OfferSync> sync(List<JobOffer> offers, LocalDate today) {
+        if (jobOfferRepository.isSynced(today)) {
+            return Optional.empty();
+        }
+        Map<String, JobOfferFact> listed = new LinkedHashMap<>();
+        for (JobOffer offer : offers) {
+            JobOfferFact fact = JobOfferFact.from(offer);
+            if (fact != null) {
+                listed.putIfAbsent(fact.offerId(), fact);
+            }
+        }
+
+        Map<String, Long> open = jobOfferRepository.findOpen();
+        if (listed.size() < open.size() * config.getMinListedFraction()) {
+            log.warn("Skipping offer sync for {}: {} offers listed against {} open, the list looks truncated",
+                    today, listed.size(), open.size());
+            return Optional.empty();
+        }
+
+        List<JobOfferFact> opened = listed.values().stream()
+                .filter(fact -> !open.containsKey(fact.offerId()))
+                .toList();
+        List<Long> closed = new ArrayList<>();
+        open.forEach((offerId, id) -> {
+            if (!listed.containsKey(offerId)) {
+                closed.add(id);
+            }
+        });
+
+        LocalDate lastSeen = jobOfferRepository.lastSyncDate().orElse(today.minusDays(1));
+        jobOfferRepository.insertAll(opened, today);
+        jobOfferRepository.closeAll(closed, lastSeen);
+        OfferSync sync = new OfferSync(today, listed.size(), opened.size(), closed.size());
+        jobOfferRepository.recordSync(sync, LocalDateTime.now());
+
+        log.info("Synced {} offers for {}: {} new, {} closed", sync.offers(), today, sync.opened(), sync.closed());
+        return Optional.of(sync);
+    }
+
+    /**
+     * Offers of a category listed on {@code date} (today when null), optionally narrowed down by
+     * city, experience level, workplace type and minimum salary.
+     */
+    public OfferCountDto countOffers(LocalDate date, String category, String city, String experienceLevel,
+                                     String workplaceType, Integer salaryMin) {
+        LocalDate day = date != null ? date : LocalDate.now();
+        long count = jobOfferRepository.countListedOn(day,
+                JobOfferFact.normalizeCategory(category),
+                JobOfferFact.normalizeCity(city),
+                lowerCase(experienceLevel),
+                lowerCase(workplaceType),
+                salaryMin);
+        return OfferCountDto.builder()
+                .date(day)
+                .category(category)
+                .count(count)
+                .build();
+    }
+
+    private static String lowerCase(String value) {
+        return value != null && !value.isBlank() ? value.toLowerCase(Locale.ROOT) : null;
+    }
+}
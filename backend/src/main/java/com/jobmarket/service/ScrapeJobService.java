@@ -0,0 +1,156 @@
+package com.jobmarket.service;
+
+import com.jobmarket.datasource.Workload;
+import com.jobmarket.dto.ScrapeJobDto;
+import com.jobmarket.exception.CategoryNotFoundException;
+import com.jobmarket.exception.ScrapeJobConflictException;
+import com.jobmarket.exception.ScrapeRunNotFoundException;
+import com.jobmarket.mapper.ScrapeRunMapper;
+import com.jobmarket.repository.ScrapeRunRepository;
+import com.jobmarket.repository.TrackedCategoryRepository;
+import com.jobmarket.scheduler.ClusterCoordinator;
+import com.jobmarket.scraper.CategoryClaim;
+import com.jobmarket.scraper.JustJoinItScraperService;
+import com.jobmarket.scraper.progress.ScrapeProgress;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs manually triggered scrapes in the background, one at a time.
+ * <p>
+ * {@link #submit} returns as soon as the run has its id; progress is then read from the
+ * in-memory {@link ScrapeProgress} of the run. The most recent jobs are kept in memory,
+ * older ones are answered from the persisted scrape run.
+ * <p>
+ * When the scheduler is enabled, jobs claim their categories through the
+ * {@link ClusterCoordinator} leases, so they never overlap a scheduled scrape of the same
+ * category: a single-category job is rejected, an all-categories job skips it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScrapeJobService {
+
+    static final Duration START_TIMEOUT = Duration.ofSeconds(30);
+    private static final int RETAINED_JOBS = 50;
+
+    private final JustJoinItScraperService scraperService;
+    private final TrackedCategoryRepository categoryRepository;
+    private final ScrapeRunRepository scrapeRunRepository;
+    private final ScrapeRunMapper scrapeRunMapper;
+    private final ObjectProvider<ClusterCoordinator> coordinator;
+
+    private final AtomicReference<ScrapeProgress> running = new AtomicReference<>();
+    private final Map<Long, ScrapeProgress> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ScrapeProgress> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    });
+    private ExecutorService executor;
+    private CategoryClaim claim;
+
+    @PostConstruct
+    void start() {
+        ClusterCoordinator clusterCoordinator = coordinator.getIfAvailable();
+        claim = clusterCoordinator != null ? clusterCoordinator.manualClaim() : CategoryClaim.NONE;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = Workload.INGEST.newThread(runnable, "scrape-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts a scrape of {@code categorySlug}, or of all active categories when null.
+     *
+     * @throws ScrapeJobConflictException if another manual scrape is still running, or another
+     *                                     scrape holds {@code categorySlug}
+     */
+    public ScrapeJobDto submit(String categorySlug) {
+        if (categorySlug != null && categoryRepository.findBySlug(categorySlug).isEmpty()) {
+            throw new CategoryNotFoundException(categorySlug);
+        }
+
+        ScrapeProgress progress = new ScrapeProgress(categorySlug);
+        if (!running.compareAndSet(null, progress)) {
+            throw new ScrapeJobConflictException(running.get().getRunId());
+        }
+        try {
+            if (categorySlug != null && !claim.tryClaim(categorySlug)) {
+                throw new ScrapeJobConflictException(categorySlug);
+            }
+        } catch (RuntimeException e) {
+            running.set(null);
+            throw e;
+        }
+        try {
+            executor.execute(() -> run(progress));
+        } catch (RuntimeException e) {
+            releaseClaim(progress);
+            running.set(null);
+            throw e;
+        }
+
+        try {
+            if (progress.awaitStart(START_TIMEOUT)) {
+                jobs.put(progress.getRunId(), progress);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return scrapeRunMapper.toJobDto(progress);
+    }
+
+    public ScrapeJobDto find(Long runId) {
+        ScrapeProgress progress = jobs.get(runId);
+        if (progress != null) {
+            return scrapeRunMapper.toJobDto(progress);
+        }
+        return scrapeRunRepository.findById(runId)
+                .map(scrapeRunMapper::toJobDto)
+                .orElseThrow(() -> new ScrapeRunNotFoundException(runId));
+    }
+
+    private void run(ScrapeProgress progress) {
+        try {
+            if (progress.getCategory() != null) {
+                scraperService.fetchAndSaveJobCountsForCategory(progress.getCategory(), null, progress);
+            } else {
+                scraperService.fetchAndSaveAllJobCounts(progress, claim);
+            }
+            progress.completed();
+            log.info("Scrape job {} completed: {}/{} cells, {} failed", progress.getRunId(),
+                    progress.getCompletedCells(), progress.getTotalCells(), progress.getFailedCells());
+        } catch (RuntimeException e) {
+            log.error("Scrape job {} failed: {}", progress.getRunId(), e.getMessage(), e);
+            progress.failed(e.getMessage());
+        } finally {
+            releaseClaim(progress);
+            running.set(null);
+        }
+    }
+
+    private void releaseClaim(ScrapeProgress progress) {
+        if (progress.getCategory() != null) {
+            claim.release(progress.getCategory());
+        }
+    }
+}
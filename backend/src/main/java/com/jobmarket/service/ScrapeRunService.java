@@ -0,0 +1,58 @@
+package com.jobmarket.service;
+
+import com.jobmarket.dto.PageDto;
+import com.jobmarket.dto.ScrapeRequestDto;
+import com.jobmarket.dto.ScrapeRunDto;
+import com.jobmarket.entity.ScrapeRun;
+import com.jobmarket.exception.ScrapeRunNotFoundException;
+import com.jobmarket.mapper.ScrapeRunMapper;
+import com.jobmarket.repository.ScrapeRequestRepository;
+import com.jobmarket.repository.ScrapeRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ScrapeRunService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ScrapeRunRepository scrapeRunRepository;
+    private final ScrapeRequestRepository scrapeRequestRepository;
+    private final ScrapeRunMapper scrapeRunMapper;
+
+    public PageDto<ScrapeRunDto> findRuns(String category, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), clampSize(size),
+                Sort.by(Sort.Direction.DESC, "startedAt"));
+        Page<ScrapeRun> runs = category != null
+                ? scrapeRunRepository.findByCategory(category, pageRequest)
+                : scrapeRunRepository.findAll(pageRequest);
+        return PageDto.of(runs, scrapeRunMapper::toDto);
+    }
+
+    public ScrapeRunDto findRun(Long id) {
+        return scrapeRunRepository.findById(id)
+                .map(scrapeRunMapper::toDto)
+                .orElseThrow(() -> new ScrapeRunNotFoundException(id));
+    }
+
+    public PageDto<ScrapeRequestDto> findRequests(Long runId, int page, int size) {
+        if (!scrapeRunRepository.existsById(runId)) {
+            throw new ScrapeRunNotFoundException(runId);
+        }
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), clampSize(size),
+                Sort.by("requestedAt", "requestIndex"));
+        return PageDto.of(scrapeRequestRepository.findByRunId(runId, pageRequest), scrapeRunMapper::toDto);
+    }
+
+    private static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+}
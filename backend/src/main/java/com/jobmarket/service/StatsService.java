@@ -11,6 +11,10 @@ import com.jobmarket.exception.NoDataFoundException;
 import com.jobmarket.mapper.JobCountMapper;
 import com.jobmarket.repository.JobCountRecordRepository;
 import com.jobmarket.repository.TrackedCategoryRepository;
+import com.jobmarket.series.SeriesAccessCounter;
+import com.jobmarket.series.SeriesKey;
+import com.jobmarket.series.SeriesPoint;
+import com.jobmarket.series.SeriesStoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -32,6 +36,8 @@ public class StatsService {
     private final JobCountRecordRepository jobCountRepository;
     private final TrackedCategoryRepository categoryRepository;
     private final JobCountMapper jobCountMapper;
+    private final SeriesStoreService seriesStoreService;
+    private final SeriesAccessCounter accessCounter;
 
     public List<JobCountStatsDto> getHistoricalData(String category, LocalDate startDate, LocalDate endDate) {
         return getHistoricalData(category, MetricType.TOTAL, null, null, null, startDate, endDate);
@@ -50,6 +56,15 @@ public class StatsService {
         LocalDateTime start = resolveStartDate(startDate);
         LocalDateTime end = resolveEndDate(endDate);
 
+        SeriesKey key = SeriesKey.of(category, metricType, city, experienceLevel, salaryRange);
+        accessCounter.record(key);
+        Optional<List<SeriesPoint>> fromStore = seriesStoreService.findHistory(key, start, end);
+        if (fromStore.isPresent()) {
+            return fromStore.get().stream()
+                    .map(point -> jobCountMapper.toDto(key, point))
+                    .toList();
+        }
+
         Integer salaryMin = salaryRange != null ? salaryRange.getMin() : null;
         Integer salaryMax = salaryRange != null ? salaryRange.getMax() : null;
         String location = city != null ? city : metricType.getLocation();
@@ -75,6 +90,19 @@ public class StatsService {
                                           SalaryRange salaryRange) {
         validateCategoryExists(category);
 
+        SeriesKey key = SeriesKey.of(category, metricType, city, experienceLevel, salaryRange);
+        accessCounter.record(key);
+        Optional<List<SeriesPoint>> fromStore = seriesStoreService.findLatest(key, 2);
+        if (fromStore.isPresent()) {
+            List<SeriesPoint> points = fromStore.get();
+            if (points.isEmpty()) {
+                throw new NoDataFoundException(category);
+            }
+            SeriesPoint latest = points.get(0);
+            Integer previousCount = points.size() > 1 ? points.get(1).count() : null;
+            return buildLatestCountDto(category, metricType, latest.count(), latest.fetchedAt(), previousCount);
+        }
+
         Integer salaryMin = salaryRange != null ? salaryRange.getMin() : null;
         Integer salaryMax = salaryRange != null ? salaryRange.getMax() : null;
         String location = city != null ? city : metricType.getLocation();
@@ -86,7 +114,8 @@ public class StatsService {
         Optional<JobCountRecord> previous = jobCountRepository.findPreviousByFilters(
                 category, metricType, location, experienceLevel, salaryMin, salaryMax, latest.getFetchedAt());
 
-        return buildLatestCountDto(latest, previous.orElse(null));
+        return buildLatestCountDto(latest.getCategory(), latest.getMetricType(), latest.getCount(),
+                latest.getFetchedAt(), previous.map(JobCountRecord::getCount).orElse(null));
     }
 
     private void validateCategoryExists(String category) {
@@ -107,20 +136,21 @@ public class StatsService {
                 : LocalDateTime.now();
     }
 
-    private LatestCountDto buildLatestCountDto(JobCountRecord latest, JobCountRecord previous) {
+    private LatestCountDto buildLatestCountDto(String category, MetricType metricType, int count,
+                                               LocalDateTime fetchedAt, Integer previousCount) {
         Integer change = null;
         Double percentageChange = null;
 
-        if (previous != null && previous.getCount() != null && previous.getCount() > 0) {
-            change = latest.getCount() - previous.getCount();
-            percentageChange = (change * 100.0) / previous.getCount();
+        if (previousCount != null && previousCount > 0) {
+            change = count - previousCount;
+            percentageChange = (change * 100.0) / previousCount;
         }
 
         return LatestCountDto.builder()
-                .category(latest.getCategory())
-                .metricType(latest.getMetricType().name())
-                .count(latest.getCount())
-                .fetchedAt(latest.getFetchedAt())
+                .category(category)
+                .metricType(metricType.name())
+                .count(count)
+                .fetchedAt(fetchedAt)
                 .changeFromPrevious(change)
                 .percentageChange(percentageChange)
                 .build();
@@ -0,0 +1,42 @@
+-- Scrape run history: one row per run, one row per page request made during the run
+
+CREATE TABLE scrape_run (
+    id BIGSERIAL PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    category VARCHAR(100),
+    status VARCHAR(20) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    total_cells INTEGER NOT NULL,
+    success_count INTEGER,
+    failed_count INTEGER,
+    error_message VARCHAR(1000)
+);
+
+CREATE INDEX idx_scrape_run_started_at ON scrape_run(started_at);
+CREATE INDEX idx_scrape_run_category_started_at ON scrape_run(category, started_at);
+
+CREATE TABLE scrape_request (
+    id BIGSERIAL PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    run_id BIGINT NOT NULL REFERENCES scrape_run(id) ON DELETE CASCADE,
+    request_index INTEGER NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    metric_type VARCHAR(50) NOT NULL,
+    city VARCHAR(100),
+    experience_level VARCHAR(20),
+    salary_min INTEGER,
+    salary_max INTEGER,
+    url VARCHAR(1000) NOT NULL,
+    requested_at TIMESTAMP NOT NULL,
+    http_status INTEGER NOT NULL,
+    latency_ms INTEGER NOT NULL,
+    response_bytes INTEGER,
+    extraction_strategy VARCHAR(20),
+    extracted_count INTEGER,
+    anomaly_decision VARCHAR(30),
+    final_source VARCHAR(20)
+);
+
+CREATE INDEX idx_scrape_request_run ON scrape_request(run_id);
+CREATE INDEX idx_scrape_request_category_requested_at ON scrape_request(category, requested_at);
@@ -0,0 +1,10 @@
+-- Per-category scrape schedule: every N days, spread across a daily time window
+
+ALTER TABLE tracked_category ADD COLUMN scrape_every_days INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE tracked_category ADD COLUMN scrape_window_start TIME NOT NULL DEFAULT '06:00:00';
+ALTER TABLE tracked_category ADD COLUMN scrape_window_end TIME NOT NULL DEFAULT '22:00:00';
+ALTER TABLE tracked_category ADD COLUMN last_scrape_started_at TIMESTAMP;
+
+-- Keep the previous fixed schedule: java from 06:00, data from 14:00
+UPDATE tracked_category SET scrape_window_start = '06:00:00', scrape_window_end = '14:00:00' WHERE slug = 'java';
+UPDATE tracked_category SET scrape_window_start = '14:00:00', scrape_window_end = '22:00:00' WHERE slug = 'data';
@@ -0,0 +1,42 @@
+-- Multi-replica scraping: one record per series and day, node heartbeats and category leases
+
+-- Series identity as one non-null column (nullable filter columns cannot form a unique key),
+-- in the format of SeriesKey.encode(): category|metric_type|location|experience_level|salary_min|salary_max
+ALTER TABLE job_count_record ADD COLUMN series_key VARCHAR(300);
+
+UPDATE job_count_record SET series_key = category || '|' || metric_type || '|' || location || '|'
+    || COALESCE(experience_level, '') || '|'
+    || COALESCE(CAST(salary_min AS VARCHAR(12)), '') || '|'
+    || COALESCE(CAST(salary_max AS VARCHAR(12)), '');
+
+-- Deletes duplicates: of any series and day that was written twice, only the latest fetch is
+-- kept (the highest id on equal fetched_at), the record the series store also keeps for that day
+DELETE FROM job_count_record WHERE id NOT IN (
+    SELECT MAX(id) FROM job_count_record r
+    WHERE fetched_at = (
+        SELECT MAX(fetched_at) FROM job_count_record l
+        WHERE l.series_key = r.series_key AND l.record_date = r.record_date
+    )
+    GROUP BY series_key, record_date
+);
+
+ALTER TABLE job_count_record ALTER COLUMN series_key SET NOT NULL;
+CREATE UNIQUE INDEX uk_job_count_record_series_day ON job_count_record(series_key, record_date);
+
+-- Scheduler replicas, alive while their heartbeat is recent
+CREATE TABLE scheduler_node (
+    node_id VARCHAR(100) PRIMARY KEY,
+    started_at TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL
+);
+
+-- Category claims: a replica scrapes a category only while holding its unexpired lease
+CREATE TABLE scrape_lease (
+    category VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(100) NOT NULL,
+    acquired_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Runs that were interrupted (e.g. by a dead replica) are started again
+ALTER TABLE tracked_category ADD COLUMN last_scrape_finished_at TIMESTAMP;
@@ -0,0 +1,4 @@
+-- Where each record's value came from: HTML, HTML_RETRY, PREVIOUS_DAY, or CARRIED when the
+-- adaptive sampler skipped a stable cell and carried its last value forward.
+-- Records written before this column existed stay NULL and are treated as scraped.
+ALTER TABLE job_count_record ADD COLUMN source VARCHAR(20);
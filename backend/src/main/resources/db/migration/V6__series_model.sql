@@ -0,0 +1,7 @@
+-- Online anomaly model per series (see SeriesModel): EWMA level and variance with day-of-week
+-- offsets on ln(count + 1), encoded into a fixed 85 bytes and updated once per new record.
+CREATE TABLE series_model (
+    series_key VARCHAR(300) PRIMARY KEY,
+    state BYTEA NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
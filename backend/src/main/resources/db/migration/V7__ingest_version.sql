@@ -0,0 +1,12 @@
+-- Ingest version: every committed batch of records gets the next value of a single counter,
+-- so clients can ask for everything added since the version they last saw. The counter row
+-- is locked by the writing transaction until it commits, hence versions become visible in order.
+ALTER TABLE job_count_record ADD COLUMN ingest_version BIGINT;
+UPDATE job_count_record SET ingest_version = id;
+CREATE INDEX idx_job_count_ingest_version ON job_count_record (ingest_version);
+
+CREATE TABLE ingest_counter (
+    id INT PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+INSERT INTO ingest_counter (id, version) SELECT 1, COALESCE(MAX(id), 0) FROM job_count_record;
@@ -0,0 +1,5 @@
+-- Serves the stats filter queries (findByFilters, findLatestByFilters, findPreviousByFilters):
+-- records are written day by day across all series, so the category indexes alone make these
+-- queries visit a page per day of the whole history. With the time range in the index they
+-- only read the days they return.
+CREATE INDEX idx_job_count_filters ON job_count_record (category, metric_type, location, fetched_at);
@@ -0,0 +1,33 @@
+-- Offer-level facts: one row per continuous listing of an offer instead of one row per day.
+-- last_seen stays NULL while the offer is listed; it is set to the last sync that still saw
+-- the offer once a later sync misses it. An offer that comes back gets a new row.
+-- skills holds the offer's skills for the facet index, normalized and comma separated.
+CREATE TABLE job_offer (
+    id BIGSERIAL PRIMARY KEY,
+    offer_id VARCHAR(255) NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    city VARCHAR(100),
+    workplace_type VARCHAR(50),
+    experience_level VARCHAR(50),
+    salary_from INT,
+    salary_to INT,
+    currency VARCHAR(10),
+    skills VARCHAR(2000),
+    first_seen DATE NOT NULL,
+    last_seen DATE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Counts on a date: category = ? AND first_seen <= ? AND (last_seen IS NULL OR last_seen >= ?)
+CREATE INDEX idx_job_offer_validity ON job_offer (category, first_seen, last_seen);
+-- The open set read by every sync
+CREATE INDEX idx_job_offer_open ON job_offer (last_seen, offer_id);
+
+-- One row per completed sync; the primary key keeps two replicas from applying the same day twice
+CREATE TABLE offer_sync (
+    synced_on DATE PRIMARY KEY,
+    offers INT NOT NULL,
+    opened INT NOT NULL,
+    closed INT NOT NULL,
+    synced_at TIMESTAMP NOT NULL
+);
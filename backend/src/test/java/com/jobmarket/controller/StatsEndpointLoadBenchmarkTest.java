@@ -0,0 +1,284 @@
+package com.jobmarket.controller;
+
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.repository.testdata.SyntheticHistoryGenerator;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load benchmark for the stats read path: bulk-loads synthetic history into an embedded
+ * Postgres with {@link SyntheticHistoryGenerator}, then drives {@code /api/stats/{category}}
+ * and {@code /api/stats/{category}/latest} from a fixed number of concurrent clients and
+ * reports throughput and latency percentiles per endpoint.
+ * <p>
+ * Excluded from {@code ./gradlew test}; run with
+ * {@code ./gradlew perfTest --tests '*StatsEndpointLoadBenchmarkTest'}. Options:
+ * <ul>
+ *   <li>{@code -Pperf.stats.categories=N} synthetic categories (default 10)</li>
+ *   <li>{@code -Pperf.stats.cities=N} synthetic cities (default 2)</li>
+ *   <li>{@code -Pperf.stats.years=N} years of daily history (default 1)</li>
+ *   <li>{@code -Pperf.stats.concurrency=N} concurrent clients (default 16)</li>
+ *   <li>{@code -Pperf.stats.warmupSeconds=N} warm-up before measuring (default 10)</li>
+ *   <li>{@code -Pperf.stats.durationSeconds=N} measured duration (default 30)</li>
+ *   <li>{@code -Pperf.stats.seriesStore=true} serve reads from the series store</li>
+ * </ul>
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.jobmarket=WARN"
+})
+@ActiveProfiles("dev")
+@DisplayName("Stats endpoint load benchmark")
+class StatsEndpointLoadBenchmarkTest {
+
+    private static final int CATEGORIES = Integer.getInteger("perf.stats.categories", 10);
+    private static final int CITIES = Integer.getInteger("perf.stats.cities", 2);
+    private static final int YEARS = Integer.getInteger("perf.stats.years", 1);
+    private static final int CONCURRENCY = Integer.getInteger("perf.stats.concurrency", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("perf.stats.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("perf.stats.durationSeconds", 30);
+    private static final boolean SERIES_STORE = Boolean.getBoolean("perf.stats.seriesStore");
+    private static final int[] WINDOW_DAYS = {7, 30, 90, 365};
+
+    private static final SyntheticHistoryGenerator HISTORY = SyntheticHistoryGenerator.history()
+            .withCategories(CATEGORIES)
+            .withCities(CITIES)
+            .withYears(YEARS);
+
+    private static EmbeddedPostgres postgres;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        String url = postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true";
+
+        Flyway.configure()
+                .dataSource(url, "postgres", "postgres")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        long start = System.nanoTime();
+        long records = HISTORY.load(postgres.getPostgresDatabase(Map.of("reWriteBatchedInserts", "true")));
+        System.out.printf(Locale.ROOT, "Loaded %,d records (%,d series) in %.1f s%n",
+                records, HISTORY.seriesCount(), (System.nanoTime() - start) / 1e9);
+
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("series-store.enabled", () -> SERIES_STORE);
+        if (SERIES_STORE) {
+            String directory = Files.createTempDirectory("series-store").toString();
+            registry.add("series-store.directory", () -> directory);
+        }
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent history and latest reads")
+    void concurrentReads() throws Exception {
+        // given
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        run(client, WARMUP_SECONDS);
+
+        // when
+        long start = System.nanoTime();
+        List<Worker> workers = run(client, DURATION_SECONDS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // then
+        Latencies history = new Latencies();
+        Latencies latest = new Latencies();
+        long errors = 0;
+        for (Worker worker : workers) {
+            history.addAll(worker.history);
+            latest.addAll(worker.latest);
+            errors += worker.errors;
+        }
+
+        System.out.printf(Locale.ROOT, """
+                === Stats endpoint load (%d clients, %s) ===
+                data:             %,d records, %d categories, %d cities, %d years
+                %s
+                %s
+                total:            %.0f req/s, %d errors
+                """,
+                CONCURRENCY, SERIES_STORE ? "series store" : "database",
+                HISTORY.recordCount(), CATEGORIES, CITIES, YEARS,
+                history.summary("history", seconds),
+                latest.summary("latest", seconds),
+                (history.size + latest.size) / seconds, errors);
+
+        assertThat(errors).isZero();
+        assertThat(history.size).isPositive();
+        assertThat(latest.size).isPositive();
+    }
+
+    private List<Worker> run(HttpClient client, int durationSeconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<Worker>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(executor.submit(() -> new Worker().run(client, deadline)));
+            }
+            List<Worker> workers = new ArrayList<>();
+            for (Future<Worker> future : futures) {
+                workers.add(future.get());
+            }
+            return workers;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * One client issuing requests back to back with a random mix of filters and date ranges.
+     */
+    private final class Worker {
+
+        private final Latencies history = new Latencies();
+        private final Latencies latest = new Latencies();
+        private long errors;
+
+        Worker run(HttpClient client, long deadline) throws IOException, InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                boolean latestRequest = random.nextInt(4) == 0;
+                URI uri = URI.create("http://localhost:" + port + "/api/stats/"
+                        + randomPath(random, latestRequest));
+
+                long start = System.nanoTime();
+                HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                long elapsed = System.nanoTime() - start;
+
+                if (response.statusCode() != 200) {
+                    errors++;
+                } else if (latestRequest) {
+                    latest.add(elapsed);
+                } else {
+                    history.add(elapsed);
+                }
+            }
+            return this;
+        }
+
+        private String randomPath(ThreadLocalRandom random, boolean latestRequest) {
+            List<String> categories = HISTORY.categorySlugs();
+            List<String> cities = HISTORY.citySlugs();
+            StringBuilder path = new StringBuilder(categories.get(random.nextInt(categories.size())));
+            if (latestRequest) {
+                path.append("/latest");
+            }
+            path.append("?metricType=").append(pick(random, MetricType.values()));
+            if (!cities.isEmpty() && random.nextBoolean()) {
+                path.append("&city=").append(cities.get(random.nextInt(cities.size())));
+            }
+            if (random.nextBoolean()) {
+                path.append("&experienceLevel=").append(pick(random, ExperienceLevel.values()));
+            }
+            if (random.nextBoolean()) {
+                path.append("&salaryRange=").append(pick(random, SalaryRange.values()));
+            }
+            if (!latestRequest && random.nextInt(5) > 0) {
+                LocalDate endDate = HISTORY.endDate().minusDays(random.nextInt(30));
+                path.append("&startDate=").append(endDate.minusDays(pick(random, WINDOW_DAYS)))
+                        .append("&endDate=").append(endDate);
+            }
+            return path.toString();
+        }
+
+        private static <T> T pick(ThreadLocalRandom random, T[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        private static int pick(ThreadLocalRandom random, int[] values) {
+            return values[random.nextInt(values.length)];
+        }
+    }
+
+    /**
+     * Growable array of latencies in nanoseconds.
+     */
+    private static final class Latencies {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        void addAll(Latencies other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        String summary(String name, double seconds) {
+            if (size == 0) {
+                return String.format(Locale.ROOT, "%-17s no requests", name + ":");
+            }
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return String.format(Locale.ROOT, "%-17s %,d requests, %.0f req/s, p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, "
+                            + "p99.9 %.2f ms, max %.2f ms",
+                    name + ":", size, size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), sorted[size - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.jobmarket.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkloadRoutingDataSource")
+class WorkloadRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource ingest;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection ingestConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private WorkloadRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        routingDataSource = new WorkloadRoutingDataSource(primary, ingest, replica);
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("should send read-only transactions to the replica")
+    void shouldRouteReadsToReplica() throws SQLException {
+        // given
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when / then
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("should send writes and non-transactional work to the primary")
+    void shouldRouteWritesToPrimary() throws SQLException {
+        // when / then
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("should give scraper threads the ingest pool, even for reads")
+    void shouldRouteIngestThreadsToIngestPool() throws Exception {
+        // given
+        when(ingest.getConnection()).thenReturn(ingestConnection);
+        AtomicReference<Connection> used = new AtomicReference<>();
+        Thread scraper = Workload.INGEST.newThread(() -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try {
+                used.set(routingDataSource.getConnection());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }, "scrape-test");
+
+        // when
+        scraper.start();
+        scraper.join();
+
+        // then
+        assertThat(used.get()).isSameAs(ingestConnection);
+        assertThat(Workload.current()).isEqualTo(Workload.API);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("should fail reads over to the primary until the replica recovers")
+    void shouldFailOverAndRecover() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection())
+                .thenThrow(new SQLException("Connection refused"))
+                .thenReturn(replicaConnection);
+        when(replicaConnection.isValid(2)).thenReturn(true);
+
+        // when
+        Connection duringOutage = routingDataSource.getConnection();
+        boolean healthyDuringOutage = routingDataSource.isReplicaHealthy();
+        Connection secondRead = routingDataSource.getConnection();
+        routingDataSource.probeReplica();
+
+        // then
+        assertThat(duringOutage).isSameAs(primaryConnection);
+        assertThat(healthyDuringOutage).isFalse();
+        assertThat(secondRead).isSameAs(primaryConnection);
+        assertThat(routingDataSource.isReplicaHealthy()).isTrue();
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+}
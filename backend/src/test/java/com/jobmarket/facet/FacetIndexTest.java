@@ -0,0 +1,99 @@
+package com.jobmarket.facet;
+
+import com.jobmarket.repository.JobOfferFact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("FacetIndex")
+class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = FacetIndex.build(List.of(
+                offer("1", "java", "wrocław", "remote", 32000, "PLN", "spring", "kafka"),
+                offer("2", "java", "kraków", "office", 20000, "PLN", "spring"),
+                offer("3", "python", "wrocław", "remote", null, null, "django"),
+                offer("4", "java", "wrocław", "hybrid", 27000, "PLN", "spring", "kotlin"),
+                offer("5", "devops", "kraków", "remote", 6000, "EUR", "kafka")), LocalDate.of(2025, 3, 10));
+    }
+
+    @Test
+    @DisplayName("should OR values within a dimension and AND across dimensions")
+    void shouldCombineFilters() {
+        // when
+        RoaringBitmap matching = index.match(Map.of(
+                FacetDimension.SKILL, List.of("spring", "kafka"),
+                FacetDimension.WORKPLACE_TYPE, List.of("remote")));
+
+        // then
+        assertThat(matching.toArray()).containsExactly(0, 4);
+    }
+
+    @Test
+    @DisplayName("should match every offer without filters and none for an unknown value")
+    void shouldMatchAllOrNothing() {
+        // when / then
+        assertThat(index.match(Map.of()).getCardinality()).isEqualTo(5);
+        assertThat(index.match(Map.of(FacetDimension.CITY, List.of("gdańsk"))).isEmpty()).isTrue();
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should count matching offers per value, largest first")
+    void shouldBreakDownMatchingOffers() {
+        // given
+        RoaringBitmap java = index.match(Map.of(FacetDimension.CATEGORY, List.of("java")));
+
+        // when
+        Map<String, Integer> skills = index.counts(FacetDimension.SKILL, java, 10);
+        Map<String, Integer> topCity = index.counts(FacetDimension.CITY, java, 1);
+
+        // then
+        assertThat(skills).containsExactly(entry("spring", 3), entry("kafka", 1), entry("kotlin", 1));
+        assertThat(topCity).containsExactly(entry("wrocław", 2));
+    }
+
+    @Test
+    @DisplayName("should ignore a dimension's own filter for its breakdown")
+    void shouldExcludeOwnFilterFromBreakdown() {
+        // given
+        Map<FacetDimension, List<String>> filters = Map.of(
+                FacetDimension.CITY, List.of("wrocław"),
+                FacetDimension.CATEGORY, List.of("java"));
+
+        // when
+        Map<String, Integer> cities = index.counts(FacetDimension.CITY,
+                index.matchExcept(filters, FacetDimension.CITY), 10);
+
+        // then
+        assertThat(cities).containsExactly(entry("wrocław", 2), entry("kraków", 1));
+    }
+
+    @Test
+    @DisplayName("should bucket PLN salaries like the stats cells")
+    void shouldBucketSalaries() {
+        // when
+        Map<String, Integer> salaries = index.counts(FacetDimension.SALARY, index.match(Map.of()), 10);
+
+        // then
+        assertThat(salaries).containsOnly(
+                entry("OVER_30K", 1), entry("UNDER_25K", 1), entry("RANGE_25_30K", 1),
+                entry(FacetDimension.UNDISCLOSED, 1), entry(FacetDimension.OTHER_CURRENCY, 1));
+    }
+
+    private static JobOfferFact offer(String id, String category, String city, String workplaceType,
+                                      Integer salaryFrom, String currency, String... skills) {
+        return new JobOfferFact(id, category, city, workplaceType, "mid", salaryFrom, null, currency, List.of(skills));
+    }
+}
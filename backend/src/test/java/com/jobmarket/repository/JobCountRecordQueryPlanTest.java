@@ -0,0 +1,320 @@
+package com.jobmarket.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.repository.testdata.RecordingDataSource;
+import com.jobmarket.repository.testdata.SyntheticHistoryGenerator;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan regression suite for {@link JobCountRecordRepository}: loads a year of synthetic
+ * history into an embedded Postgres in the order the scraper writes it, runs each repository
+ * query, and replays the exact SQL and parameters Hibernate sent under
+ * {@code EXPLAIN (ANALYZE, BUFFERS)}. A query must not scan {@code job_count_record}
+ * sequentially, must use one of its indexes, and must stay within its buffer budget. The few
+ * queries that read a large part of the table by design are listed with the reason.
+ * <p>
+ * Runs with {@code ./gradlew planTest} and as part of {@code ./gradlew check}. Options:
+ * {@code -Pplan.categories=N} (default 10), {@code -Pplan.cities=N} (default 2) and
+ * {@code -Pplan.years=N} (default 1).
+ */
+@Tag("plan")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("dev")
+@DisplayName("JobCountRecordRepository query plans")
+class JobCountRecordQueryPlanTest {
+
+    private static final SyntheticHistoryGenerator HISTORY = SyntheticHistoryGenerator.history()
+            .withCategories(Integer.getInteger("plan.categories", 10))
+            .withCities(Integer.getInteger("plan.cities", 2))
+            .withYears(Integer.getInteger("plan.years", 1))
+            .inScrapeOrder();
+
+    /**
+     * A plan may touch a few pages per row it returns plus a fixed allowance for index descents,
+     * and never more than a quarter of the table.
+     */
+    private static final long FIXED_BUFFER_ALLOWANCE = 200;
+    private static final long BUFFERS_PER_ROW = 4;
+    private static final long MAX_TABLE_SHARE = 4;
+
+    private static final String TABLE = "job_count_record";
+    private static final Set<String> INDEX_NODES = Set.of("Index Scan", "Index Only Scan", "Bitmap Index Scan");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String CATEGORY = HISTORY.categorySlugs().get(HISTORY.categorySlugs().size() / 2);
+    private static final String CITY = HISTORY.citySlugs().get(0);
+    private static final String ALL_LOCATIONS = MetricType.TOTAL.getLocation();
+    private static final LocalDate END = HISTORY.endDate();
+    private static final LocalDateTime LATEST = END.atTime(23, 59);
+    private static final LocalDateTime MORNING = END.atTime(6, 0);
+
+    private static EmbeddedPostgres postgres;
+    private static Set<String> tableIndexes;
+    private static long tablePages;
+
+    @Autowired
+    private JobCountRecordRepository repository;
+
+    @Autowired
+    private RecordingDataSource recorder;
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        @Bean
+        RecordingDataSource dataSource() {
+            return new RecordingDataSource(postgres.getPostgresDatabase());
+        }
+    }
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        HISTORY.load(postgres.getPostgresDatabase(Map.of("reWriteBatchedInserts", "true")));
+
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + TABLE);
+            tableIndexes = new HashSet<>();
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT indexname FROM pg_indexes WHERE tablename = '" + TABLE + "'")) {
+                while (rs.next()) {
+                    tableIndexes.add(rs.getString(1));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT relpages FROM pg_class WHERE relname = '" + TABLE + "'")) {
+                rs.next();
+                tablePages = rs.getLong(1);
+            }
+        }
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    /**
+     * One repository call and what its plan may do.
+     *
+     * @param fullScanReason why the query may read most of the table, or null when it must not
+     */
+    record QueryCase(String method, String variant, String fullScanReason, Consumer<JobCountRecordRepository> call) {
+
+        static QueryCase indexed(String method, Consumer<JobCountRecordRepository> call) {
+            return new QueryCase(method, "", null, call);
+        }
+
+        static QueryCase indexed(String method, String variant, Consumer<JobCountRecordRepository> call) {
+            return new QueryCase(method, " (" + variant + ")", null, call);
+        }
+
+        static QueryCase fullScan(String method, String reason, Consumer<JobCountRecordRepository> call) {
+            return new QueryCase(method, "", reason, call);
+        }
+
+        @Override
+        public String toString() {
+            return method + variant;
+        }
+    }
+
+    static List<QueryCase> queries() {
+        SalaryRange salary = SalaryRange.RANGE_25_30K;
+        long midId = HISTORY.recordCount() / 2;
+        return List.of(
+                QueryCase.fullScan("findByCategoryOrderByFetchedAtDesc",
+                        "returns every record of a category; not used by the application",
+                        r -> r.findByCategoryOrderByFetchedAtDesc(CATEGORY)),
+                QueryCase.fullScan("findByCategoryAndLocationOrderByFetchedAtDesc",
+                        "returns every record of a category and location; not used by the application",
+                        r -> r.findByCategoryAndLocationOrderByFetchedAtDesc(CATEGORY, CITY)),
+                QueryCase.indexed("findFirstByCategoryOrderByFetchedAtDesc",
+                        r -> r.findFirstByCategoryOrderByFetchedAtDesc(CATEGORY)),
+                QueryCase.indexed("findTopByCategoryOrderByFetchedAtDesc",
+                        r -> r.findTopByCategoryOrderByFetchedAtDesc(CATEGORY)),
+                QueryCase.indexed("findTopByCategoryAndMetricTypeOrderByFetchedAtDesc",
+                        r -> r.findTopByCategoryAndMetricTypeOrderByFetchedAtDesc(CATEGORY, MetricType.REMOTE)),
+                QueryCase.indexed("findByCategoryAndRecordDateGreaterThanEqualOrderByRecordDateAsc",
+                        r -> r.findByCategoryAndRecordDateGreaterThanEqualOrderByRecordDateAsc(
+                                CATEGORY, END.minusDays(27))),
+                QueryCase.indexed("findByCategoryAndFetchedAtAfter",
+                        r -> r.findByCategoryAndFetchedAtAfter(CATEGORY, END.minusDays(6).atStartOfDay())),
+                QueryCase.indexed("findByCategoryAndFetchedAtBetweenOrderByFetchedAtAsc",
+                        r -> r.findByCategoryAndFetchedAtBetweenOrderByFetchedAtAsc(
+                                CATEGORY, END.minusDays(29).atStartOfDay(), LATEST)),
+                QueryCase.indexed("findByCategoryAndMetricTypeAndFetchedAtBetweenOrderByFetchedAtAsc",
+                        r -> r.findByCategoryAndMetricTypeAndFetchedAtBetweenOrderByFetchedAtAsc(
+                                CATEGORY, MetricType.TOTAL, END.minusDays(29).atStartOfDay(), LATEST)),
+                QueryCase.indexed("findPreviousRecord",
+                        r -> r.findPreviousRecord(CATEGORY, MORNING)),
+                QueryCase.indexed("findPreviousRecordByMetricType",
+                        r -> r.findPreviousRecordByMetricType(CATEGORY, MetricType.WITH_SALARY, MORNING)),
+                QueryCase.fullScan("findDistinctCategories",
+                        "reads the category of every record",
+                        JobCountRecordRepository::findDistinctCategories),
+                QueryCase.indexed("findMaxId",
+                        JobCountRecordRepository::findMaxId),
+                QueryCase.indexed("findByIdGreaterThanOrderByIdAsc",
+                        r -> r.findByIdGreaterThanOrderByIdAsc(midId, PageRequest.of(0, 500))),
+                QueryCase.indexed("findByFilters", "headline, one year",
+                        r -> r.findByFilters(CATEGORY, MetricType.TOTAL, ALL_LOCATIONS, null, null, null,
+                                END.minusYears(1).atStartOfDay(), LATEST)),
+                QueryCase.indexed("findByFilters", "city, experience and salary, 90 days",
+                        r -> r.findByFilters(CATEGORY, MetricType.WITH_SALARY, CITY, ExperienceLevel.SENIOR,
+                                salary.getMin(), salary.getMax(), END.minusDays(89).atStartOfDay(), LATEST)),
+                QueryCase.indexed("findLatestByFilters",
+                        r -> r.findLatestByFilters(CATEGORY, MetricType.TOTAL, ALL_LOCATIONS, null, null, null)),
+                QueryCase.indexed("findPreviousByFilters",
+                        r -> r.findPreviousByFilters(CATEGORY, MetricType.REMOTE, CITY, ExperienceLevel.MID,
+                                salary.getMin(), salary.getMax(), MORNING)),
+                QueryCase.fullScan("count",
+                        "counts the whole table",
+                        JobCountRecordRepository::count),
+                QueryCase.indexed("findAllById",
+                        r -> r.findAllById(LongStream.rangeClosed(1, 50).map(i -> i * 997).boxed().toList())));
+    }
+
+    @Test
+    @DisplayName("should cover every query declared on the repository")
+    void shouldCoverEveryQuery() {
+        // given
+        Set<String> declared = Arrays.stream(JobCountRecordRepository.class.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic())
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+
+        // when
+        Set<String> covered = queries().stream().map(QueryCase::method).collect(Collectors.toSet());
+
+        // then
+        assertThat(covered).containsAll(declared);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    @DisplayName("should use an index and stay within its buffer budget")
+    void shouldUseIndexWithinBudget(QueryCase query) throws Exception {
+        // when
+        Plan plan = explain(query.call());
+
+        // then
+        assertThat(plan.nodes()).as("plan nodes").isNotEmpty();
+        if (query.fullScanReason() != null) {
+            return;
+        }
+        assertThat(plan.sequentialScans()).as("sequential scans on %s in\n%s", TABLE, plan).isZero();
+        assertThat(plan.indexScans()).as("index scans on %s in\n%s", TABLE, plan).isPositive();
+        long budget = Math.min(FIXED_BUFFER_ALLOWANCE + BUFFERS_PER_ROW * plan.rows(), tablePages / MAX_TABLE_SHARE);
+        assertThat(plan.buffers()).as("buffers for %,d rows in\n%s", plan.rows(), plan).isLessThanOrEqualTo(budget);
+    }
+
+    private Plan explain(Consumer<JobCountRecordRepository> call) throws Exception {
+        recorder.clear();
+        call.accept(repository);
+        List<RecordingDataSource.Execution> executions = recorder.executions();
+        assertThat(executions).as("statements run by the repository call").hasSize(1);
+
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             PreparedStatement statement = executions.get(0)
+                     .prepare(connection, "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ");
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return Plan.of(MAPPER.readTree(rs.getString(1)).get(0).get("Plan"));
+        }
+    }
+
+    /**
+     * An executed plan; buffer and row counts are those of the root node, which include its children.
+     */
+    record Plan(JsonNode root, List<JsonNode> nodes) {
+
+        static Plan of(JsonNode root) {
+            List<JsonNode> nodes = new ArrayList<>();
+            collect(root, nodes);
+            return new Plan(root, nodes);
+        }
+
+        private static void collect(JsonNode node, List<JsonNode> nodes) {
+            nodes.add(node);
+            node.path("Plans").forEach(child -> collect(child, nodes));
+        }
+
+        long sequentialScans() {
+            return nodes.stream()
+                    .filter(node -> "Seq Scan".equals(node.path("Node Type").asText()))
+                    .filter(node -> TABLE.equals(node.path("Relation Name").asText()))
+                    .count();
+        }
+
+        long indexScans() {
+            return nodes.stream()
+                    .filter(node -> INDEX_NODES.contains(node.path("Node Type").asText()))
+                    .filter(node -> tableIndexes.contains(node.path("Index Name").asText()))
+                    .count();
+        }
+
+        long buffers() {
+            return root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+        }
+
+        long rows() {
+            return root.path("Actual Rows").asLong();
+        }
+
+        @Override
+        public String toString() {
+            return root.toPrettyString();
+        }
+    }
+}
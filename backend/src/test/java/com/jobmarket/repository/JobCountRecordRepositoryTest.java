@@ -69,7 +69,7 @@ class JobCountRecordRepositoryTest {
             void shouldReturnRecordsMatchingCategory() {
                 // given
                 repository.save(aRecord().withCategory(JAVA).withCount(100).build());
-                repository.save(aRecord().withCategory(JAVA).withCount(110).build());
+                repository.save(aRecord().withCategory(JAVA).fetchedAt(ONE_DAY_AGO).withCount(110).build());
                 repository.save(aRecord().withCategory(DATA).withCount(200).build());
 
                 // when
@@ -0,0 +1,106 @@
+package com.jobmarket.repository;
+
+import com.jobmarket.config.OfferStoreConfig;
+import com.jobmarket.scraper.dto.JobOffer;
+import com.jobmarket.service.OfferStoreService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("dev")
+@Import(JobOfferJdbcRepository.class)
+@DisplayName("JobOfferJdbcRepository")
+class JobOfferJdbcRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private JobOfferJdbcRepository repository;
+
+    private OfferStoreService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OfferStoreService(repository, new OfferStoreConfig());
+    }
+
+    @Test
+    @DisplayName("should count an offer from its first sync through the last sync that saw it")
+    void shouldCountWithinValidityInterval() {
+        // given
+        service.sync(List.of(offer("a", "java", "Wroclaw"), offer("b", "java", null), offer("c", "python", null)), DAY);
+        service.sync(List.of(offer("a", "java", "Wroclaw"), offer("d", "java", null)), DAY.plusDays(1));
+
+        // when / then
+        assertThat(countJava(DAY.minusDays(1))).isZero();
+        assertThat(countJava(DAY)).isEqualTo(2);
+        assertThat(countJava(DAY.plusDays(1))).isEqualTo(2);
+        assertThat(countJava(DAY.plusDays(30))).isEqualTo(2);
+        assertThat(repository.countListedOn(DAY, "python", null, null, null, null)).isEqualTo(1);
+        assertThat(repository.countListedOn(DAY.plusDays(1), "python", null, null, null, null)).isZero();
+    }
+
+    @Test
+    @DisplayName("should narrow counts down by the stored attributes")
+    void shouldFilterCounts() {
+        // given
+        service.sync(List.of(offer("a", "java", "Wroclaw"), offer("b", "java", null)), DAY);
+
+        // when / then
+        assertThat(repository.countListedOn(DAY, "java", "wroclaw", null, null, null)).isEqualTo(1);
+        assertThat(repository.countListedOn(DAY, "java", null, "mid", "remote", 20000)).isEqualTo(1);
+        assertThat(repository.countListedOn(DAY, "java", null, null, null, 30000)).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep the open intervals with their skills and record each sync once")
+    void shouldKeepOpenFactsAndSyncs() {
+        // given
+        service.sync(List.of(offer("a", "java", "Wroclaw"), offer("b", "java", null)), DAY);
+        service.sync(List.of(offer("a", "java", "Wroclaw")), DAY.plusDays(1));
+
+        // when
+        Optional<OfferSync> repeated = service.sync(List.of(), DAY.plusDays(1));
+
+        // then
+        assertThat(repeated).isEmpty();
+        assertThat(repository.lastSyncDate()).contains(DAY.plusDays(1));
+        assertThat(repository.findOpen()).containsOnlyKeys("a");
+        assertThat(repository.findOpenFacts()).singleElement()
+                .satisfies(fact -> assertThat(fact.skills()).containsExactly("java", "spring"));
+    }
+
+    private long countJava(LocalDate date) {
+        return repository.countListedOn(date, "java", null, null, null, null);
+    }
+
+    private static JobOffer offer(String id, String markerIcon, String city) {
+        JobOffer.Salary salary = new JobOffer.Salary();
+        salary.setFrom(25000);
+        salary.setTo(30000);
+        salary.setCurrency("pln");
+        JobOffer.EmploymentType employmentType = new JobOffer.EmploymentType();
+        employmentType.setSalary(salary);
+
+        JobOffer offer = new JobOffer();
+        offer.setId(id);
+        offer.setMarkerIcon(markerIcon);
+        offer.setCity(city);
+        offer.setWorkplaceType("Remote");
+        offer.setExperienceLevel("Mid");
+        offer.setEmploymentTypes(List.of(employmentType));
+        offer.setSkills(List.of("Java", "Spring"));
+        return offer;
+    }
+}
@@ -0,0 +1,150 @@
+package com.jobmarket.repository.monitoring;
+
+import com.jobmarket.config.QueryMonitorConfig;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RepositoryTimingInterceptor")
+class RepositoryTimingInterceptorTest {
+
+    interface SampleRepository {
+
+        List<String> findByCategory(@Param("category") String category);
+
+        Optional<String> findLatest(@Param("category") String category);
+    }
+
+    @Mock
+    private QueryExplainer explainer;
+
+    private SimpleMeterRegistry registry;
+    private QueryMonitorConfig config;
+    private SqlCapture sqlCapture;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        config = new QueryMonitorConfig();
+        sqlCapture = new SqlCapture();
+    }
+
+    @Test
+    @DisplayName("should time each call tagged with method and row count bucket")
+    void shouldTimeCallsWithRowBuckets() {
+        // given
+        SampleRepository repository = instrument(new SampleRepository() {
+            @Override
+            public List<String> findByCategory(String category) {
+                return Collections.nCopies(42, category);
+            }
+
+            @Override
+            public Optional<String> findLatest(String category) {
+                return Optional.empty();
+            }
+        });
+
+        // when
+        repository.findByCategory("java");
+        repository.findByCategory("java");
+        repository.findLatest("java");
+
+        // then
+        Timer list = registry.find("repository.query").tags("method", "findByCategory", "rows", "11-100").timer();
+        Timer single = registry.find("repository.query").tags("method", "findLatest", "rows", "0").timer();
+        assertThat(list).isNotNull();
+        assertThat(list.count()).isEqualTo(2);
+        assertThat(list.getId().getTag("repository")).isEqualTo("SampleRepository");
+        assertThat(single).isNotNull();
+        assertThat(single.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should hand the SQL of slow calls to the explainer")
+    void shouldExplainSlowCalls() {
+        // given
+        config.setSlowThresholdMs(0);
+        SampleRepository repository = instrument(new SampleRepository() {
+            @Override
+            public List<String> findByCategory(String category) {
+                sqlCapture.inspect("select * from job_count_record where category=?");
+                return List.of(category);
+            }
+
+            @Override
+            public Optional<String> findLatest(String category) {
+                return Optional.of(category);
+            }
+        });
+
+        // when
+        repository.findByCategory("java");
+
+        // then
+        verify(explainer).maybeExplain("SampleRepository.findByCategory",
+                List.of("select * from job_count_record where category=?"));
+        assertThat(sqlCapture.stop()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should record failed calls and leave fast calls unexplained")
+    void shouldRecordFailures() {
+        // given
+        SampleRepository repository = instrument(new SampleRepository() {
+            @Override
+            public List<String> findByCategory(String category) {
+                throw new IllegalStateException("connection refused");
+            }
+
+            @Override
+            public Optional<String> findLatest(String category) {
+                return Optional.of(category);
+            }
+        });
+
+        // when
+        assertThatThrownBy(() -> repository.findByCategory("java")).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(registry.find("repository.query").tags("outcome", "error", "rows", "none").timer()).isNotNull();
+        verify(explainer, never()).maybeExplain(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("should describe parameters by their query names")
+    void shouldDescribeParameters() throws NoSuchMethodException {
+        // when
+        String described = RepositoryTimingInterceptor.describeParameters(
+                SampleRepository.class.getMethod("findByCategory", String.class), new Object[]{"java"});
+
+        // then
+        assertThat(described).isEqualTo("{category=java}");
+    }
+
+    private SampleRepository instrument(SampleRepository target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(SampleRepository.class);
+        proxyFactory.addAdvice(new RepositoryTimingInterceptor("SampleRepository", registry, config, sqlCapture, explainer));
+        return (SampleRepository) proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobmarket.repository.testdata;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL and bind calls of every prepared statement executed through it, so a test
+ * can run the exact statement Hibernate sent, for example under {@code EXPLAIN}.
+ */
+public class RecordingDataSource extends DelegatingDataSource {
+
+    /**
+     * One executed statement with the {@code set*} calls that bound its parameters.
+     */
+    public record Execution(String sql, List<Bind> binds) {
+
+        /**
+         * Prepares {@code prefix + sql} on the given connection and replays the binds on it.
+         */
+        public PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Bind bind : binds) {
+                try {
+                    bind.method().invoke(statement, bind.args());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    statement.close();
+                    throw new SQLException("Could not replay " + bind.method().getName(), e);
+                }
+            }
+            return statement;
+        }
+    }
+
+    public record Bind(Method method, Object[] args) {
+    }
+
+    private final List<Execution> executions = new ArrayList<>();
+
+    public RecordingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(super.getConnection(username, password));
+    }
+
+    public synchronized List<Execution> executions() {
+        return List.copyOf(executions);
+    }
+
+    public synchronized void clear() {
+        executions.clear();
+    }
+
+    private Connection recording(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return recording(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement recording(PreparedStatement statement, String sql) {
+        List<Bind> binds = new ArrayList<>();
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                binds.add(new Bind(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                binds.clear();
+            } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                synchronized (this) {
+                    executions.add(new Execution(sql, List.copyOf(binds)));
+                }
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
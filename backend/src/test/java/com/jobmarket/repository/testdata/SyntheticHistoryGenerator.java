@@ -0,0 +1,352 @@
+package com.jobmarket.repository.testdata;
+
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.series.SeriesKey;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads years of realistic synthetic {@code job_count_record} history: one record per
+ * day for every category × metric type × location × experience level × salary range series.
+ * <p>
+ * Each series has a base level derived from its filters, a yearly trend, a weekend dip,
+ * mean-reverting noise and occasional one-day scraping drops, so queries and the anomaly
+ * detector see data shaped like production. Output is fully determined by the seed.
+ * Rows are written with JDBC batches; on Postgres add {@code reWriteBatchedInserts=true}
+ * to the JDBC URL to turn them into multi-row inserts.
+ */
+public class SyntheticHistoryGenerator {
+
+    private static final String INSERT_RECORD = "INSERT INTO job_count_record (category, count, fetched_at, " +
+            "location, metric_type, city, experience_level, salary_min, salary_max, record_date, " +
+            "series_key) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CATEGORY = "INSERT INTO tracked_category (name, slug, active) " +
+            "SELECT ?, ?, TRUE WHERE NOT EXISTS (SELECT 1 FROM tracked_category WHERE slug = ?)";
+    private static final String INSERT_CITY = "INSERT INTO tracked_city (name, slug, active) " +
+            "SELECT ?, ?, TRUE WHERE NOT EXISTS (SELECT 1 FROM tracked_city WHERE slug = ?)";
+
+    private static final int BATCH_SIZE = 5000;
+
+    private int categories = 10;
+    private int cities = 2;
+    private List<MetricType> metricTypes = List.of(MetricType.values());
+    private List<ExperienceLevel> experienceLevels = withAll(ExperienceLevel.values());
+    private List<SalaryRange> salaryRanges = withAll(SalaryRange.values());
+    private int years = 1;
+    private LocalDate endDate = LocalDate.now().minusDays(1);
+    private long seed = 42L;
+    private boolean scrapeOrder;
+
+    private SyntheticHistoryGenerator() {
+    }
+
+    public static SyntheticHistoryGenerator history() {
+        return new SyntheticHistoryGenerator();
+    }
+
+    public SyntheticHistoryGenerator withCategories(int categories) {
+        this.categories = categories;
+        return this;
+    }
+
+    public SyntheticHistoryGenerator withCities(int cities) {
+        this.cities = cities;
+        return this;
+    }
+
+    public SyntheticHistoryGenerator withMetricTypes(MetricType... metricTypes) {
+        this.metricTypes = List.of(metricTypes);
+        return this;
+    }
+
+    /**
+     * Experience levels to generate in addition to "all levels".
+     */
+    public SyntheticHistoryGenerator withExperienceLevels(ExperienceLevel... experienceLevels) {
+        this.experienceLevels = withAll(experienceLevels);
+        return this;
+    }
+
+    /**
+     * Salary ranges to generate in addition to "any salary".
+     */
+    public SyntheticHistoryGenerator withSalaryRanges(SalaryRange... salaryRanges) {
+        this.salaryRanges = withAll(salaryRanges);
+        return this;
+    }
+
+    public SyntheticHistoryGenerator withYears(int years) {
+        this.years = years;
+        return this;
+    }
+
+    public SyntheticHistoryGenerator endingOn(LocalDate endDate) {
+        this.endDate = endDate;
+        return this;
+    }
+
+    public SyntheticHistoryGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Inserts day by day across all series, the way the scraper writes them, instead of series
+     * by series. The physical row order, and with it the planner's index correlation, then
+     * matches production; use it when the plans of queries matter.
+     */
+    public SyntheticHistoryGenerator inScrapeOrder() {
+        this.scrapeOrder = true;
+        return this;
+    }
+
+    public List<String> categorySlugs() {
+        List<String> slugs = new ArrayList<>(categories);
+        for (int i = 0; i < categories; i++) {
+            slugs.add("synthetic-" + i);
+        }
+        return slugs;
+    }
+
+    public List<String> citySlugs() {
+        List<String> slugs = new ArrayList<>(cities);
+        for (int i = 0; i < cities; i++) {
+            slugs.add("city-" + i);
+        }
+        return slugs;
+    }
+
+    public LocalDate startDate() {
+        return endDate.minusYears(years).plusDays(1);
+    }
+
+    public LocalDate endDate() {
+        return endDate;
+    }
+
+    public long seriesCount() {
+        return (long) categories * metricTypes.size() * (cities + 1) * experienceLevels.size() * salaryRanges.size();
+    }
+
+    public long recordCount() {
+        return seriesCount() * (endDate.toEpochDay() - startDate().toEpochDay() + 1);
+    }
+
+    /**
+     * Inserts the tracked categories and cities and all records, returning the number of records.
+     */
+    public long load(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                insertTrackedEntities(connection);
+                long inserted = insertRecords(connection);
+                connection.commit();
+                return inserted;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void insertTrackedEntities(Connection connection) throws SQLException {
+        try (PreparedStatement category = connection.prepareStatement(INSERT_CATEGORY);
+             PreparedStatement city = connection.prepareStatement(INSERT_CITY)) {
+            for (String slug : categorySlugs()) {
+                category.setString(1, "Synthetic " + slug);
+                category.setString(2, slug);
+                category.setString(3, slug);
+                category.addBatch();
+            }
+            for (String slug : citySlugs()) {
+                city.setString(1, "City " + slug);
+                city.setString(2, slug);
+                city.setString(3, slug);
+                city.addBatch();
+            }
+            category.executeBatch();
+            city.executeBatch();
+        }
+    }
+
+    private long insertRecords(Connection connection) throws SQLException {
+        List<Series> series = createSeries();
+        List<LocalDate> days = startDate().datesUntil(endDate.plusDays(1)).toList();
+
+        int pending = 0;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_RECORD)) {
+            // Each series draws from its own random stream, so both orders produce the same values
+            if (scrapeOrder) {
+                for (LocalDate day : days) {
+                    for (Series current : series) {
+                        pending = addRecord(statement, current, day, pending);
+                    }
+                }
+            } else {
+                for (Series current : series) {
+                    for (LocalDate day : days) {
+                        pending = addRecord(statement, current, day, pending);
+                    }
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+        return (long) series.size() * days.size();
+    }
+
+    private static int addRecord(PreparedStatement statement, Series series, LocalDate day, int pending)
+            throws SQLException {
+        series.bind(statement, day);
+        statement.addBatch();
+        if (pending + 1 == BATCH_SIZE) {
+            statement.executeBatch();
+            return 0;
+        }
+        return pending + 1;
+    }
+
+    private List<Series> createSeries() {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> locations = new ArrayList<>();
+        locations.add(null);
+        locations.addAll(citySlugs());
+
+        List<Series> series = new ArrayList<>();
+        for (String category : categorySlugs()) {
+            double categoryBase = 50 + Math.exp(random.nextDouble(3.0, 8.0));
+            for (MetricType metricType : metricTypes) {
+                for (String city : locations) {
+                    double cityFactor = city == null ? 1.0 : random.nextDouble(0.05, 0.3);
+                    for (ExperienceLevel experienceLevel : experienceLevels) {
+                        for (SalaryRange salaryRange : salaryRanges) {
+                            double base = categoryBase * metricFactor(metricType) * cityFactor
+                                    * experienceFactor(experienceLevel) * salaryFactor(salaryRange);
+                            series.add(new Series(category, metricType, city, experienceLevel, salaryRange,
+                                    base, random.split()));
+                        }
+                    }
+                }
+            }
+        }
+        return series;
+    }
+
+    private static double metricFactor(MetricType metricType) {
+        return switch (metricType) {
+            case TOTAL -> 1.0;
+            case WITH_SALARY -> 0.7;
+            case REMOTE -> 0.35;
+            case REMOTE_WITH_SALARY -> 0.25;
+        };
+    }
+
+    private static double experienceFactor(ExperienceLevel experienceLevel) {
+        if (experienceLevel == null) {
+            return 1.0;
+        }
+        return switch (experienceLevel) {
+            case JUNIOR -> 0.15;
+            case MID -> 0.45;
+            case SENIOR -> 0.4;
+        };
+    }
+
+    private static double salaryFactor(SalaryRange salaryRange) {
+        if (salaryRange == null) {
+            return 1.0;
+        }
+        return switch (salaryRange) {
+            case UNDER_25K -> 0.5;
+            case RANGE_25_30K -> 0.2;
+            case OVER_30K -> 0.3;
+        };
+    }
+
+    private static <T> List<T> withAll(T[] values) {
+        List<T> list = new ArrayList<>();
+        list.add(null);
+        list.addAll(Arrays.asList(values));
+        return list;
+    }
+
+    /**
+     * One generated series: trend, weekly seasonality, AR(1) noise and rare scraping drops.
+     */
+    private final class Series {
+
+        private final String category;
+        private final MetricType metricType;
+        private final String city;
+        private final String location;
+        private final ExperienceLevel experienceLevel;
+        private final SalaryRange salaryRange;
+        private final String seriesKey;
+        private final double base;
+        private final double dailyGrowth;
+        private final SplittableRandom random;
+        private double noise;
+
+        Series(String category, MetricType metricType, String city, ExperienceLevel experienceLevel,
+               SalaryRange salaryRange, double base, SplittableRandom random) {
+            this.category = category;
+            this.metricType = metricType;
+            this.city = city;
+            this.location = city != null ? city : metricType.getLocation();
+            this.experienceLevel = experienceLevel;
+            this.salaryRange = salaryRange;
+            this.seriesKey = SeriesKey.of(category, metricType, city, experienceLevel, salaryRange).encode();
+            this.base = base;
+            this.dailyGrowth = random.nextDouble(-0.2, 0.3) / 365;
+            this.random = random;
+        }
+
+        void bind(PreparedStatement statement, LocalDate day) throws SQLException {
+            long age = day.toEpochDay() - startDate().toEpochDay();
+            noise = 0.9 * noise + random.nextDouble(-0.03, 0.03);
+            double weekend = day.getDayOfWeek().getValue() >= 6 ? 0.95 : 1.0;
+            double drop = random.nextInt(100) == 0 ? 0.6 : 1.0;
+            int count = (int) Math.max(0, Math.round(base * (1 + dailyGrowth * age) * weekend * (1 + noise) * drop));
+
+            LocalDateTime fetchedAt = day.atTime(6, 0).plusMinutes(random.nextInt(90));
+            statement.setString(1, category);
+            statement.setInt(2, count);
+            statement.setTimestamp(3, Timestamp.valueOf(fetchedAt));
+            statement.setString(4, location);
+            statement.setString(5, metricType.name());
+            statement.setString(6, city);
+            statement.setString(7, experienceLevel != null ? experienceLevel.name() : null);
+            if (salaryRange != null && salaryRange.getMin() != null) {
+                statement.setInt(8, salaryRange.getMin());
+            } else {
+                statement.setNull(8, Types.INTEGER);
+            }
+            if (salaryRange != null && salaryRange.getMax() != null) {
+                statement.setInt(9, salaryRange.getMax());
+            } else {
+                statement.setNull(9, Types.INTEGER);
+            }
+            statement.setDate(10, Date.valueOf(day));
+            statement.setString(11, seriesKey);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.jobmarket.scheduler;
+
+import com.jobmarket.config.SchedulerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("dev")
+@DisplayName("ClusterCoordinator")
+class ClusterCoordinatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 10, 0);
+    private static final long LEASE_TTL_MS = 60000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ClusterCoordinator nodeA;
+    private ClusterCoordinator nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = coordinator("node-a");
+        nodeB = coordinator("node-b");
+    }
+
+    @Nested
+    @DisplayName("membership")
+    class Membership {
+
+        @Test
+        @DisplayName("should list nodes with a recent heartbeat")
+        void shouldListLiveNodes() {
+            // given
+            nodeA.heartbeat(NOW);
+            nodeB.heartbeat(NOW);
+
+            // when
+            List<String> live = nodeA.liveNodes(NOW.plusSeconds(30));
+
+            // then
+            assertThat(live).containsExactly("node-a", "node-b");
+        }
+
+        @Test
+        @DisplayName("should drop a node whose heartbeat expired")
+        void shouldDropDeadNode() {
+            // given
+            nodeA.heartbeat(NOW);
+            nodeB.heartbeat(NOW);
+            nodeA.heartbeat(NOW.plusSeconds(90));
+
+            // when
+            List<String> live = nodeA.liveNodes(NOW.plusSeconds(90));
+
+            // then
+            assertThat(live).containsExactly("node-a");
+        }
+    }
+
+    @Nested
+    @DisplayName("sharding")
+    class Sharding {
+
+        @Test
+        @DisplayName("should assign every category to exactly one live node")
+        void shouldPartitionCategories() {
+            // given
+            List<String> nodes = List.of("node-a", "node-b");
+            List<String> categories = IntStream.range(0, 200).mapToObj(i -> "category-" + i).toList();
+
+            // when
+            long assignedToA = categories.stream().filter(c -> nodeA.isAssignedToThisNode(c, nodes)).count();
+            long assignedToB = categories.stream().filter(c -> nodeB.isAssignedToThisNode(c, nodes)).count();
+
+            // then
+            assertThat(assignedToA + assignedToB).isEqualTo(categories.size());
+            assertThat(assignedToA).isBetween(60L, 140L);
+        }
+
+        @Test
+        @DisplayName("should only move a removed node's categories")
+        void shouldOnlyMoveRemovedNodesCategories() {
+            // given
+            List<String> three = List.of("node-a", "node-b", "node-c");
+            List<String> two = List.of("node-a", "node-b");
+
+            // when / then
+            for (int i = 0; i < 200; i++) {
+                String category = "category-" + i;
+                String before = ClusterCoordinator.assignedNode(category, three);
+                if (!before.equals("node-c")) {
+                    assertThat(ClusterCoordinator.assignedNode(category, two)).isEqualTo(before);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("leases")
+    class Leases {
+
+        @Test
+        @DisplayName("should let only one node hold a category")
+        void shouldGrantLeaseOnce() {
+            // when
+            boolean acquiredByA = nodeA.tryAcquire("java", NOW);
+            boolean acquiredByB = nodeB.tryAcquire("java", NOW.plusSeconds(1));
+
+            // then
+            assertThat(acquiredByA).isTrue();
+            assertThat(acquiredByB).isFalse();
+        }
+
+        @Test
+        @DisplayName("should keep a lease alive through heartbeats")
+        void shouldRenewLeaseOnHeartbeat() {
+            // given
+            nodeA.tryAcquire("java", NOW);
+            nodeA.heartbeat(NOW.plusSeconds(50));
+
+            // when
+            boolean acquiredByB = nodeB.tryAcquire("java", NOW.plusSeconds(90));
+
+            // then
+            assertThat(acquiredByB).isFalse();
+        }
+
+        @Test
+        @DisplayName("should let another node take over an expired lease")
+        void shouldTakeOverExpiredLease() {
+            // given
+            nodeA.tryAcquire("java", NOW);
+
+            // when
+            boolean acquiredByB = nodeB.tryAcquire("java", NOW.plusSeconds(61));
+
+            // then
+            assertThat(acquiredByB).isTrue();
+        }
+
+        @Test
+        @DisplayName("should free a released lease immediately")
+        void shouldFreeReleasedLease() {
+            // given
+            nodeA.tryAcquire("java", NOW);
+            nodeA.release("java");
+
+            // when
+            boolean acquiredByB = nodeB.tryAcquire("java", NOW.plusSeconds(1));
+
+            // then
+            assertThat(acquiredByB).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep the scheduler of the same node off a manually scraped category")
+        void shouldExcludeSchedulerFromManualLease() {
+            // given
+            nodeA.tryAcquireManual("java", NOW);
+
+            // when
+            boolean acquiredByScheduler = nodeA.tryAcquire("java", NOW.plusSeconds(1));
+            boolean acquiredByOtherNode = nodeB.tryAcquire("java", NOW.plusSeconds(1));
+
+            // then
+            assertThat(acquiredByScheduler).isFalse();
+            assertThat(acquiredByOtherNode).isFalse();
+        }
+
+        @Test
+        @DisplayName("should refuse a manual lease on a category the scheduler is scraping")
+        void shouldRefuseManualLeaseWhileScheduled() {
+            // given
+            nodeA.tryAcquire("java", NOW);
+
+            // when
+            boolean acquiredOnSameNode = nodeA.tryAcquireManual("java", NOW.plusSeconds(1));
+            boolean acquiredOnOtherNode = nodeB.tryAcquireManual("java", NOW.plusSeconds(1));
+
+            // then
+            assertThat(acquiredOnSameNode).isFalse();
+            assertThat(acquiredOnOtherNode).isFalse();
+        }
+
+        @Test
+        @DisplayName("should renew a manual lease with the heartbeat and free it on release")
+        void shouldRenewAndReleaseManualLease() {
+            // given
+            nodeA.tryAcquireManual("java", NOW);
+            nodeA.heartbeat(NOW.plusSeconds(50));
+            boolean acquiredWhileRenewed = nodeA.tryAcquire("java", NOW.plusSeconds(90));
+            nodeA.releaseManual("java");
+
+            // when
+            boolean acquiredAfterRelease = nodeA.tryAcquire("java", NOW.plusSeconds(91));
+
+            // then
+            assertThat(acquiredWhileRenewed).isFalse();
+            assertThat(acquiredAfterRelease).isTrue();
+        }
+    }
+
+    private ClusterCoordinator coordinator(String nodeId) {
+        SchedulerConfig config = new SchedulerConfig();
+        config.setNodeId(nodeId);
+        config.setLeaseTtlMs(LEASE_TTL_MS);
+        return new ClusterCoordinator(jdbcTemplate, config);
+    }
+}
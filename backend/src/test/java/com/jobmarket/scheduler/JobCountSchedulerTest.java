@@ -0,0 +1,253 @@
+package com.jobmarket.scheduler;
+
+import com.jobmarket.config.SchedulerConfig;
+import com.jobmarket.entity.TrackedCategory;
+import com.jobmarket.repository.TrackedCategoryRepository;
+import com.jobmarket.scraper.JustJoinItScraperService;
+import com.jobmarket.scraper.dto.ScrapeSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobCountScheduler")
+class JobCountSchedulerTest {
+
+    private static final LocalDateTime TEN_AM = LocalDateTime.of(2025, 3, 10, 10, 0);
+    private static final ScrapeSummary SUMMARY = new ScrapeSummary(1L, 0, 0);
+
+    @Mock
+    private JustJoinItScraperService scraperService;
+
+    @Mock
+    private TrackedCategoryRepository categoryRepository;
+
+    @Mock
+    private ClusterCoordinator coordinator;
+
+    private JobCountScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        SchedulerConfig config = new SchedulerConfig();
+        config.setJitterMinutes(0);
+        config.setWorkerThreads(2);
+        scheduler = new JobCountScheduler(scraperService, categoryRepository, config, coordinator);
+        lenient().when(coordinator.liveNodes(any())).thenReturn(List.of("node-a"));
+        lenient().when(coordinator.isAssignedToThisNode(anyString(), anyList())).thenReturn(true);
+        lenient().when(coordinator.tryAcquire(anyString(), any())).thenReturn(true);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Nested
+    @DisplayName("isDue")
+    class IsDue {
+
+        @Test
+        @DisplayName("should be due inside the window when never scraped")
+        void shouldBeDueWhenNeverScraped() {
+            // given
+            TrackedCategory category = category("java", 6, 14, null);
+
+            // when / then
+            assertThat(JobCountScheduler.isDue(category, TEN_AM)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should not be due outside the window")
+        void shouldNotBeDueOutsideWindow() {
+            // given
+            TrackedCategory category = category("java", 6, 14, null);
+
+            // when / then
+            assertThat(JobCountScheduler.isDue(category, TEN_AM.withHour(5))).isFalse();
+            assertThat(JobCountScheduler.isDue(category, TEN_AM.withHour(14))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should not be due again on the same day")
+        void shouldNotBeDueTwiceADay() {
+            // given
+            TrackedCategory category = category("java", 6, 14, TEN_AM.withHour(6).withMinute(20));
+
+            // when / then
+            assertThat(JobCountScheduler.isDue(category, TEN_AM)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should respect a cadence of several days")
+        void shouldRespectCadence() {
+            // given
+            TrackedCategory category = category("java", 6, 14, TEN_AM.minusDays(2));
+            category.setScrapeEveryDays(3);
+
+            // when / then
+            assertThat(JobCountScheduler.isDue(category, TEN_AM)).isFalse();
+            assertThat(JobCountScheduler.isDue(category, TEN_AM.plusDays(1))).isTrue();
+        }
+
+        @Test
+        @DisplayName("should be due again when the last run never finished")
+        void shouldBeDueAfterInterruptedRun() {
+            // given
+            TrackedCategory category = category("java", 6, 14, TEN_AM.withHour(7));
+            category.setLastScrapeFinishedAt(TEN_AM.minusDays(1));
+
+            // when / then
+            assertThat(JobCountScheduler.isDue(category, TEN_AM)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("tick")
+    class Tick {
+
+        @Test
+        @DisplayName("should start due categories and spread them over the rest of the window")
+        void shouldStartDueCategories() {
+            // given
+            TrackedCategory java = category("java", 6, 14, null);
+            TrackedCategory data = category("data", 14, 22, null);
+            when(categoryRepository.findByActiveTrue()).thenReturn(List.of(java, data));
+            when(scraperService.fetchAndSaveJobCountsForCategory(anyString(), any())).thenReturn(SUMMARY);
+
+            // when
+            scheduler.tick(TEN_AM);
+
+            // then
+            ArgumentCaptor<Duration> spread = ArgumentCaptor.forClass(Duration.class);
+            verify(scraperService, timeout(1000)).fetchAndSaveJobCountsForCategory(eq("java"), spread.capture());
+            assertThat(spread.getValue()).isEqualTo(Duration.ofHours(4));
+            verify(categoryRepository).markScrapeStarted(java.getId(), TEN_AM);
+            verify(scraperService, after(100).never()).fetchAndSaveJobCountsForCategory(eq("data"), any());
+        }
+
+        @Test
+        @DisplayName("should not start a category whose previous run is still in progress")
+        void shouldNotOverlapRuns() throws InterruptedException {
+            // given
+            TrackedCategory java = category("java", 6, 14, null);
+            when(categoryRepository.findByActiveTrue()).thenReturn(List.of(java));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(scraperService.fetchAndSaveJobCountsForCategory(eq("java"), any())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return SUMMARY;
+            });
+
+            // when
+            scheduler.tick(TEN_AM);
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            scheduler.tick(TEN_AM.plusMinutes(1));
+            release.countDown();
+
+            // then
+            verify(scraperService, after(200).times(1)).fetchAndSaveJobCountsForCategory(eq("java"), any());
+        }
+
+        @Test
+        @DisplayName("should pick up newly activated categories without code changes")
+        void shouldPickUpNewCategories() {
+            // given
+            TrackedCategory rust = category("rust", 0, 23, null);
+            when(categoryRepository.findByActiveTrue()).thenReturn(List.of(rust));
+            when(scraperService.fetchAndSaveJobCountsForCategory(eq("rust"), any())).thenReturn(SUMMARY);
+
+            // when
+            scheduler.tick(TEN_AM);
+
+            // then
+            verify(scraperService, timeout(1000)).fetchAndSaveJobCountsForCategory(eq("rust"), any());
+        }
+
+        @Test
+        @DisplayName("should leave categories assigned to other nodes alone")
+        void shouldSkipCategoriesOfOtherNodes() {
+            // given
+            TrackedCategory java = category("java", 6, 14, null);
+            when(categoryRepository.findByActiveTrue()).thenReturn(List.of(java));
+            when(coordinator.isAssignedToThisNode(eq("java"), anyList())).thenReturn(false);
+
+            // when
+            scheduler.tick(TEN_AM);
+
+            // then
+            verify(coordinator, never()).tryAcquire(anyString(), any());
+            verify(scraperService, after(100).never()).fetchAndSaveJobCountsForCategory(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("should not start a category leased by another node")
+        void shouldNotStartLeasedCategory() {
+            // given
+            TrackedCategory java = category("java", 6, 14, null);
+            when(categoryRepository.findByActiveTrue()).thenReturn(List.of(java));
+            when(coordinator.tryAcquire(eq("java"), any())).thenReturn(false);
+
+            // when
+            scheduler.tick(TEN_AM);
+
+            // then
+            verify(categoryRepository, never()).markScrapeStarted(any(), any());
+            verify(scraperService, after(100).never()).fetchAndSaveJobCountsForCategory(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("should record the finish and release the lease after a run")
+        void shouldReleaseLeaseAfterRun() {
+            // given
+            TrackedCategory java = category("java", 6, 14, null);
+            when(categoryRepository.findByActiveTrue()).thenReturn(List.of(java));
+            when(scraperService.fetchAndSaveJobCountsForCategory(eq("java"), any())).thenReturn(SUMMARY);
+
+            // when
+            scheduler.tick(TEN_AM);
+
+            // then
+            verify(coordinator, timeout(1000)).release("java");
+            verify(categoryRepository).markScrapeFinished(any(), any());
+        }
+    }
+
+    private static TrackedCategory category(String slug, int windowStartHour, int windowEndHour,
+                                            LocalDateTime lastStarted) {
+        return TrackedCategory.builder()
+                .name(slug)
+                .slug(slug)
+                .scrapeWindowStart(LocalTime.of(windowStartHour, 0))
+                .scrapeWindowEnd(LocalTime.of(windowEndHour, 0))
+                .lastScrapeStartedAt(lastStarted)
+                .build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.jobmarket.scraper;
+
+import com.jobmarket.config.ScraperConfig;
+import com.jobmarket.entity.ScrapeRun;
+import com.jobmarket.entity.TrackedCategory;
+import com.jobmarket.repository.TrackedCategoryRepository;
+import com.jobmarket.repository.TrackedCityRepository;
+import com.jobmarket.scraper.anomaly.AnomalyCheckResult;
+import com.jobmarket.scraper.anomaly.AnomalyDetectionService;
+import com.jobmarket.scraper.client.JustJoinItApiClient;
+import com.jobmarket.scraper.client.JustJoinItHtmlParser;
+import com.jobmarket.scraper.dto.JobCountResult;
+import com.jobmarket.scraper.dto.PageFetch;
+import com.jobmarket.scraper.history.ScrapeHistoryService;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import com.jobmarket.scraper.pacing.AdaptivePacer;
+import com.jobmarket.scraper.persistence.JobCountResultWriter;
+import com.jobmarket.scraper.progress.ScrapeProgress;
+import com.jobmarket.scraper.sampling.CellPrioritizer;
+import com.jobmarket.scraper.sampling.CellSampler;
+import com.jobmarket.scraper.sampling.SamplingPlan;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JustJoinItScraperService")
+class JustJoinItScraperServiceTest {
+
+    private static final TrackedCategory JAVA = TrackedCategory.builder().name("Java").slug("java").active(true).build();
+
+    // 4 metric types x 4 experience levels x 4 salary ranges, no tracked cities
+    private static final int CELLS = 64;
+    // Two of the four salary ranges are counted by subtraction and need a second page
+    private static final int PAGES = CELLS + CELLS / 2;
+
+    @Mock
+    private JustJoinItApiClient apiClient;
+
+    @Mock
+    private JustJoinItHtmlParser htmlParser;
+
+    @Mock
+    private TrackedCategoryRepository categoryRepository;
+
+    @Mock
+    private TrackedCityRepository cityRepository;
+
+    @Mock
+    private AnomalyDetectionService anomalyDetectionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ScrapeHistoryService scrapeHistoryService;
+
+    @Mock
+    private AdaptivePacer pacer;
+
+    @Mock
+    private CellSampler sampler;
+
+    @Mock
+    private CellPrioritizer prioritizer;
+
+    @Mock
+    private JobCountResultWriter resultWriter;
+
+    private ScraperConfig config;
+    private SimpleMeterRegistry registry;
+    private JustJoinItScraperService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new ScraperConfig();
+        config.setRetryBaseDelayMs(1);
+        config.setRetryMaxDelayMs(1);
+        registry = new SimpleMeterRegistry();
+        service = new JustJoinItScraperService(apiClient, htmlParser, categoryRepository, cityRepository,
+                anomalyDetectionService, eventPublisher, new ScraperMetrics(registry), scrapeHistoryService, pacer,
+                sampler, prioritizer, config, resultWriter);
+
+        lenient().when(categoryRepository.findBySlug("java")).thenReturn(Optional.of(JAVA));
+        lenient().when(cityRepository.findByActiveTrue()).thenReturn(List.of());
+        lenient().when(sampler.plan(eq("java"), any(), any())).thenReturn(SamplingPlan.scrapeAll(PAGES));
+        lenient().when(prioritizer.order(eq("java"), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(scrapeHistoryService.startRun(any(), anyInt())).thenReturn(ScrapeRun.builder().build());
+        lenient().when(anomalyDetectionService.checkForAnomaly(anyInt(), anyString(), any(), any(), any(), any(), any()))
+                .thenReturn(AnomalyCheckResult.normal());
+        lenient().when(htmlParser.fetchPage(any(), any(), any(), any(), any())).thenReturn(page(100));
+        lenient().when(htmlParser.fetchPageWithSalaryParams(any(), any(), any(), any(), any())).thenReturn(page(40));
+    }
+
+    @Test
+    @DisplayName("should report every fetched page to the pacer")
+    void shouldReportFetchesToPacer() {
+        // when
+        List<JobCountResult> results = service.fetchJobCountsForCategory("java");
+
+        // then
+        assertThat(results).hasSize(CELLS).allMatch(JobCountResult::isSuccess);
+        verify(pacer, times(PAGES)).onResponse(any(PageFetch.class));
+        verify(pacer, times(CELLS)).onResponse(page(100));
+        verify(pacer, times(CELLS / 2)).onResponse(page(40));
+    }
+
+    @Test
+    @DisplayName("should record a completed cell once and stop when interrupted while pacing")
+    void shouldStopAfterInterruptWithoutAbandoningCompletedCell() throws InterruptedException {
+        // given
+        doThrow(new InterruptedException()).when(pacer).awaitNextRequest();
+        ScrapeProgress progress = new ScrapeProgress("java");
+
+        // when
+        List<JobCountResult> results;
+        try {
+            results = service.fetchJobCountsForCategory("java", null, progress);
+        } finally {
+            Thread.interrupted();
+        }
+
+        // then
+        assertThat(results).hasSize(1).allMatch(JobCountResult::isSuccess);
+        assertThat(progress.getCompletedCells()).isEqualTo(1);
+        assertThat(progress.getFailedCells()).isZero();
+        verify(scrapeHistoryService, times(1)).recordCell(any(), any(), any());
+        verify(htmlParser, times(1)).fetchPage(any(), any(), any(), any(), any());
+        assertThat(registry.get("scraper.cells.remaining").tag("category", "java").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("should abandon a deferred cell exactly once when interrupted")
+    void shouldAbandonDeferredCellOnce() throws InterruptedException {
+        // given
+        when(htmlParser.fetchPage(any(), any(), any(), any(), any())).thenReturn(page(null));
+        doThrow(new InterruptedException()).when(pacer).awaitNextRequest();
+        ScrapeProgress progress = new ScrapeProgress("java");
+
+        // when
+        List<JobCountResult> results;
+        try {
+            results = service.fetchJobCountsForCategory("java", null, progress);
+        } finally {
+            Thread.interrupted();
+        }
+
+        // then
+        assertThat(results).isEmpty();
+        assertThat(progress.getCompletedCells()).isEqualTo(1);
+        assertThat(progress.getFailedCells()).isEqualTo(1);
+        verify(scrapeHistoryService, times(1)).recordCell(any(), any(), any());
+        verify(htmlParser, times(1)).fetchPage(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should fail the run without refetching when saving a batch fails, keeping the batch")
+    void shouldFailRunWhenBatchIsRejected() {
+        // given
+        config.setSaveBatchSize(10);
+        doThrow(new IllegalStateException("database down")).doNothing().when(resultWriter).write(any());
+        ScrapeProgress progress = new ScrapeProgress("java");
+
+        // when / then
+        assertThatThrownBy(() -> service.fetchAndSaveJobCountsForCategory("java", null, progress))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database down");
+        assertThat(progress.getCompletedCells()).isEqualTo(10);
+        assertThat(progress.getFailedCells()).isZero();
+        verify(scrapeHistoryService, times(10)).recordCell(any(), any(), any());
+        verify(resultWriter, times(2)).write(argThat(batch -> batch.size() == 10));
+        verify(scrapeHistoryService).failRun(any(), eq(10), eq(0), eq("database down"));
+    }
+
+    @Test
+    @DisplayName("should skip a category another scrape holds and release the claimed ones")
+    void shouldSkipUnclaimedCategory() {
+        // given
+        TrackedCategory python = TrackedCategory.builder().name("Python").slug("python").active(true).build();
+        when(categoryRepository.findByActiveTrue()).thenReturn(List.of(JAVA, python));
+        CategoryClaim claim = mock(CategoryClaim.class);
+        when(claim.tryClaim("java")).thenReturn(true);
+        when(claim.tryClaim("python")).thenReturn(false);
+
+        // when
+        service.fetchAndSaveAllJobCounts(new ScrapeProgress(null), claim);
+
+        // then
+        verify(scrapeHistoryService).startRun(null, CELLS);
+        verify(sampler, never()).plan(eq("python"), any(), any());
+        verify(claim).release("java");
+        verify(claim, never()).release("python");
+    }
+
+    private static PageFetch page(Integer count) {
+        return PageFetch.builder()
+                .url("https://justjoin.it/job-offers/all-locations/java")
+                .requestedAt(LocalDateTime.of(2025, 3, 10, 6, 0))
+                .httpStatus(200)
+                .count(count)
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.jobmarket.scraper;
+
+import com.jobmarket.entity.TrackedCategory;
+import com.jobmarket.repository.TrackedCategoryRepository;
+import com.jobmarket.scraper.archive.ResponseArchive;
+import com.jobmarket.scraper.dto.ScrapeSummary;
+import com.jobmarket.scraper.standin.JustJoinItStandIn;
+import com.jobmarket.scraper.standin.StandInOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end scrape benchmark against the local {@link JustJoinItStandIn}: runs a full
+ * {@code fetchAndSaveAllJobCounts} with delays disabled and reports throughput, CPU,
+ * allocation and heap usage.
+ * <p>
+ * Excluded from {@code ./gradlew test}; run with {@code ./gradlew perfTest}. Options:
+ * <ul>
+ *   <li>{@code -Pperf.categories=N} synthetic categories to scrape (default 20)</li>
+ *   <li>{@code -Pperf.latencyMs=N} maximum stand-in latency per request (default 0)</li>
+ *   <li>{@code -Pperf.errorRate=F} fraction of requests answered with 503 (default 0)</li>
+ *   <li>{@code -Pperf.archive=path} replay a recorded archive instead of synthetic pages,
+ *       scraping the categories seeded by the migrations</li>
+ * </ul>
+ */
+@Tag("perf")
+@SpringBootTest(properties = {
+        "scraper.justjoinit.min-requests-per-minute=1000000000",
+        "scraper.justjoinit.max-requests-per-minute=1000000000",
+        "scraper.justjoinit.initial-requests-per-minute=1000000000",
+        "scraper.sampling.enabled=false",
+        "scraper.justjoinit.retry-base-delay-ms=0",
+        "anomaly-detection.retry-delay-ms=0",
+        "series-store.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.jobmarket=WARN"
+})
+@AutoConfigureTestDatabase
+@ActiveProfiles("dev")
+@DisplayName("Scrape throughput benchmark")
+class ScrapeThroughputBenchmarkTest {
+
+    private static final int CATEGORIES = Integer.getInteger("perf.categories", 20);
+    private static final int LATENCY_MS = Integer.getInteger("perf.latencyMs", 0);
+    private static final double ERROR_RATE = Double.parseDouble(System.getProperty("perf.errorRate", "0"));
+    private static final String ARCHIVE = System.getProperty("perf.archive");
+
+    private static JustJoinItStandIn standIn;
+
+    @Autowired
+    private JustJoinItScraperService scraperService;
+
+    @Autowired
+    private TrackedCategoryRepository categoryRepository;
+
+    @DynamicPropertySource
+    static void standInProperties(DynamicPropertyRegistry registry) {
+        standIn = startStandIn();
+        registry.add("scraper.justjoinit.web-base-url", standIn::webBaseUrl);
+        registry.add("scraper.justjoinit.api-base-url", standIn::apiBaseUrl);
+    }
+
+    @AfterAll
+    static void stopStandIn() {
+        if (standIn != null) {
+            standIn.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        if (ARCHIVE != null) {
+            return;
+        }
+        List<TrackedCategory> existing = categoryRepository.findAll();
+        existing.forEach(category -> category.setActive(false));
+        categoryRepository.saveAll(existing);
+
+        for (int i = 0; i < CATEGORIES; i++) {
+            String slug = "perf-category-" + i;
+            TrackedCategory category = categoryRepository.findBySlug(slug)
+                    .orElseGet(() -> TrackedCategory.builder().name("Perf " + slug).slug(slug).build());
+            category.setActive(true);
+            categoryRepository.save(category);
+        }
+    }
+
+    @Test
+    @DisplayName("full scrape run")
+    void fullScrapeRun() {
+        // given
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long requestsBefore = standIn.requestCount();
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMs();
+        long allocatedBefore = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        long cpuBefore = os.getProcessCpuTime();
+        long start = System.nanoTime();
+
+        // when
+        ScrapeSummary summary = scraperService.fetchAndSaveAllJobCounts();
+
+        // then
+        long wallNanos = System.nanoTime() - start;
+        long cpuNanos = os.getProcessCpuTime() - cpuBefore;
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore;
+        long requests = standIn.requestCount() - requestsBefore;
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        double seconds = wallNanos / 1e9;
+
+        System.out.printf("""
+                === Scrape throughput (%s) ===
+                cells:            %d (%d failed)
+                requests:         %d (%d injected errors)
+                wall time:        %.1f s
+                requests/s:       %.1f
+                cells/s:          %.1f
+                process CPU:      %.1f s (%.0f%% of one core)
+                allocated:        %.1f MB on the scraping thread (%.1f KB per request)
+                peak heap:        %.1f MB
+                GC:               %d collections, %d ms
+                """,
+                ARCHIVE != null ? "replay " + ARCHIVE : "synthetic, " + CATEGORIES + " categories",
+                summary.total(), summary.failed(),
+                requests, standIn.errorCount(),
+                seconds,
+                requests / seconds,
+                summary.total() / seconds,
+                cpuNanos / 1e9, 100.0 * cpuNanos / wallNanos,
+                allocated / 1e6, requests > 0 ? allocated / 1e3 / requests : 0.0,
+                peakHeap / 1e6,
+                gcCount() - gcCountBefore, gcTimeMs() - gcTimeBefore);
+
+        assertThat(summary.total()).isPositive();
+        assertThat(requests).isGreaterThanOrEqualTo(summary.total());
+        if (ARCHIVE == null && ERROR_RATE == 0) {
+            assertThat(summary.failed()).isZero();
+        }
+    }
+
+    private static JustJoinItStandIn startStandIn() {
+        StandInOptions options = StandInOptions.defaults()
+                .latency(0, LATENCY_MS)
+                .errorRate(ERROR_RATE);
+        try {
+            return ARCHIVE != null
+                    ? JustJoinItStandIn.replaying(ResponseArchive.readAll(Path.of(ARCHIVE)), options)
+                    : JustJoinItStandIn.synthetic(options);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcTimeMs() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+}
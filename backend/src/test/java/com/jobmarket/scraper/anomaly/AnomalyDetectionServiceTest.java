@@ -5,6 +5,8 @@ import com.jobmarket.entity.ExperienceLevel;
 import com.jobmarket.entity.JobCountRecord;
 import com.jobmarket.entity.MetricType;
 import com.jobmarket.repository.JobCountRecordRepository;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,10 +18,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.IntUnaryOperator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +33,9 @@ class AnomalyDetectionServiceTest {
     @Mock
     private JobCountRecordRepository repository;
 
+    @Mock
+    private SeriesModelService seriesModels;
+
     private AnomalyDetectionConfig config;
     private AnomalyDetectionService service;
 
@@ -41,7 +48,10 @@ class AnomalyDetectionServiceTest {
         config.setDropThreshold(0.10); // 10% threshold
         config.setRetryDelayMs(3000);
         config.setMinimumCountThreshold(10);
-        service = new AnomalyDetectionService(config, repository);
+        service = new AnomalyDetectionService(config, repository, new ScraperMetrics(new SimpleMeterRegistry()),
+                seriesModels);
+        // Series without enough history fall back to the drop threshold
+        lenient().when(seriesModels.modelFor(any())).thenReturn(SeriesModel.empty());
     }
 
     @Nested
@@ -223,6 +233,84 @@ class AnomalyDetectionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("checkForAnomaly with a warmed-up series model")
+    class CheckAgainstModel {
+
+        @Test
+        @DisplayName("should not flag a drop that is normal for a noisy small series")
+        void shouldNotFlagNoisySmallSeries() {
+            // given - series swinging between 22 and 38
+            when(seriesModels.modelFor(any())).thenReturn(trainedModel(30, day -> day % 2 == 0 ? 22 : 38));
+            when(repository.findPreviousByFilters(any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(createRecord(30)));
+
+            // when - 20% drop from the previous count
+            AnomalyCheckResult result = service.checkForAnomaly(
+                    24, JAVA, MetricType.TOTAL, ALL_LOCATIONS, null, null, null);
+
+            // then
+            assertThat(result.isAnomalyDetected()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should flag a slow degradation the day-over-day threshold misses")
+        void shouldFlagSlowDegradation() {
+            // given - stable series around 1000, already down to 930 yesterday
+            when(seriesModels.modelFor(any())).thenReturn(trainedModel(60, day -> 1000 + day % 3));
+            when(repository.findPreviousByFilters(any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(createRecord(930)));
+
+            // when - only a 6.5% drop from the previous count
+            AnomalyCheckResult result = service.checkForAnomaly(
+                    870, JAVA, MetricType.TOTAL, ALL_LOCATIONS, null, null, null);
+
+            // then
+            assertThat(result.isAnomalyDetected()).isTrue();
+            assertThat(result.getReason()).isEqualTo(AnomalyCheckResult.Reason.DROP_DETECTED);
+            assertThat(result.getZScore()).isLessThan(-config.getModelThresholdSigmas());
+            assertThat(result.getLowerBound()).isBetween(871, 1000);
+        }
+
+        @Test
+        @DisplayName("should validate the retry against the model's lower bound")
+        void shouldValidateRetryAgainstLowerBound() {
+            // given
+            AnomalyCheckResult check = AnomalyCheckResult.modelAnomaly(930, 0.065, -7.0, 940);
+
+            // when / then
+            assertThat(service.validateRetryResult(900, check)).isTrue();
+            assertThat(service.validateRetryResult(950, check)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should use the drop threshold when the model is disabled")
+        void shouldUseThresholdWhenModelDisabled() {
+            // given
+            config.setModelEnabled(false);
+            when(repository.findPreviousByFilters(any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(createRecord(30)));
+
+            // when
+            AnomalyCheckResult result = service.checkForAnomaly(
+                    24, JAVA, MetricType.TOTAL, ALL_LOCATIONS, null, null, null);
+
+            // then
+            assertThat(result.isAnomalyDetected()).isTrue();
+            assertThat(result.getLowerBound()).isNull();
+        }
+
+        private SeriesModel trainedModel(int days, IntUnaryOperator count) {
+            SeriesModel model = SeriesModel.empty();
+            LocalDate today = LocalDate.now();
+            for (int day = 0; day < days; day++) {
+                model.update(today.minusDays(days - day), count.applyAsInt(day), config.getLevelSmoothing(),
+                        config.getSeasonalSmoothing(), config.getVarianceSmoothing());
+            }
+            return model;
+        }
+    }
+
     @Nested
     @DisplayName("resolveCount")
     class ResolveCount {
@@ -0,0 +1,100 @@
+package com.jobmarket.scraper.anomaly;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("SeriesModel")
+class SeriesModelTest {
+
+    private static final double LEVEL = 0.1;
+    private static final double SEASONAL = 0.05;
+    private static final double VARIANCE = 0.05;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("should expect the level of a flat series")
+    void shouldExpectFlatLevel() {
+        // given
+        SeriesModel model = SeriesModel.empty();
+
+        // when
+        for (int day = 0; day < 30; day++) {
+            model.update(START.plusDays(day), 500, LEVEL, SEASONAL, VARIANCE);
+        }
+
+        // then
+        assertThat(model.expectedCount(START.plusDays(30))).isCloseTo(500, within(0.5));
+        assertThat(model.observations()).isEqualTo(30);
+        assertThat(model.lastDate()).isEqualTo(START.plusDays(29));
+    }
+
+    @Test
+    @DisplayName("should learn a weekend dip so weekend counts are not anomalous")
+    void shouldLearnWeekendDip() {
+        // given - weekends 30% lower for a year
+        SeriesModel model = SeriesModel.empty();
+        for (int day = 0; day < 364; day++) {
+            LocalDate date = START.plusDays(day);
+            int count = date.getDayOfWeek().getValue() >= 6 ? 700 : 1000;
+            model.update(date, count, LEVEL, SEASONAL, VARIANCE);
+        }
+        LocalDate saturday = START.plusDays(364).with(DayOfWeek.SATURDAY);
+
+        // when
+        double weekendZ = model.zScore(saturday, 700, 0.02);
+        double weekdayZ = model.zScore(saturday.minusDays(2), 700, 0.02);
+
+        // then
+        assertThat(weekendZ).isGreaterThan(-3.5);
+        assertThat(weekdayZ).isLessThan(weekendZ);
+    }
+
+    @Test
+    @DisplayName("should ignore records that are not newer than the last one")
+    void shouldIgnoreReplayedRecords() {
+        // given
+        SeriesModel model = SeriesModel.empty();
+        model.update(START, 100, LEVEL, SEASONAL, VARIANCE);
+        model.update(START.plusDays(1), 110, LEVEL, SEASONAL, VARIANCE);
+
+        // when
+        boolean changed = model.update(START.plusDays(1), 5000, LEVEL, SEASONAL, VARIANCE);
+
+        // then
+        assertThat(changed).isFalse();
+        assertThat(model.observations()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should round-trip through its fixed-size encoding")
+    void shouldRoundTripEncoding() {
+        // given
+        SeriesModel model = SeriesModel.empty();
+        for (int day = 0; day < 20; day++) {
+            model.update(START.plusDays(day), 200 + day * 3, LEVEL, SEASONAL, VARIANCE);
+        }
+
+        // when
+        byte[] encoded = model.encode();
+        SeriesModel decoded = SeriesModel.decode(encoded);
+
+        // then
+        assertThat(encoded).hasSize(SeriesModel.ENCODED_BYTES);
+        assertThat(decoded.encode()).isEqualTo(encoded);
+        assertThat(decoded.zScore(START.plusDays(20), 150, 0.02)).isEqualTo(model.zScore(START.plusDays(20), 150, 0.02));
+    }
+
+    @Test
+    @DisplayName("should reject an unknown encoding")
+    void shouldRejectUnknownEncoding() {
+        assertThatThrownBy(() -> SeriesModel.decode(new byte[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
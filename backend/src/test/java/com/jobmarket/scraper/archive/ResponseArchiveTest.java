@@ -0,0 +1,73 @@
+package com.jobmarket.scraper.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseArchive")
+class ResponseArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("should read back every recorded response in order")
+    void shouldRoundTripResponses() throws IOException {
+        // given
+        Path file = dir.resolve("responses.jmra.gz");
+        byte[] page = "<title>Java - 1 284 offers</title>".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        try (ResponseArchive.Writer writer = ResponseArchive.create(file)) {
+            writer.write(new ArchivedResponse("https://justjoin.it/job-offers/all-locations/java", 200,
+                    "text/html; charset=UTF-8", page));
+            writer.write(new ArchivedResponse("https://justjoin.it/job-offers/remote/java?with-salary=yes", 503,
+                    null, new byte[0]));
+        }
+        List<ArchivedResponse> responses = ResponseArchive.readAll(file);
+
+        // then
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).url()).isEqualTo("https://justjoin.it/job-offers/all-locations/java");
+        assertThat(responses.get(0).status()).isEqualTo(200);
+        assertThat(responses.get(0).contentType()).isEqualTo("text/html; charset=UTF-8");
+        assertThat(responses.get(0).body()).isEqualTo(page);
+        assertThat(responses.get(1).status()).isEqualTo(503);
+        assertThat(responses.get(1).contentType()).isNull();
+        assertThat(responses.get(1).body()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep complete records of an archive that was not closed")
+    void shouldReadTruncatedArchive() throws IOException {
+        // given
+        Path file = dir.resolve("responses.jmra.gz");
+        ResponseArchive.Writer writer = ResponseArchive.create(file);
+        writer.write(new ArchivedResponse("https://justjoin.it/job-offers/all-locations/java", 200,
+                "text/html", new byte[100]));
+        long firstRecordEnd = Files.size(file);
+        writer.write(new ArchivedResponse("https://justjoin.it/job-offers/all-locations/data", 200,
+                "text/html", new byte[100]));
+        byte[] written = Files.readAllBytes(file);
+
+        // when: the archive is cut off in the middle of the second record
+        Path truncated = dir.resolve("truncated.jmra.gz");
+        int cut = (int) (firstRecordEnd + (written.length - firstRecordEnd) / 2);
+        Files.write(truncated, Arrays.copyOf(written, cut));
+        List<ArchivedResponse> responses = ResponseArchive.readAll(truncated);
+        writer.close();
+
+        // then
+        assertThat(responses).extracting(ArchivedResponse::url)
+                .containsExactly("https://justjoin.it/job-offers/all-locations/java");
+    }
+}
@@ -0,0 +1,151 @@
+package com.jobmarket.scraper.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("JobCountTextScanner")
+class JobCountTextScannerTest {
+
+    // The regular expressions the scanner replaced, used as the reference behaviour
+    private static final Pattern COUNT_PATTERN = Pattern.compile(
+            "(\\d[\\d\\s,]*)\\s*(?:current\\s+)?(?:job\\s+)?(offers?|ofert)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern HEADER_COUNT_PATTERN = Pattern.compile(
+            "[-–]\\s*(\\d[\\d\\s,]*)\\s*(?:job\\s+)?(offers?|ofert)", Pattern.CASE_INSENSITIVE);
+
+    private static final String[] TOKENS = {
+            "0", "7", "12", "368", "2147483647", "2147483648", "99999999999",
+            " ", "  ", "\u00A0", "\u202F", "\u2007", "\u2009", "\t", "\n", "\u3000", ",", ".",
+            "-", "–", "—", "offer", "offers", "OFFERS", "Ofert", "oferty", "of", "off", "fer",
+            "job", "JOB", "jobs", "current", "Current", "c", "o", "x", "é", "K"
+    };
+
+    @Nested
+    @DisplayName("findCount")
+    class FindCount {
+
+        @ParameterizedTest(name = "{0}")
+        @CsvSource(delimiter = '|', value = {
+                "Java Job Offers - 1 284 current job offers, Just Join IT|1284",
+                "Find 1 284 offers for Java developers|1284",
+                "368 ofert pracy|368",
+                "1,234 Job Offers|1234",
+                "Remote work - 368 job offers|368",
+                "Posted 3d ago. 25 000 - 30 000 PLN. 42 offers|42",
+                "1 offer|1"
+        })
+        @DisplayName("should find counts in typical page texts")
+        void shouldFindCounts(String text, int expected) {
+            assertThat(JobCountTextScanner.findCount(text)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("should treat no-break and thin spaces as thousands separators")
+        void shouldHandleUnicodeSpaces() {
+            assertThat(JobCountTextScanner.findCount("1\u00A0284 offers")).isEqualTo(1284);
+            assertThat(JobCountTextScanner.findCount("12\u202F345\u2009job offers")).isEqualTo(12345);
+        }
+
+        @Test
+        @DisplayName("should not match numbers without an offers suffix")
+        void shouldNotMatchWithoutSuffix() {
+            assertThat(JobCountTextScanner.findCount("Java 21, Spring Boot 3.4, 25 000 PLN"))
+                    .isEqualTo(JobCountTextScanner.NO_MATCH);
+        }
+
+        @Test
+        @DisplayName("should report counts that do not fit in an int")
+        void shouldReportOverflow() {
+            assertThat(JobCountTextScanner.findCount("99 999 999 999 offers")).isEqualTo(JobCountTextScanner.OVERFLOW);
+            assertThat(JobCountTextScanner.findCount("2147483647 offers")).isEqualTo(Integer.MAX_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("findHeaderCount")
+    class FindHeaderCount {
+
+        @Test
+        @DisplayName("should find counts after a dash")
+        void shouldFindCountAfterDash() {
+            assertThat(JobCountTextScanner.findHeaderCount("Remote work - 368 job offers")).isEqualTo(368);
+            assertThat(JobCountTextScanner.findHeaderCount("Java – 1 284 offers")).isEqualTo(1284);
+        }
+
+        @Test
+        @DisplayName("should not match counts without a dash or with current")
+        void shouldNotMatchWithoutDash() {
+            assertThat(JobCountTextScanner.findHeaderCount("368 job offers")).isEqualTo(JobCountTextScanner.NO_MATCH);
+            assertThat(JobCountTextScanner.findHeaderCount("Java - 368 current job offers"))
+                    .isEqualTo(JobCountTextScanner.NO_MATCH);
+        }
+    }
+
+    @Nested
+    @DisplayName("equivalence with the regular expressions")
+    class Equivalence {
+
+        @Test
+        @DisplayName("should agree with both patterns on random texts")
+        void shouldAgreeOnRandomTexts() {
+            Random random = new Random(20250101L);
+            for (int i = 0; i < 50_000; i++) {
+                StringBuilder text = new StringBuilder();
+                int tokens = random.nextInt(14);
+                for (int t = 0; t < tokens; t++) {
+                    text.append(TOKENS[random.nextInt(TOKENS.length)]);
+                }
+                String input = text.toString();
+
+                assertThat(JobCountTextScanner.findCount(input))
+                        .as("count in [%s]", input)
+                        .isEqualTo(regexCount(COUNT_PATTERN, input));
+                assertThat(JobCountTextScanner.findHeaderCount(input))
+                        .as("header count in [%s]", input)
+                        .isEqualTo(regexCount(HEADER_COUNT_PATTERN, input));
+            }
+        }
+
+        private int regexCount(Pattern pattern, String text) {
+            String normalized = text.replaceAll("[\\s\\u00A0\\u202F\\u2007\\u2009]+", " ");
+            Matcher matcher = pattern.matcher(normalized);
+            if (!matcher.find()) {
+                return JobCountTextScanner.NO_MATCH;
+            }
+            try {
+                return Integer.parseInt(matcher.group(1).replaceAll("[\\s,]", ""));
+            } catch (NumberFormatException e) {
+                return JobCountTextScanner.OVERFLOW;
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("pathological input")
+    class PathologicalInput {
+
+        @Test
+        @DisplayName("should scan long runs of digits and spaces in linear time")
+        void shouldScanLongRunsQuickly() {
+            // given
+            String digitsAndSpaces = "1 ".repeat(500_000) + "x";
+            String dashes = "- 1 ".repeat(250_000) + "x";
+
+            // when / then
+            assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+                assertThat(JobCountTextScanner.findCount(digitsAndSpaces)).isEqualTo(JobCountTextScanner.NO_MATCH);
+                assertThat(JobCountTextScanner.findHeaderCount(dashes)).isEqualTo(JobCountTextScanner.NO_MATCH);
+            });
+        }
+    }
+}
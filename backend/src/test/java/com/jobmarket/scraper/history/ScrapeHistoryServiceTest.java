@@ -0,0 +1,163 @@
+package com.jobmarket.scraper.history;
+
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.entity.ScrapeRequest;
+import com.jobmarket.entity.ScrapeRun;
+import com.jobmarket.entity.ScrapeRunStatus;
+import com.jobmarket.entity.TrackedCategory;
+import com.jobmarket.repository.ScrapeRunRepository;
+import com.jobmarket.scraper.anomaly.AnomalyCheckResult;
+import com.jobmarket.scraper.dto.ExtractionStrategy;
+import com.jobmarket.scraper.dto.JobCountResult;
+import com.jobmarket.scraper.dto.PageFetch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScrapeHistoryService")
+class ScrapeHistoryServiceTest {
+
+    @Mock
+    private ScrapeRunRepository scrapeRunRepository;
+
+    @Mock
+    private ScrapeHistoryWriter writer;
+
+    private ScrapeHistoryService service;
+    private TrackedCategory java;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScrapeHistoryService(scrapeRunRepository, writer);
+        java = TrackedCategory.builder().name("Java").slug("java").active(true).build();
+    }
+
+    @Nested
+    @DisplayName("recordCell")
+    class RecordCell {
+
+        @Test
+        @DisplayName("should queue one row per page request with the cell's decision and source")
+        @SuppressWarnings("unchecked")
+        void shouldQueueOneRowPerPageRequest() {
+            // given
+            JobCountResult result = JobCountResult.success(java, MetricType.TOTAL, "wroclaw",
+                    ExperienceLevel.MID, SalaryRange.UNDER_25K, 80, LocalDateTime.now(), "HTML_RETRY");
+            result.setAnomalyReason(AnomalyCheckResult.Reason.DROP_DETECTED);
+            List<PageFetch> fetches = List.of(
+                    page(200, 12_345, ExtractionStrategy.TITLE, 50),
+                    page(200, 12_400, ExtractionStrategy.META, 80));
+
+            // when
+            service.recordCell(7L, result, fetches);
+
+            // then
+            ArgumentCaptor<List<ScrapeRequest>> captor = ArgumentCaptor.forClass(List.class);
+            verify(writer).enqueue(captor.capture());
+            List<ScrapeRequest> requests = captor.getValue();
+            assertThat(requests).hasSize(2);
+            assertThat(requests).extracting(ScrapeRequest::getRequestIndex).containsExactly(0, 1);
+            assertThat(requests).extracting(ScrapeRequest::getExtractedCount).containsExactly(50, 80);
+            assertThat(requests).allSatisfy(request -> {
+                assertThat(request.getRunId()).isEqualTo(7L);
+                assertThat(request.getCategory()).isEqualTo("java");
+                assertThat(request.getCity()).isEqualTo("wroclaw");
+                assertThat(request.getSalaryMax()).isEqualTo(SalaryRange.UNDER_25K.getMax());
+                assertThat(request.getAnomalyDecision()).isEqualTo("DROP_DETECTED");
+                assertThat(request.getFinalSource()).isEqualTo("HTML_RETRY");
+            });
+        }
+
+        @Test
+        @DisplayName("should store failed requests without a response size")
+        @SuppressWarnings("unchecked")
+        void shouldStoreFailedRequestsWithoutResponseSize() {
+            // given
+            JobCountResult result = JobCountResult.failed(java, MetricType.TOTAL, null, null, null, "HTTP 503");
+            List<PageFetch> fetches = List.of(page(503, -1, ExtractionStrategy.NONE, null));
+
+            // when
+            service.recordCell(7L, result, fetches);
+
+            // then
+            ArgumentCaptor<List<ScrapeRequest>> captor = ArgumentCaptor.forClass(List.class);
+            verify(writer).enqueue(captor.capture());
+            ScrapeRequest request = captor.getValue().get(0);
+            assertThat(request.getHttpStatus()).isEqualTo(503);
+            assertThat(request.getResponseBytes()).isNull();
+            assertThat(request.getExtractedCount()).isNull();
+            assertThat(request.getAnomalyDecision()).isNull();
+            assertThat(request.getFinalSource()).isEqualTo("FAILED");
+        }
+
+        @Test
+        @DisplayName("should not queue anything when no page was requested")
+        void shouldNotQueueWhenNoPageRequested() {
+            // given
+            JobCountResult result = JobCountResult.failed(java, MetricType.TOTAL, "Interrupted");
+
+            // when
+            service.recordCell(7L, result, List.of());
+
+            // then
+            verify(writer, never()).enqueue(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("completeRun")
+    class CompleteRun {
+
+        @Test
+        @DisplayName("should mark the run completed with success and failure counts")
+        void shouldMarkRunCompleted() {
+            // given
+            ScrapeRun run = ScrapeRun.builder()
+                    .status(ScrapeRunStatus.RUNNING)
+                    .startedAt(LocalDateTime.now().minusMinutes(5))
+                    .totalCells(3)
+                    .build();
+            when(scrapeRunRepository.findById(7L)).thenReturn(Optional.of(run));
+
+            // when
+            service.completeRun(7L, 2, 1);
+
+            // then
+            assertThat(run.getStatus()).isEqualTo(ScrapeRunStatus.COMPLETED);
+            assertThat(run.getFinishedAt()).isNotNull();
+            assertThat(run.getSuccessCount()).isEqualTo(2);
+            assertThat(run.getFailedCount()).isEqualTo(1);
+            assertThat(run.getErrorMessage()).isNull();
+        }
+    }
+
+    private static PageFetch page(int status, long bytes, ExtractionStrategy strategy, Integer count) {
+        return PageFetch.builder()
+                .url("https://justjoin.it/job-offers/all-locations/java")
+                .requestedAt(LocalDateTime.now())
+                .httpStatus(status)
+                .latencyMs(420)
+                .responseBytes(bytes)
+                .extractionStrategy(strategy)
+                .count(count)
+                .build();
+    }
+}
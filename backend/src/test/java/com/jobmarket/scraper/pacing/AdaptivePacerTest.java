@@ -0,0 +1,153 @@
+package com.jobmarket.scraper.pacing;
+
+import com.jobmarket.config.ScraperConfig;
+import com.jobmarket.scraper.dto.PageFetch;
+import com.jobmarket.scraper.metrics.ScraperMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("AdaptivePacer")
+class AdaptivePacerTest {
+
+    private SimpleMeterRegistry registry;
+    private ScraperConfig config;
+    private AdaptivePacer pacer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        config = new ScraperConfig();
+        config.setMinRequestsPerMinute(4);
+        config.setMaxRequestsPerMinute(20);
+        config.setInitialRequestsPerMinute(10);
+        config.setRateIncreasePerMinute(0.5);
+        config.setBackoffFactor(0.5);
+        config.setSlowResponseMs(5000);
+        config.setDelayJitter(0);
+        pacer = new AdaptivePacer(config, new ScraperMetrics(registry));
+    }
+
+    @Nested
+    @DisplayName("onResponse")
+    class OnResponse {
+
+        @Test
+        @DisplayName("should increase rate additively after a healthy response")
+        void shouldIncreaseRateAfterHealthyResponse() {
+            // when
+            pacer.onResponse(fetch(200, 800, 120));
+            pacer.onResponse(fetch(200, 800, 120));
+
+            // then
+            assertThat(pacer.currentRate()).isCloseTo(11.0, within(1e-9));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {429, 503, 502, 0})
+        @DisplayName("should back off multiplicatively on throttling, errors and missing responses")
+        void shouldBackOffOnDistressStatus(int status) {
+            // when
+            pacer.onResponse(fetch(status, 800, null));
+
+            // then
+            assertThat(pacer.currentRate()).isCloseTo(5.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("should back off on a slow response")
+        void shouldBackOffOnSlowResponse() {
+            // when
+            pacer.onResponse(fetch(200, 6000, 120));
+
+            // then
+            assertThat(pacer.currentRate()).isCloseTo(5.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("should back off when no count could be extracted")
+        void shouldBackOffOnExtractionFailure() {
+            // when
+            pacer.onResponse(fetch(200, 800, null));
+
+            // then
+            assertThat(pacer.currentRate()).isCloseTo(5.0, within(1e-9));
+            assertThat(registry.counter("scraper.pacing.backoffs", "signal", "extraction_failed").count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("should leave rate unchanged on a client error")
+        void shouldIgnoreClientErrors() {
+            // when
+            pacer.onResponse(fetch(404, 800, null));
+
+            // then
+            assertThat(pacer.currentRate()).isCloseTo(10.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("should stay within floor and ceiling")
+        void shouldStayWithinBounds() {
+            // when
+            for (int i = 0; i < 100; i++) {
+                pacer.onResponse(fetch(200, 800, 120));
+            }
+            double afterHealthy = pacer.currentRate();
+            for (int i = 0; i < 10; i++) {
+                pacer.onResponse(fetch(429, 800, null));
+            }
+
+            // then
+            assertThat(afterHealthy).isEqualTo(20.0);
+            assertThat(pacer.currentRate()).isEqualTo(4.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("nextDelayMs")
+    class NextDelayMs {
+
+        @Test
+        @DisplayName("should space requests by the current rate")
+        void shouldSpaceRequestsByRate() {
+            // when
+            long initial = pacer.nextDelayMs();
+            pacer.onResponse(fetch(503, 800, null));
+            long afterBackoff = pacer.nextDelayMs();
+
+            // then
+            assertThat(initial).isEqualTo(6000);
+            assertThat(afterBackoff).isEqualTo(12000);
+        }
+
+        @Test
+        @DisplayName("should apply jitter around the base delay")
+        void shouldApplyJitter() {
+            // given
+            config.setDelayJitter(0.3);
+
+            // when / then
+            for (int i = 0; i < 100; i++) {
+                assertThat(pacer.nextDelayMs()).isBetween(4200L, 7800L);
+            }
+        }
+    }
+
+    private static PageFetch fetch(int status, long latencyMs, Integer count) {
+        return PageFetch.builder()
+                .url("https://justjoin.it/job-offers/all-locations/java")
+                .httpStatus(status)
+                .latencyMs(latencyMs)
+                .responseBytes(-1)
+                .count(count)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.jobmarket.scraper.persistence;
+
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.TrackedCategory;
+import com.jobmarket.scraper.dto.JobCountResult;
+import com.jobmarket.scraper.dto.ScrapeSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResultBatcher")
+class ResultBatcherTest {
+
+    private static final TrackedCategory JAVA = TrackedCategory.builder().name("Java").slug("java").active(true).build();
+
+    @Test
+    @DisplayName("should write a batch as soon as it is full")
+    void shouldWriteFullBatches() {
+        // given
+        List<List<JobCountResult>> batches = new ArrayList<>();
+        ResultBatcher batcher = new ResultBatcher(batches::add, 2, Duration.ZERO);
+
+        // when
+        batcher.add(success(100));
+        batcher.add(success(200));
+        batcher.add(success(300));
+
+        // then
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(JobCountResult::getCount).containsExactly(100, 200);
+    }
+
+    @Test
+    @DisplayName("should write the remainder on flush")
+    void shouldWriteRemainderOnFlush() {
+        // given
+        List<List<JobCountResult>> batches = new ArrayList<>();
+        ResultBatcher batcher = new ResultBatcher(batches::add, 10, Duration.ZERO);
+        batcher.add(success(100));
+
+        // when
+        batcher.flush();
+        batcher.flush();
+
+        // then
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should write a partial batch once its oldest result waited long enough")
+    void shouldWriteAfterMaxDelay() throws InterruptedException {
+        // given
+        List<List<JobCountResult>> batches = new ArrayList<>();
+        ResultBatcher batcher = new ResultBatcher(batches::add, 10, Duration.ofMillis(20));
+        batcher.add(success(100));
+
+        // when
+        Thread.sleep(30);
+        batcher.add(success(200));
+
+        // then
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should keep counting results after their batches were written")
+    void shouldCountWrittenResults() {
+        // given
+        ResultBatcher batcher = new ResultBatcher(batch -> { }, 1, Duration.ZERO);
+
+        // when
+        batcher.add(success(100));
+        batcher.add(JobCountResult.failed(JAVA, MetricType.TOTAL, "HTTP 503"));
+        batcher.add(success(300));
+        ScrapeSummary summary = batcher.summary(7L);
+
+        // then
+        assertThat(summary.runId()).isEqualTo(7L);
+        assertThat(summary.succeeded()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(summary.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should keep a rejected batch for the next flush")
+    void shouldKeepRejectedBatch() {
+        // given
+        List<List<JobCountResult>> batches = new ArrayList<>();
+        ResultBatcher batcher = new ResultBatcher(batch -> {
+            batches.add(List.copyOf(batch));
+            if (batches.size() == 1) {
+                throw new IllegalStateException("database down");
+            }
+        }, 10, Duration.ZERO);
+        batcher.add(success(100));
+
+        // when
+        assertThatThrownBy(batcher::flush).isInstanceOf(IllegalStateException.class);
+        batcher.add(success(200));
+        batcher.flush();
+        batcher.flush();
+
+        // then
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).extracting(JobCountResult::getCount).containsExactly(100, 200);
+    }
+
+    @Test
+    @DisplayName("should collect every result without a size limit")
+    void shouldCollectResults() {
+        // given
+        List<JobCountResult> collected = new ArrayList<>();
+        ResultBatcher batcher = ResultBatcher.collecting(collected);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            batcher.add(success(i));
+        }
+        batcher.flush();
+
+        // then
+        assertThat(collected).hasSize(100);
+    }
+
+    private static JobCountResult success(int count) {
+        return JobCountResult.success(JAVA, MetricType.TOTAL, count, LocalDateTime.now(), "HTML");
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobmarket.scraper.retry;
+
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.scraper.anomaly.AnomalyCheckResult;
+import com.jobmarket.scraper.sampling.ScrapeCell;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeferredRetryQueue")
+class DeferredRetryQueueTest {
+
+    private static final ScrapeCell TOTAL = new ScrapeCell(MetricType.TOTAL, null, null, null);
+    private static final ScrapeCell REMOTE = new ScrapeCell(MetricType.REMOTE, null, null, null);
+
+    @Test
+    @DisplayName("should double the backoff after every failure up to the cap")
+    void shouldBackOffExponentially() {
+        // given
+        DeferredRetryQueue queue = new DeferredRetryQueue(1000, 6000);
+
+        // when / then
+        assertThat(queue.backoffMs(1)).isEqualTo(1000);
+        assertThat(queue.backoffMs(2)).isEqualTo(2000);
+        assertThat(queue.backoffMs(3)).isEqualTo(4000);
+        assertThat(queue.backoffMs(4)).isEqualTo(6000);
+        assertThat(queue.backoffMs(60)).isEqualTo(6000);
+    }
+
+    @Test
+    @DisplayName("should hand out cells in the order they become due")
+    void shouldReturnCellsInDueOrder() throws InterruptedException {
+        // given
+        DeferredRetryQueue queue = new DeferredRetryQueue(0, 0);
+        DeferredCell later = DeferredCell.failed(TOTAL, new ArrayList<>(), "timeout");
+        DeferredCell sooner = DeferredCell.suspect(REMOTE, new ArrayList<>(), 50,
+                AnomalyCheckResult.anomalyDetected(100, 0.5));
+        queue.defer(later, 40);
+        queue.defer(sooner, 0);
+
+        // when
+        DeferredCell first = queue.awaitNext();
+        long start = System.nanoTime();
+        DeferredCell second = queue.awaitNext();
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(first).isSameAs(sooner);
+        assertThat(first.isSuspect()).isTrue();
+        assertThat(second).isSameAs(later);
+        assertThat(second.failures()).isEqualTo(1);
+        assertThat(waitedMs).isGreaterThanOrEqualTo(30);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should drain remaining cells without waiting")
+    void shouldDrainWithoutWaiting() {
+        // given
+        DeferredRetryQueue queue = new DeferredRetryQueue(60000, 60000);
+        queue.deferAfterFailure(DeferredCell.failed(TOTAL, new ArrayList<>(), "timeout"));
+
+        // when / then
+        assertThat(queue.drain()).hasSize(1);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
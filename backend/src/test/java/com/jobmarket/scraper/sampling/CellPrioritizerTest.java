@@ -0,0 +1,115 @@
+package com.jobmarket.scraper.sampling;
+
+import com.jobmarket.config.ScrapeOrderConfig;
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.series.SeriesAccessCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CellPrioritizer")
+class CellPrioritizerTest {
+
+    private ScrapeOrderConfig config;
+    private SeriesAccessCounter accessCounter;
+    private CellPrioritizer prioritizer;
+    private List<ScrapeCell> cells;
+
+    @BeforeEach
+    void setUp() {
+        config = new ScrapeOrderConfig();
+        accessCounter = new SeriesAccessCounter(config);
+        prioritizer = new CellPrioritizer(config, accessCounter);
+
+        List<ExperienceLevel> levels = new ArrayList<>();
+        levels.add(null);
+        levels.addAll(List.of(ExperienceLevel.values()));
+        List<SalaryRange> salaries = new ArrayList<>();
+        salaries.add(null);
+        salaries.addAll(List.of(SalaryRange.values()));
+        cells = ScrapeCell.combinations(Arrays.asList(null, "wroclaw"), levels, salaries);
+    }
+
+    @Test
+    @DisplayName("should scrape the headline cells first, in metric order")
+    void shouldPutHeadlineCellsFirst() {
+        // when
+        List<ScrapeCell> ordered = prioritizer.order("java", cells);
+
+        // then
+        assertThat(ordered.subList(0, MetricType.values().length))
+                .extracting(ScrapeCell::metricType)
+                .containsExactly(MetricType.values());
+        assertThat(ordered.subList(0, MetricType.values().length)).allMatch(CellPrioritizer::isHeadline);
+        assertThat(ordered).containsExactlyInAnyOrderElementsOf(cells);
+    }
+
+    @Test
+    @DisplayName("should scrape the most viewed cells right after the headline cells")
+    void shouldPutViewedCellsNext() {
+        // given
+        ScrapeCell popular = new ScrapeCell(MetricType.REMOTE, "wroclaw", ExperienceLevel.SENIOR, SalaryRange.OVER_30K);
+        ScrapeCell viewed = new ScrapeCell(MetricType.TOTAL, "wroclaw", ExperienceLevel.JUNIOR, null);
+        for (int i = 0; i < 5; i++) {
+            accessCounter.record(popular.seriesKey("java"));
+        }
+        accessCounter.record(viewed.seriesKey("java"));
+        accessCounter.record(viewed.seriesKey("python"));
+
+        // when
+        List<ScrapeCell> ordered = prioritizer.order("java", cells);
+
+        // then
+        int headlines = MetricType.values().length;
+        assertThat(ordered.get(headlines)).isEqualTo(popular);
+        assertThat(ordered.get(headlines + 1)).isEqualTo(viewed);
+    }
+
+    @Test
+    @DisplayName("should keep declaration order for cells nobody views")
+    void shouldKeepDeclarationOrderForTail() {
+        // when
+        List<ScrapeCell> ordered = prioritizer.order("java", cells);
+
+        // then
+        List<ScrapeCell> tail = cells.stream().filter(cell -> !CellPrioritizer.isHeadline(cell)).toList();
+        assertThat(ordered.subList(MetricType.values().length, ordered.size())).containsExactlyElementsOf(tail);
+    }
+
+    @Test
+    @DisplayName("should forget views as they decay")
+    void shouldDecayViews() {
+        // given
+        ScrapeCell cell = new ScrapeCell(MetricType.TOTAL, "wroclaw", null, null);
+        accessCounter.record(cell.seriesKey("java"));
+        accessCounter.record(cell.seriesKey("java"));
+        accessCounter.record(cell.seriesKey("java"));
+
+        // when
+        accessCounter.decay();
+        long afterOne = accessCounter.count(cell.seriesKey("java"));
+        accessCounter.decay();
+
+        // then
+        assertThat(afterOne).isEqualTo(1);
+        assertThat(accessCounter.count(cell.seriesKey("java"))).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep declaration order when disabled")
+    void shouldKeepOrderWhenDisabled() {
+        // given
+        config.setEnabled(false);
+
+        // when / then
+        assertThat(prioritizer.order("java", cells)).containsExactlyElementsOf(cells);
+    }
+}
@@ -0,0 +1,233 @@
+package com.jobmarket.scraper.sampling;
+
+import com.jobmarket.config.SamplingConfig;
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+import com.jobmarket.repository.JobCountRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CellSampler")
+class CellSamplerTest {
+
+    private static final String JAVA = "java";
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    private static final ScrapeCell STABLE_A = new ScrapeCell(MetricType.TOTAL, null, ExperienceLevel.JUNIOR, null);
+    private static final ScrapeCell STABLE_B = new ScrapeCell(MetricType.TOTAL, "slask", ExperienceLevel.JUNIOR,
+            SalaryRange.OVER_30K);
+    private static final ScrapeCell VOLATILE_A = new ScrapeCell(MetricType.TOTAL, null, null, null);
+    private static final ScrapeCell VOLATILE_B = new ScrapeCell(MetricType.REMOTE, null, null, null);
+    private static final List<ScrapeCell> CELLS = List.of(STABLE_A, STABLE_B, VOLATILE_A, VOLATILE_B);
+
+    @Mock
+    private JobCountRecordRepository repository;
+
+    private SamplingConfig config;
+    private CellSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        config = new SamplingConfig();
+        config.setRequestBudgetFraction(0.5);
+        config.setHistoryDays(28);
+        config.setMinObservations(7);
+        config.setMaxCarryDays(7);
+        sampler = new CellSampler(repository, config);
+    }
+
+    @Nested
+    @DisplayName("plan")
+    class Plan {
+
+        @Test
+        @DisplayName("should scrape every cell when sampling is disabled")
+        void shouldScrapeAllWhenDisabled() {
+            // given
+            config.setEnabled(false);
+
+            // when
+            SamplingPlan plan = sampler.plan(JAVA, CELLS, TODAY);
+
+            // then
+            assertThat(plan.carriedCounts()).isEmpty();
+            assertThat(plan.requests()).isEqualTo(4);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("should scrape cells without enough history")
+        void shouldScrapeCellsWithoutHistory() {
+            // given
+            when(repository.findByCategoryAndRecordDateGreaterThanEqualOrderByRecordDateAsc(eq(JAVA), any()))
+                    .thenReturn(List.of());
+
+            // when
+            SamplingPlan plan = sampler.plan(JAVA, CELLS, TODAY);
+
+            // then
+            assertThat(plan.carriedCounts()).isEmpty();
+            assertThat(plan.requests()).isEqualTo(plan.fullRequests());
+        }
+
+        @Test
+        @DisplayName("should carry stable cells forward and spend the budget on volatile ones")
+        void shouldCarryStableCells() {
+            // given
+            List<JobCountRecord> history = new ArrayList<>();
+            history.addAll(series(STABLE_A, 10, day -> 40));
+            history.addAll(series(STABLE_B, 10, day -> 12));
+            history.addAll(series(VOLATILE_A, 10, day -> day % 2 == 0 ? 900 : 1100));
+            history.addAll(series(VOLATILE_B, 10, day -> 300 + day * 25));
+            when(repository.findByCategoryAndRecordDateGreaterThanEqualOrderByRecordDateAsc(JAVA, TODAY.minusDays(28)))
+                    .thenReturn(history);
+
+            // when
+            SamplingPlan plan = sampler.plan(JAVA, CELLS, TODAY);
+
+            // then
+            assertThat(plan.carriedCounts()).containsOnlyKeys(STABLE_A, STABLE_B);
+            assertThat(plan.carriedCount(STABLE_A)).isEqualTo(40);
+            assertThat(plan.isCarried(VOLATILE_A)).isFalse();
+            assertThat(plan.requests()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should refresh a stable cell once its last scraped value is too old")
+        void shouldRefreshStaleCells() {
+            // given
+            List<JobCountRecord> history = new ArrayList<>();
+            List<JobCountRecord> scraped = series(STABLE_A, 10, day -> 40);
+            scraped.forEach(record -> record.setRecordDate(record.getRecordDate().minusDays(7)));
+            history.addAll(scraped);
+            history.addAll(repeated(STABLE_A, 7, 40, CellSampler.SOURCE_CARRIED));
+            history.addAll(series(STABLE_B, 10, day -> 12));
+            history.addAll(series(VOLATILE_A, 10, day -> day % 2 == 0 ? 900 : 1100));
+            history.addAll(series(VOLATILE_B, 10, day -> 300 + day * 25));
+            when(repository.findByCategoryAndRecordDateGreaterThanEqualOrderByRecordDateAsc(eq(JAVA), any()))
+                    .thenReturn(history);
+
+            // when
+            SamplingPlan plan = sampler.plan(JAVA, CELLS, TODAY);
+
+            // then
+            assertThat(plan.isCarried(STABLE_A)).isFalse();
+            assertThat(plan.isCarried(STABLE_B)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should not count previous-day fallback values as scraped")
+        void shouldIgnorePreviousDayValues() {
+            // given
+            List<JobCountRecord> history = new ArrayList<>();
+            List<JobCountRecord> scraped = series(STABLE_A, 10, day -> 40);
+            scraped.forEach(record -> record.setRecordDate(record.getRecordDate().minusDays(7)));
+            history.addAll(scraped);
+            history.addAll(repeated(STABLE_A, 7, 40, CellSampler.SOURCE_PREVIOUS_DAY));
+            history.addAll(series(STABLE_B, 10, day -> 12));
+            history.addAll(series(VOLATILE_A, 10, day -> day % 2 == 0 ? 900 : 1100));
+            history.addAll(series(VOLATILE_B, 10, day -> 300 + day * 25));
+            when(repository.findByCategoryAndRecordDateGreaterThanEqualOrderByRecordDateAsc(eq(JAVA), any()))
+                    .thenReturn(history);
+
+            // when
+            SamplingPlan plan = sampler.plan(JAVA, CELLS, TODAY);
+
+            // then
+            assertThat(plan.isCarried(STABLE_A)).isFalse();
+            assertThat(plan.isCarried(STABLE_B)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should count two requests for salary ranges scraped by subtraction")
+        void shouldCountSubtractionCells() {
+            // given
+            config.setEnabled(false);
+            ScrapeCell subtraction = new ScrapeCell(MetricType.TOTAL, null, null, SalaryRange.UNDER_25K);
+
+            // when
+            SamplingPlan plan = sampler.plan(JAVA, List.of(subtraction, VOLATILE_A), TODAY);
+
+            // then
+            assertThat(plan.fullRequests()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("volatility")
+    class Volatility {
+
+        @Test
+        @DisplayName("should be zero for a flat series")
+        void shouldBeZeroForFlatSeries() {
+            assertThat(CellSampler.volatility(series(STABLE_A, 10, day -> 40))).isZero();
+        }
+
+        @Test
+        @DisplayName("should be higher for a series that moves more")
+        void shouldRankMovingSeriesHigher() {
+            double calm = CellSampler.volatility(series(VOLATILE_A, 10, day -> 1000 + day));
+            double jumpy = CellSampler.volatility(series(VOLATILE_A, 10, day -> day % 2 == 0 ? 900 : 1100));
+
+            assertThat(jumpy).isGreaterThan(calm);
+        }
+    }
+
+    /**
+     * Scraped values for the {@code days} days before today, oldest first.
+     */
+    private static List<JobCountRecord> series(ScrapeCell cell, int days, IntUnaryOperator count) {
+        List<JobCountRecord> records = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            records.add(record(cell, TODAY.minusDays(days - day), count.applyAsInt(day), "HTML"));
+        }
+        return records;
+    }
+
+    /**
+     * Repeated values from {@code source} for the {@code days} days before today.
+     */
+    private static List<JobCountRecord> repeated(ScrapeCell cell, int days, int count, String source) {
+        List<JobCountRecord> records = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            records.add(record(cell, TODAY.minusDays(days - day), count, source));
+        }
+        return records;
+    }
+
+    private static JobCountRecord record(ScrapeCell cell, LocalDate date, int count, String source) {
+        return JobCountRecord.builder()
+                .category(JAVA)
+                .metricType(cell.metricType())
+                .location(cell.city() != null ? cell.city() : cell.metricType().getLocation())
+                .city(cell.city())
+                .experienceLevel(cell.experienceLevel())
+                .salaryMin(cell.salaryRange() != null ? cell.salaryRange().getMin() : null)
+                .salaryMax(cell.salaryRange() != null ? cell.salaryRange().getMax() : null)
+                .count(count)
+                .recordDate(date)
+                .fetchedAt(date.atTime(6, 0))
+                .seriesKey(cell.seriesKey(JAVA).encode())
+                .source(source)
+                .build();
+    }
+}
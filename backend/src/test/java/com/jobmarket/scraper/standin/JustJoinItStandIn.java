@@ -0,0 +1,200 @@
+package com.jobmarket.scraper.standin;
+
+import com.jobmarket.scraper.archive.ArchivedResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Local stand-in for justjoin.it, serving listing pages under {@code /job-offers} and the
+ * offers API under {@code /api}. Point {@code scraper.justjoinit.web-base-url} and
+ * {@code api-base-url} at {@link #webBaseUrl()} and {@link #apiBaseUrl()}.
+ * <p>
+ * In replay mode it answers with responses recorded by the scraper's record mode; unknown
+ * URLs get a 404. In synthetic mode it renders listing pages whose job count is derived
+ * from the URL, so repeated runs see the same counts. Latency and error injection from
+ * {@link StandInOptions} apply in both modes.
+ */
+public final class JustJoinItStandIn implements AutoCloseable {
+
+    private static final String[] SKILLS = {"Java", "Spring", "Kotlin", "AWS", "Kafka", "PostgreSQL", "Docker", "React"};
+    private static final String[] COMPANIES = {"Comarch", "Allegro", "Nokia", "Sii Polska", "Spyrosoft", "DataArt"};
+    private static final String[] MARKER_ICONS = {"java", "data", "python", "devops", "ai", "testing"};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final StandInOptions options;
+    private final Function<String, ArchivedResponse> responder;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    private JustJoinItStandIn(StandInOptions options, Function<String, ArchivedResponse> responder) throws IOException {
+        this.options = options;
+        this.responder = responder;
+        this.executor = Executors.newFixedThreadPool(options.threads());
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Serves the given recorded responses, keyed by path and query.
+     */
+    public static JustJoinItStandIn replaying(List<ArchivedResponse> responses, StandInOptions options)
+            throws IOException {
+        Map<String, ArchivedResponse> byPath = new HashMap<>();
+        for (ArchivedResponse response : responses) {
+            byPath.put(pathAndQuery(response.url()), response);
+        }
+        return new JustJoinItStandIn(options, path -> byPath.getOrDefault(path,
+                new ArchivedResponse(path, 404, "text/plain", "Not recorded".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Renders synthetic listing pages and API responses.
+     */
+    public static JustJoinItStandIn synthetic(StandInOptions options) throws IOException {
+        return new JustJoinItStandIn(options, path -> syntheticResponse(path, options));
+    }
+
+    public String webBaseUrl() {
+        return baseUrl() + "/job-offers";
+    }
+
+    public String apiBaseUrl() {
+        return baseUrl() + "/api";
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long errorCount() {
+        return errorCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requestCount.incrementAndGet();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            if (options.maxLatencyMs() > 0) {
+                Thread.sleep(random.nextInt(options.minLatencyMs(), options.maxLatencyMs() + 1));
+            }
+            if (options.errorRate() > 0 && random.nextDouble() < options.errorRate()) {
+                errorCount.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            URI uri = exchange.getRequestURI();
+            ArchivedResponse response = responder.apply(
+                    uri.getPath() + (uri.getQuery() != null ? "?" + uri.getQuery() : ""));
+            if (response.contentType() != null) {
+                exchange.getResponseHeaders().set("Content-Type", response.contentType());
+            }
+            byte[] body = response.body();
+            exchange.sendResponseHeaders(response.status(), body.length > 0 ? body.length : -1);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String pathAndQuery(String url) {
+        try {
+            URI uri = URI.create(url);
+            return uri.getPath() + (uri.getQuery() != null ? "?" + uri.getQuery() : "");
+        } catch (IllegalArgumentException e) {
+            // Recorded URL that is not a valid URI as-is, e.g. with unencoded spaces
+            int pathStart = url.indexOf('/', url.indexOf("://") + 3);
+            return pathStart < 0 ? "/" : url.substring(pathStart);
+        }
+    }
+
+    private static ArchivedResponse syntheticResponse(String path, StandInOptions options) {
+        if (path.startsWith("/api/offers")) {
+            return new ArchivedResponse(path, 200, "application/json", offersJson(options));
+        }
+        if (!path.startsWith("/job-offers/")) {
+            return new ArchivedResponse(path, 404, "text/plain", new byte[0]);
+        }
+
+        String route = path.contains("?") ? path.substring(0, path.indexOf('?')) : path;
+        String category = route.substring(route.lastIndexOf('/') + 1);
+        int count = Math.floorMod(path.hashCode(), options.maxOffers() + 1);
+        return new ArchivedResponse(path, 200, "text/html; charset=UTF-8",
+                listingPage(category, count, options.pageOffers(), path.hashCode()));
+    }
+
+    private static byte[] listingPage(String category, int count, int cards, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder html = new StringBuilder(1024 + cards * 400)
+                .append("<!DOCTYPE html><html lang=\"en\"><head><meta charset=\"utf-8\">")
+                .append("<title>").append(category).append(" Job Offers - ")
+                .append(String.format(Locale.ROOT, "%,d", count).replace(',', ' '))
+                .append(" current job offers | Just Join IT</title>")
+                .append("<meta name=\"description\" content=\"Browse ").append(category)
+                .append(" job offers in Poland.\"></head><body><main><section class=\"listing\">");
+        for (int i = 0; i < Math.min(cards, count); i++) {
+            int salaryFrom = 10_000 + random.nextInt(25) * 1000;
+            html.append("<div class=\"offer-card\"><h3>").append(category).append(" Developer</h3>")
+                    .append("<span class=\"company\">").append(COMPANIES[random.nextInt(COMPANIES.length)])
+                    .append("</span><div class=\"salary\">").append(salaryFrom).append(" - ")
+                    .append(salaryFrom + 5000).append(" PLN/month</div><div class=\"skills\">")
+                    .append(SKILLS[random.nextInt(SKILLS.length)]).append(' ')
+                    .append(SKILLS[random.nextInt(SKILLS.length)]).append("</div></div>");
+        }
+        html.append("</section></main></body></html>");
+        return html.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] offersJson(StandInOptions options) {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < options.apiOffers(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"offer-").append(i)
+                    .append("\",\"title\":\"Developer ").append(i)
+                    .append("\",\"marker_icon\":\"").append(MARKER_ICONS[random.nextInt(MARKER_ICONS.length)])
+                    .append("\",\"workplace_type\":\"").append(random.nextBoolean() ? "remote" : "office")
+                    .append("\",\"city\":\"Wrocław\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
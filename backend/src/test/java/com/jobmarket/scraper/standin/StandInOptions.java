@@ -0,0 +1,107 @@
+package com.jobmarket.scraper.standin;
+
+/**
+ * Fluent options for {@link JustJoinItStandIn}. Defaults answer instantly, never fail,
+ * and render listing pages with 40 offer cards.
+ */
+public class StandInOptions {
+
+    private int minLatencyMs = 0;
+    private int maxLatencyMs = 0;
+    private double errorRate = 0.0;
+    private int maxOffers = 5000;
+    private int pageOffers = 40;
+    private int apiOffers = 500;
+    private int threads = 8;
+    private long seed = 42L;
+
+    private StandInOptions() {
+    }
+
+    public static StandInOptions defaults() {
+        return new StandInOptions();
+    }
+
+    /**
+     * Delays every response by a uniformly random time in {@code [minMs, maxMs]}.
+     */
+    public StandInOptions latency(int minMs, int maxMs) {
+        this.minLatencyMs = minMs;
+        this.maxLatencyMs = Math.max(minMs, maxMs);
+        return this;
+    }
+
+    /**
+     * Answers this fraction of requests with HTTP 503.
+     */
+    public StandInOptions errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * Upper bound of the synthetic job counts.
+     */
+    public StandInOptions maxOffers(int maxOffers) {
+        this.maxOffers = maxOffers;
+        return this;
+    }
+
+    /**
+     * Number of offer cards rendered on each synthetic listing page.
+     */
+    public StandInOptions pageOffers(int pageOffers) {
+        this.pageOffers = pageOffers;
+        return this;
+    }
+
+    /**
+     * Number of offers returned by the synthetic {@code /api/offers} endpoint.
+     */
+    public StandInOptions apiOffers(int apiOffers) {
+        this.apiOffers = apiOffers;
+        return this;
+    }
+
+    public StandInOptions threads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public StandInOptions seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    int minLatencyMs() {
+        return minLatencyMs;
+    }
+
+    int maxLatencyMs() {
+        return maxLatencyMs;
+    }
+
+    double errorRate() {
+        return errorRate;
+    }
+
+    int maxOffers() {
+        return maxOffers;
+    }
+
+    int pageOffers() {
+        return pageOffers;
+    }
+
+    int apiOffers() {
+        return apiOffers;
+    }
+
+    int threads() {
+        return threads;
+    }
+
+    long seed() {
+        return seed;
+    }
+}
@@ -0,0 +1,196 @@
+package com.jobmarket.series;
+
+import com.jobmarket.entity.ExperienceLevel;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.entity.SalaryRange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedSeriesStore")
+class MappedSeriesStoreTest {
+
+    private static final SeriesKey JAVA_TOTAL = SeriesKey.of("java", MetricType.TOTAL, null, null, null);
+    private static final SeriesKey JAVA_JUNIOR_WROCLAW = SeriesKey.of(
+            "java", MetricType.REMOTE, "wroclaw", ExperienceLevel.JUNIOR, SalaryRange.RANGE_25_30K);
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 6, 15, 12, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private MappedSeriesStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = MappedSeriesStore.open(directory, 8, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Nested
+    @DisplayName("readRange")
+    class ReadRange {
+
+        @Test
+        @DisplayName("should return points within the range ordered by fetch time")
+        void shouldReturnPointsWithinRange() throws IOException {
+            // given
+            store.put(JAVA_TOTAL, 3, BASE_TIME, 300);
+            store.put(JAVA_TOTAL, 1, BASE_TIME.minusDays(2), 100);
+            store.put(JAVA_TOTAL, 2, BASE_TIME.minusDays(1), 200);
+
+            // when
+            List<SeriesPoint> points = readRange(JAVA_TOTAL, BASE_TIME.minusDays(1), BASE_TIME);
+
+            // then
+            assertThat(points).extracting(SeriesPoint::count).containsExactly(200, 300);
+            assertThat(points).extracting(SeriesPoint::recordId).containsExactly(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("should apply range bounds to the exact fetch time, not just the day")
+        void shouldApplyBoundsToExactFetchTime() throws IOException {
+            // given
+            store.put(JAVA_TOTAL, 1, BASE_TIME, 100);
+
+            // when
+            List<SeriesPoint> before = readRange(JAVA_TOTAL, BASE_TIME.withHour(0), BASE_TIME.minusNanos(1_000));
+            List<SeriesPoint> inclusive = readRange(JAVA_TOTAL, BASE_TIME, BASE_TIME);
+
+            // then
+            assertThat(before).isEmpty();
+            assertThat(inclusive).extracting(SeriesPoint::fetchedAt).containsExactly(BASE_TIME);
+        }
+
+        @Test
+        @DisplayName("should keep series independent")
+        void shouldKeepSeriesIndependent() throws IOException {
+            // given
+            store.put(JAVA_TOTAL, 1, BASE_TIME, 100);
+            store.put(JAVA_JUNIOR_WROCLAW, 2, BASE_TIME, 7);
+
+            // when
+            List<SeriesPoint> points = readRange(JAVA_JUNIOR_WROCLAW, BASE_TIME.minusDays(30), BASE_TIME);
+
+            // then
+            assertThat(points).extracting(SeriesPoint::count).containsExactly(7);
+        }
+    }
+
+    @Nested
+    @DisplayName("readLatest")
+    class ReadLatest {
+
+        @Test
+        @DisplayName("should return the most recent points newest first")
+        void shouldReturnMostRecentPointsNewestFirst() throws IOException {
+            // given
+            store.put(JAVA_TOTAL, 1, BASE_TIME.minusDays(5), 100);
+            store.put(JAVA_TOTAL, 2, BASE_TIME.minusDays(3), 110);
+            store.put(JAVA_TOTAL, 3, BASE_TIME, 120);
+
+            // when
+            List<Integer> counts = new ArrayList<>();
+            store.readLatest(store.find(JAVA_TOTAL), 2, (recordId, fetchedAtMicros, count) -> counts.add(count));
+
+            // then
+            assertThat(counts).containsExactly(120, 110);
+        }
+    }
+
+    @Nested
+    @DisplayName("growth and persistence")
+    class GrowthAndPersistence {
+
+        @Test
+        @DisplayName("should grow in both dimensions without losing data")
+        void shouldGrowWithoutLosingData() throws IOException {
+            // given - initial capacity is 8 days × 2 series
+            store.put(JAVA_TOTAL, 1, BASE_TIME, 100);
+            store.put(JAVA_JUNIOR_WROCLAW, 2, BASE_TIME, 7);
+            store.put(SeriesKey.of("data", MetricType.TOTAL, null, null, null), 3, BASE_TIME, 50);
+            store.put(JAVA_TOTAL, 4, BASE_TIME.plusDays(20), 140);
+            store.put(JAVA_TOTAL, 5, BASE_TIME.minusDays(20), 60);
+
+            // when
+            List<SeriesPoint> points = readRange(JAVA_TOTAL, BASE_TIME.minusDays(30), BASE_TIME.plusDays(30));
+
+            // then
+            assertThat(points).extracting(SeriesPoint::count).containsExactly(60, 100, 140);
+            assertThat(readRange(JAVA_JUNIOR_WROCLAW, BASE_TIME, BASE_TIME))
+                    .extracting(SeriesPoint::count).containsExactly(7);
+            assertThat(store.getRecordCount()).isEqualTo(5);
+            assertThat(store.getLastRecordId()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("should reopen a persisted snapshot with the same contents")
+        void shouldReopenPersistedSnapshot() throws IOException {
+            // given
+            store.put(JAVA_TOTAL, 1, BASE_TIME.minusDays(1), 100);
+            store.put(JAVA_JUNIOR_WROCLAW, 2, BASE_TIME, 7);
+            store.close();
+
+            // when
+            store = MappedSeriesStore.open(directory, 8, 2);
+
+            // then
+            assertThat(store.getRecordCount()).isEqualTo(2);
+            assertThat(store.getLastRecordId()).isEqualTo(2);
+            assertThat(readRange(JAVA_TOTAL, BASE_TIME.minusDays(1), BASE_TIME))
+                    .extracting(SeriesPoint::count).containsExactly(100);
+        }
+
+        @Test
+        @DisplayName("should ignore a record that was already applied")
+        void shouldIgnoreAlreadyAppliedRecord() throws IOException {
+            // given
+            store.put(JAVA_TOTAL, 1, BASE_TIME, 100);
+
+            // when
+            store.put(JAVA_TOTAL, 1, BASE_TIME, 100);
+
+            // then
+            assertThat(store.getRecordCount()).isEqualTo(1);
+            assertThat(store.isAmbiguous(store.find(JAVA_TOTAL))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should mark a series with two records on the same day as ambiguous")
+        void shouldMarkSameDayDuplicatesAsAmbiguous() throws IOException {
+            // given
+            store.put(JAVA_TOTAL, 1, BASE_TIME, 100);
+
+            // when
+            store.put(JAVA_TOTAL, 2, BASE_TIME.plusHours(1), 105);
+            store.close();
+            store = MappedSeriesStore.open(directory, 8, 2);
+
+            // then
+            assertThat(store.isAmbiguous(store.find(JAVA_TOTAL))).isTrue();
+        }
+    }
+
+    private List<SeriesPoint> readRange(SeriesKey key, LocalDateTime from, LocalDateTime to) {
+        List<SeriesPoint> points = new ArrayList<>();
+        store.readRange(store.find(key), MappedSeriesStore.toMicros(from), MappedSeriesStore.toMicros(to),
+                (recordId, fetchedAtMicros, count) ->
+                        points.add(new SeriesPoint(recordId, MappedSeriesStore.fromMicros(fetchedAtMicros), count)));
+        return points;
+    }
+}
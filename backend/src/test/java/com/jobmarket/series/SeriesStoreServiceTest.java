@@ -0,0 +1,159 @@
+package com.jobmarket.series;
+
+import com.jobmarket.config.SeriesStoreConfig;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.entity.MetricType;
+import com.jobmarket.repository.IngestVersionRepository;
+import com.jobmarket.repository.JobCountRecordRepository;
+import com.jobmarket.scheduler.ClusterCoordinator;
+import com.jobmarket.scraper.event.JobCountRecordsReplicatedEvent;
+import com.jobmarket.scraper.event.JobCountRecordsSavedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.jobmarket.repository.testdata.JobCountRecordTestBuilder.aRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeriesStoreService")
+class SeriesStoreServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 10, 6, 0);
+    private static final SeriesKey JAVA_TOTAL = SeriesKey.of("java", MetricType.TOTAL, null, null, null);
+    private static final SeriesKey DATA_TOTAL = SeriesKey.of("data", MetricType.TOTAL, null, null, null);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private JobCountRecordRepository jobCountRecordRepository;
+
+    @Mock
+    private IngestVersionRepository ingestVersionRepository;
+
+    @Mock
+    private ObjectProvider<ClusterCoordinator> coordinatorProvider;
+
+    @Mock
+    private ClusterCoordinator coordinator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SeriesStoreConfig config;
+    private SeriesStoreService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new SeriesStoreConfig();
+        config.setDirectory(directory.toString());
+        service = new SeriesStoreService(config, jobCountRecordRepository, ingestVersionRepository,
+                coordinatorProvider, eventPublisher);
+
+        JobCountRecord existing = record(1L, "java", DAY.minusDays(1), 1L);
+        lenient().when(coordinatorProvider.getIfAvailable()).thenReturn(coordinator);
+        lenient().when(coordinator.liveNodes(any())).thenReturn(List.of("node-a"));
+        lenient().when(ingestVersionRepository.current()).thenReturn(1L);
+        lenient().when(jobCountRecordRepository.count()).thenReturn(1L);
+        lenient().when(jobCountRecordRepository.findMaxId()).thenReturn(1L);
+        lenient().when(jobCountRecordRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of(existing));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("should catch up other replicas' records and announce only those")
+    void shouldCatchUpRecordsOfOtherReplicas() {
+        // given
+        service.initialize();
+        JobCountRecord local = record(2L, "java", DAY, 2L);
+        JobCountRecord replicated = record(3L, "data", DAY, 3L);
+        service.onRecordsSaved(new JobCountRecordsSavedEvent(List.of(local)));
+        when(ingestVersionRepository.current()).thenReturn(3L);
+        when(jobCountRecordRepository.findIngestedBetween(eq(1L), eq(3L), anyLong(), any()))
+                .thenReturn(List.of(local, replicated));
+
+        // when
+        service.catchUp();
+
+        // then
+        assertThat(service.findLatest(JAVA_TOTAL, 5)).hasValueSatisfying(points -> assertThat(points)
+                .extracting(SeriesPoint::recordId).containsExactly(2L, 1L));
+        assertThat(service.findLatest(DATA_TOTAL, 5)).hasValueSatisfying(points -> assertThat(points)
+                .extracting(SeriesPoint::recordId).containsExactly(3L));
+        ArgumentCaptor<JobCountRecordsReplicatedEvent> event = ArgumentCaptor.forClass(JobCountRecordsReplicatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().records()).containsExactly(replicated);
+    }
+
+    @Test
+    @DisplayName("should leave unknown series to the database while other replicas are live")
+    void shouldFallBackForUnknownSeriesWhenShared() {
+        // given
+        when(coordinator.liveNodes(any())).thenReturn(List.of("node-a", "node-b"));
+
+        // when
+        service.initialize();
+
+        // then
+        assertThat(service.findLatest(DATA_TOTAL, 2)).isEmpty();
+        assertThat(service.findHistory(DATA_TOTAL, DAY.minusDays(7), DAY)).isEmpty();
+        assertThat(service.findLatest(JAVA_TOTAL, 2)).isPresent();
+    }
+
+    @Test
+    @DisplayName("should answer unknown series itself when it is the only replica")
+    void shouldAnswerUnknownSeriesWhenAlone() {
+        // when
+        service.initialize();
+
+        // then
+        assertThat(service.findLatest(DATA_TOTAL, 2)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("should leave all reads to the database once the catch-up lags behind")
+    void shouldFallBackWhenCatchUpLags() {
+        // given - every catch-up counts as too old
+        config.setMaxSyncLagMs(-1);
+        service.initialize();
+
+        // when
+        when(coordinator.liveNodes(any())).thenReturn(List.of("node-a", "node-b"));
+        service.catchUp();
+
+        // then
+        assertThat(service.findLatest(JAVA_TOTAL, 2)).isEmpty();
+    }
+
+    private static JobCountRecord record(Long id, String category, LocalDateTime fetchedAt, Long ingestVersion) {
+        JobCountRecord record = aRecord().withCategory(category).fetchedAt(fetchedAt).build();
+        record.setIngestVersion(ingestVersion);
+        ReflectionTestUtils.setField(record, "id", id);
+        return record;
+    }
+}
@@ -0,0 +1,229 @@
+package com.jobmarket.service;
+
+import com.jobmarket.dto.ChangesDto;
+import com.jobmarket.dto.SeriesChangesDto;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.repository.IngestVersionRepository;
+import com.jobmarket.repository.JobCountRecordJdbcRepository;
+import com.jobmarket.series.SeriesKey;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.jobmarket.repository.testdata.JobCountRecordTestBuilder.aRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Delta sync against a real Postgres: the {@code ON CONFLICT ... RETURNING id} insert, the
+ * dynamic filters and limit of the changes query, and the {@code ingest_counter} row lock that
+ * keeps versions visible in order. Each write commits, as the scraper's batches do.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("dev")
+@Import({JobCountRecordJdbcRepository.class, IngestVersionRepository.class, ChangesService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ChangesService on Postgres")
+class ChangesServicePostgresTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 10, 6, 0);
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ChangesService changesService;
+
+    @Autowired
+    private JobCountRecordJdbcRepository jdbcRepository;
+
+    @Autowired
+    private IngestVersionRepository ingestVersionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("DELETE FROM job_count_record");
+        jdbcTemplate.update("UPDATE ingest_counter SET version = 0 WHERE id = 1");
+    }
+
+    @Test
+    @DisplayName("should page through two batches without splitting a version")
+    void shouldPageThroughBatches() {
+        // given
+        long first = writeBatch(
+                aRecord().withCategory("java").fetchedAt(DAY).build(),
+                aRecord().withCategory("java").forRemote().fetchedAt(DAY).build(),
+                aRecord().withCategory("data").fetchedAt(DAY).build());
+        long second = writeBatch(
+                aRecord().withCategory("java").fetchedAt(DAY.plusDays(1)).build(),
+                aRecord().withCategory("java").fetchedAt(DAY).withCount(999).build());
+
+        // when
+        ChangesDto firstPage = changesService.getChanges(0, null, null, 3);
+        ChangesDto secondPage = changesService.getChanges(firstPage.version(), null, null, 3);
+        ChangesDto caughtUp = changesService.getChanges(secondPage.version(), null, null, 3);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(firstPage.version()).isEqualTo(first);
+        assertThat(firstPage.hasMore()).isTrue();
+        assertThat(pointCount(firstPage)).isEqualTo(3);
+        assertThat(secondPage.version()).isEqualTo(second);
+        assertThat(secondPage.hasMore()).isFalse();
+        assertThat(secondPage.series()).singleElement()
+                .satisfies(series -> assertThat(series.points()).singleElement()
+                        .satisfies(point -> assertThat(point.count()).isEqualTo(100)));
+        assertThat(caughtUp.series()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should skip a record whose series already has one for that day")
+    void shouldInsertOncePerSeriesAndDay() {
+        // given
+        JobCountRecord record = aRecord().fetchedAt(DAY).build();
+        Optional<Long> inserted = transaction.execute(status -> jdbcRepository.insertIfAbsent(record));
+
+        // when
+        Optional<Long> duplicate = transaction.execute(status ->
+                jdbcRepository.insertIfAbsent(aRecord().fetchedAt(DAY.plusHours(3)).withCount(5).build()));
+
+        // then
+        assertThat(inserted).isPresent();
+        assertThat(duplicate).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT count FROM job_count_record", Integer.class)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("should narrow changes down by category and series keys")
+    void shouldFilterChanges() {
+        // given
+        JobCountRecord remote = aRecord().withCategory("java").forRemote().fetchedAt(DAY).build();
+        writeBatch(
+                aRecord().withCategory("java").fetchedAt(DAY).build(),
+                remote,
+                aRecord().withCategory("data").forRemote().fetchedAt(DAY).build());
+        String remoteKey = SeriesKey.of(remote).encode();
+
+        // when
+        ChangesDto byCategory = changesService.getChanges(0, "java", null, null);
+        ChangesDto byKey = changesService.getChanges(0, "java", List.of(remoteKey, "unknown"), null);
+
+        // then
+        assertThat(byCategory.series()).hasSize(2);
+        assertThat(byKey.series()).extracting(SeriesChangesDto::key).containsExactly(remoteKey);
+    }
+
+    @Test
+    @DisplayName("should not expose a later version before an earlier one commits")
+    void shouldCommitVersionsInOrder() throws Exception {
+        // given
+        CountDownLatch firstTaken = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            long version = ingestVersionRepository.next();
+            insert(aRecord().withCategory("java").fetchedAt(DAY).build(), version);
+            firstTaken.countDown();
+            await(releaseFirst);
+            return version;
+        }));
+        assertThat(firstTaken.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            long version = ingestVersionRepository.next();
+            insert(aRecord().withCategory("data").fetchedAt(DAY).build(), version);
+            return version;
+        }));
+        Thread.sleep(300);
+        boolean secondBlocked = !second.isDone();
+        ChangesDto whileOpen = changesService.getChanges(0, null, null, null);
+        releaseFirst.countDown();
+
+        // then
+        assertThat(secondBlocked).isTrue();
+        assertThat(whileOpen.version()).isZero();
+        assertThat(whileOpen.series()).isEmpty();
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        ChangesDto after = changesService.getChanges(0, null, null, null);
+        assertThat(after.version()).isEqualTo(2);
+        assertThat(pointCount(after)).isEqualTo(2);
+    }
+
+    /**
+     * Writes the records in one transaction under the next ingest version, like a scraper batch.
+     */
+    private long writeBatch(JobCountRecord... records) {
+        Long version = transaction.execute(status -> {
+            long next = ingestVersionRepository.next();
+            for (JobCountRecord record : records) {
+                insert(record, next);
+            }
+            return next;
+        });
+        return version != null ? version : 0;
+    }
+
+    private void insert(JobCountRecord record, long version) {
+        record.setIngestVersion(version);
+        jdbcRepository.insertIfAbsent(record);
+    }
+
+    private static int pointCount(ChangesDto changes) {
+        return changes.series().stream().mapToInt(series -> series.points().size()).sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
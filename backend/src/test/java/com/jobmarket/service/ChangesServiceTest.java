@@ -0,0 +1,125 @@
+package com.jobmarket.service;
+
+import com.jobmarket.dto.ChangesDto;
+import com.jobmarket.repository.IngestVersionRepository;
+import com.jobmarket.repository.JobCountChange;
+import com.jobmarket.repository.JobCountRecordJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangesService")
+class ChangesServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private JobCountRecordJdbcRepository jdbcRepository;
+
+    @Mock
+    private IngestVersionRepository ingestVersionRepository;
+
+    private ChangesService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChangesService(jdbcRepository, ingestVersionRepository);
+    }
+
+    @Test
+    @DisplayName("should group every change up to the head by series")
+    void shouldReturnAllChangesGroupedBySeries() {
+        // given
+        when(ingestVersionRepository.current()).thenReturn(12L);
+        when(jdbcRepository.findChanges(10L, 12L, null, List.of(), 3)).thenReturn(List.of(
+                change("java|TOTAL", DAY, 100, 11),
+                change("java|REMOTE", DAY, 40, 11),
+                change("java|TOTAL", DAY.plusDays(1), 110, 12)));
+
+        // when
+        ChangesDto changes = service.getChanges(10L, null, null, 2);
+
+        // then
+        assertThat(changes.version()).isEqualTo(12L);
+        assertThat(changes.hasMore()).isFalse();
+        assertThat(changes.series()).hasSize(2);
+        assertThat(changes.series().get(0).key()).isEqualTo("java|TOTAL");
+        assertThat(changes.series().get(0).points()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should end a full page before the first version that did not fit")
+    void shouldNotSplitVersions() {
+        // given
+        when(ingestVersionRepository.current()).thenReturn(20L);
+        when(jdbcRepository.findChanges(0L, 20L, "java", List.of(), 3)).thenReturn(List.of(
+                change("java|TOTAL", DAY, 100, 5),
+                change("java|TOTAL", DAY.plusDays(1), 110, 7),
+                change("java|REMOTE", DAY.plusDays(1), 40, 7)));
+
+        // when
+        ChangesDto changes = service.getChanges(0L, "java", List.of(), 2);
+
+        // then
+        assertThat(changes.version()).isEqualTo(6L);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(changes.series()).hasSize(1);
+        assertThat(changes.series().get(0).points()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should send a version larger than the page in one piece")
+    void shouldSendOversizedVersionWhole() {
+        // given
+        List<JobCountChange> version = List.of(
+                change("java|TOTAL", DAY, 100, 5),
+                change("java|REMOTE", DAY, 40, 5),
+                change("java|WITH_SALARY", DAY, 70, 5));
+        when(ingestVersionRepository.current()).thenReturn(9L);
+        when(jdbcRepository.findChanges(4L, 9L, null, List.of(), 3)).thenReturn(version);
+        when(jdbcRepository.findChanges(eq(4L), eq(5L), isNull(), any(), isNull())).thenReturn(version);
+
+        // when
+        ChangesDto changes = service.getChanges(4L, null, null, 2);
+
+        // then
+        assertThat(changes.version()).isEqualTo(5L);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(changes.series()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("should not query records when the client is up to date")
+    void shouldSkipQueryWhenUpToDate() {
+        // given
+        when(ingestVersionRepository.current()).thenReturn(9L);
+
+        // when
+        ChangesDto changes = service.getChanges(9L, null, null, null);
+
+        // then
+        assertThat(changes.version()).isEqualTo(9L);
+        assertThat(changes.series()).isEmpty();
+        verify(jdbcRepository, never()).findChanges(anyLong(), anyLong(), any(), any(), any());
+    }
+
+    private static JobCountChange change(String seriesKey, LocalDate date, int count, long version) {
+        return new JobCountChange(seriesKey, date, count, version);
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobmarket.service;
+
+import com.jobmarket.config.LiveEventsConfig;
+import com.jobmarket.entity.JobCountRecord;
+import com.jobmarket.scraper.event.JobCountRecordsReplicatedEvent;
+import com.jobmarket.scraper.event.JobCountRecordsSavedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LiveEventService")
+class LiveEventServiceTest {
+
+    private LiveEventsConfig config;
+    private LiveEventService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new LiveEventsConfig();
+        service = new LiveEventService(config);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("should version each category by its highest ingest version")
+    void shouldVersionCategoriesByIngestVersion() {
+        // when
+        service.onRecordsSaved(new JobCountRecordsSavedEvent(List.of(
+                record(11L, "java"), record(12L, "python"), record(14L, "java"))));
+
+        // then
+        assertThat(service.dataVersion("java")).isEqualTo(14L);
+        assertThat(service.dataVersion("python")).isEqualTo(12L);
+        assertThat(service.dataVersion("rust")).isNull();
+    }
+
+    @Test
+    @DisplayName("should never move a data version backwards")
+    void shouldKeepVersionsMonotonic() {
+        // given
+        service.onRecordsSaved(new JobCountRecordsSavedEvent(List.of(record(20L, "java"))));
+
+        // when - an event of an older batch delivered late
+        service.onRecordsSaved(new JobCountRecordsSavedEvent(List.of(record(17L, "java"))));
+
+        // then
+        assertThat(service.dataVersion("java")).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("should advance data versions for records another replica committed")
+    void shouldVersionReplicatedRecords() {
+        // given
+        service.onRecordsSaved(new JobCountRecordsSavedEvent(List.of(record(20L, "java"))));
+
+        // when
+        service.onRecordsReplicated(new JobCountRecordsReplicatedEvent(List.of(
+                record(21L, "java"), record(22L, "python"))));
+
+        // then
+        assertThat(service.dataVersion("java")).isEqualTo(21L);
+        assertThat(service.dataVersion("python")).isEqualTo(22L);
+    }
+
+    @Test
+    @DisplayName("should refuse clients beyond the subscriber limit")
+    void shouldLimitSubscribers() {
+        // given
+        config.setMaxSubscribers(2);
+
+        // when / then
+        assertThat(service.subscribe()).isPresent();
+        assertThat(service.subscribe()).isPresent();
+        assertThat(service.subscribe()).isEmpty();
+        assertThat(service.subscriberCount()).isEqualTo(2);
+    }
+
+    private static JobCountRecord record(Long version, String category) {
+        return JobCountRecord.builder().category(category).count(100).ingestVersion(version).build();
+    }
+}
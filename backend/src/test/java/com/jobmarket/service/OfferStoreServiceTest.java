@@ -0,0 +1,137 @@
+package com.jobmarket.service;
+
+import com.jobmarket.config.OfferStoreConfig;
+import com.jobmarket.repository.JobOfferFact;
+import com.jobmarket.repository.JobOfferJdbcRepository;
+import com.jobmarket.repository.OfferSync;
+import com.jobmarket.scraper.dto.JobOffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfferStoreService")
+class OfferStoreServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private JobOfferJdbcRepository repository;
+
+    @Captor
+    private ArgumentCaptor<Collection<JobOfferFact>> inserted;
+
+    @Captor
+    private ArgumentCaptor<Collection<Long>> closed;
+
+    private OfferStoreService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OfferStoreService(repository, new OfferStoreConfig());
+    }
+
+    @Test
+    @DisplayName("should open new offers and close missing ones on the last day they were seen")
+    void shouldOnlyTouchNewAndMissingOffers() {
+        // given
+        when(repository.isSynced(DAY)).thenReturn(false);
+        when(repository.findOpen()).thenReturn(Map.of("kept", 1L, "gone", 2L));
+        when(repository.lastSyncDate()).thenReturn(Optional.of(DAY.minusDays(3)));
+
+        // when
+        Optional<OfferSync> sync = service.sync(List.of(offer("kept", "java"), offer("new", "java")), DAY);
+
+        // then
+        verify(repository).insertAll(inserted.capture(), eq(DAY));
+        verify(repository).closeAll(closed.capture(), eq(DAY.minusDays(3)));
+        assertThat(inserted.getValue()).extracting(JobOfferFact::offerId).containsExactly("new");
+        assertThat(closed.getValue()).containsExactly(2L);
+        assertThat(sync).contains(new OfferSync(DAY, 2, 1, 1));
+        verify(repository).recordSync(any(), any());
+    }
+
+    @Test
+    @DisplayName("should skip a list much shorter than the open offers")
+    void shouldSkipTruncatedList() {
+        // given
+        when(repository.isSynced(DAY)).thenReturn(false);
+        when(repository.findOpen()).thenReturn(Map.of("a", 1L, "b", 2L, "c", 3L));
+
+        // when
+        Optional<OfferSync> sync = service.sync(List.of(offer("a", "java")), DAY);
+
+        // then
+        assertThat(sync).isEmpty();
+        verify(repository, never()).closeAll(anyCollection(), any());
+        verify(repository, never()).recordSync(any(), any());
+    }
+
+    @Test
+    @DisplayName("should not apply a day twice")
+    void shouldSkipSyncedDay() {
+        // given
+        when(repository.isSynced(DAY)).thenReturn(true);
+
+        // when
+        Optional<OfferSync> sync = service.sync(List.of(offer("a", "java")), DAY);
+
+        // then
+        assertThat(sync).isEmpty();
+        verify(repository, never()).findOpen();
+    }
+
+    @Test
+    @DisplayName("should normalize category, city and salary like the offer list")
+    void shouldNormalizeOffers() {
+        // given
+        JobOffer offer = offer("a", "Dev-Ops");
+        offer.setCity("Wrocław ");
+        offer.setExperienceLevel("Senior");
+        JobOffer.EmploymentType permanent = new JobOffer.EmploymentType();
+        JobOffer.EmploymentType b2b = new JobOffer.EmploymentType();
+        JobOffer.Salary salary = new JobOffer.Salary();
+        salary.setFrom(20000);
+        salary.setTo(28000);
+        salary.setCurrency("pln");
+        b2b.setSalary(salary);
+        offer.setEmploymentTypes(List.of(permanent, b2b));
+
+        // when
+        JobOfferFact fact = JobOfferFact.from(offer);
+
+        // then
+        assertThat(fact.category()).isEqualTo("devops");
+        assertThat(fact.city()).isEqualTo("wrocław");
+        assertThat(fact.experienceLevel()).isEqualTo("senior");
+        assertThat(fact.salaryFrom()).isEqualTo(20000);
+        assertThat(fact.currency()).isEqualTo("PLN");
+        assertThat(JobOfferFact.from(offer(null, "java"))).isNull();
+    }
+
+    private static JobOffer offer(String id, String markerIcon) {
+        JobOffer offer = new JobOffer();
+        offer.setId(id);
+        offer.setMarkerIcon(markerIcon);
+        return offer;
+    }
+}
@@ -0,0 +1,235 @@
+package com.jobmarket.service;
+
+import com.jobmarket.dto.ScrapeJobDto;
+import com.jobmarket.entity.ScrapeRun;
+import com.jobmarket.entity.ScrapeRunStatus;
+import com.jobmarket.entity.TrackedCategory;
+import com.jobmarket.exception.CategoryNotFoundException;
+import com.jobmarket.exception.ScrapeJobConflictException;
+import com.jobmarket.exception.ScrapeRunNotFoundException;
+import com.jobmarket.mapper.ScrapeRunMapper;
+import com.jobmarket.repository.ScrapeRunRepository;
+import com.jobmarket.repository.TrackedCategoryRepository;
+import com.jobmarket.scheduler.ClusterCoordinator;
+import com.jobmarket.scraper.CategoryClaim;
+import com.jobmarket.scraper.JustJoinItScraperService;
+import com.jobmarket.scraper.dto.ScrapeSummary;
+import com.jobmarket.scraper.progress.ScrapeProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScrapeJobService")
+class ScrapeJobServiceTest {
+
+    @Mock
+    private JustJoinItScraperService scraperService;
+
+    @Mock
+    private TrackedCategoryRepository categoryRepository;
+
+    @Mock
+    private ScrapeRunRepository scrapeRunRepository;
+
+    @Mock
+    private ObjectProvider<ClusterCoordinator> coordinatorProvider;
+
+    @Mock
+    private ClusterCoordinator coordinator;
+
+    @Mock
+    private CategoryClaim claim;
+
+    private ScrapeJobService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(coordinatorProvider.getIfAvailable()).thenReturn(coordinator);
+        lenient().when(coordinator.manualClaim()).thenReturn(claim);
+        service = new ScrapeJobService(scraperService, categoryRepository, scrapeRunRepository, new ScrapeRunMapper(),
+                coordinatorProvider);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("should return the run id while the scrape continues in the background")
+    void shouldReturnRunIdImmediately() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(scraperService.fetchAndSaveAllJobCounts(any(ScrapeProgress.class), eq(claim))).thenAnswer(invocation -> {
+            ScrapeProgress progress = invocation.getArgument(0);
+            progress.runStarted(7L, 4);
+            progress.cellCompleted(true, false);
+            progress.cellCompleted(false, false);
+            release.await(5, TimeUnit.SECONDS);
+            return new ScrapeSummary(7L, 1, 1);
+        });
+
+        // when
+        ScrapeJobDto submitted = service.submit(null);
+        ScrapeJobDto polled = service.find(7L);
+
+        // then
+        assertThat(submitted.id()).isEqualTo(7L);
+        assertThat(polled.status()).isEqualTo("RUNNING");
+        assertThat(polled.completedCells()).isEqualTo(2);
+        assertThat(polled.failedCells()).isEqualTo(1);
+        assertThat(polled.percentComplete()).isEqualTo(50.0);
+        assertThat(polled.etaSeconds()).isNotNull();
+
+        release.countDown();
+        assertThat(awaitFinished(7L).status()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("should reject a second job while one is running")
+    void shouldRejectConcurrentJob() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(scraperService.fetchAndSaveAllJobCounts(any(ScrapeProgress.class), eq(claim))).thenAnswer(invocation -> {
+            ScrapeProgress progress = invocation.getArgument(0);
+            progress.runStarted(7L, 4);
+            release.await(5, TimeUnit.SECONDS);
+            return new ScrapeSummary(7L, 1, 1);
+        });
+        service.submit(null);
+
+        // when / then
+        assertThatThrownBy(() -> service.submit(null))
+                .isInstanceOf(ScrapeJobConflictException.class)
+                .hasMessageContaining("7");
+
+        release.countDown();
+        assertThat(awaitFinished(7L).status()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("should report a failed job with its error")
+    void shouldReportFailure() {
+        // given
+        when(scraperService.fetchAndSaveAllJobCounts(any(ScrapeProgress.class), eq(claim))).thenAnswer(invocation -> {
+            ScrapeProgress progress = invocation.getArgument(0);
+            progress.runStarted(9L, 4);
+            throw new IllegalStateException("site down");
+        });
+
+        // when
+        service.submit(null);
+
+        // then
+        ScrapeJobDto job = awaitFinished(9L);
+        assertThat(job.status()).isEqualTo("FAILED");
+        assertThat(job.errorMessage()).isEqualTo("site down");
+    }
+
+    @Test
+    @DisplayName("should reject an unknown category before starting a job")
+    void shouldRejectUnknownCategory() {
+        // given
+        when(categoryRepository.findBySlug("cobol")).thenReturn(Optional.empty());
+
+        // when / then
+        assertThatThrownBy(() -> service.submit("cobol"))
+                .isInstanceOf(CategoryNotFoundException.class);
+        verify(scraperService, never()).fetchAndSaveJobCountsForCategory(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should reject a category another scrape holds the lease of")
+    void shouldRejectLeasedCategory() {
+        // given
+        when(categoryRepository.findBySlug("java")).thenReturn(Optional.of(TrackedCategory.builder().slug("java").build()));
+        when(claim.tryClaim("java")).thenReturn(false);
+
+        // when / then
+        assertThatThrownBy(() -> service.submit("java"))
+                .isInstanceOf(ScrapeJobConflictException.class)
+                .hasMessageContaining("java");
+        verify(scraperService, never()).fetchAndSaveJobCountsForCategory(any(), any(), any());
+        verify(claim, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("should release the category lease when the job ends")
+    void shouldReleaseCategoryLease() {
+        // given
+        when(categoryRepository.findBySlug("java")).thenReturn(Optional.of(TrackedCategory.builder().slug("java").build()));
+        when(claim.tryClaim("java")).thenReturn(true);
+        when(scraperService.fetchAndSaveJobCountsForCategory(eq("java"), isNull(), any(ScrapeProgress.class)))
+                .thenAnswer(invocation -> {
+                    ScrapeProgress progress = invocation.getArgument(2);
+                    progress.runStarted(11L, 4);
+                    return new ScrapeSummary(11L, 4, 0);
+                });
+
+        // when
+        service.submit("java");
+
+        // then
+        assertThat(awaitFinished(11L).status()).isEqualTo("COMPLETED");
+        verify(claim, timeout(1000)).release("java");
+    }
+
+    @Test
+    @DisplayName("should fall back to the persisted run for jobs not in memory")
+    void shouldFallBackToPersistedRun() {
+        // given
+        ScrapeRun run = ScrapeRun.builder()
+                .status(ScrapeRunStatus.COMPLETED)
+                .startedAt(LocalDateTime.of(2025, 3, 10, 6, 0))
+                .finishedAt(LocalDateTime.of(2025, 3, 10, 6, 30))
+                .totalCells(10)
+                .successCount(8)
+                .failedCount(2)
+                .build();
+        when(scrapeRunRepository.findById(3L)).thenReturn(Optional.of(run));
+        when(scrapeRunRepository.findById(4L)).thenReturn(Optional.empty());
+
+        // when
+        ScrapeJobDto job = service.find(3L);
+
+        // then
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.completedCells()).isEqualTo(10);
+        assertThat(job.failedCells()).isEqualTo(2);
+        assertThat(job.percentComplete()).isEqualTo(100.0);
+        assertThatThrownBy(() -> service.find(4L)).isInstanceOf(ScrapeRunNotFoundException.class);
+    }
+
+    private ScrapeJobDto awaitFinished(Long runId) {
+        long deadline = System.currentTimeMillis() + 1000;
+        ScrapeJobDto job = service.find(runId);
+        while (job.finishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+            job = service.find(runId);
+        }
+        return job;
+    }
+}
@@ -0,0 +1,33 @@
+import { MetricType } from './job-count-record.model';
+import { ExperienceLevel } from './experience-level.model';
+
+export interface DataVersionEvent {
+  category: string;
+  version: number;
+  records: number;
+}
+
+export interface ScrapeRunEvent {
+  runId: number;
+  category: string | null;
+  state: 'RUNNING' | 'COMPLETED' | 'FAILED';
+  totalCells: number;
+  completedCells: number;
+  failedCells: number;
+}
+
+export interface ScrapeCellEvent {
+  runId: number;
+  category: string;
+  metricType: MetricType;
+  city: string | null;
+  experienceLevel: ExperienceLevel | null;
+  salaryMin: number | null;
+  salaryMax: number | null;
+  success: boolean;
+  count: number | null;
+  source: string | null;
+  anomalyReason: string | null;
+  completedCells: number;
+  totalCells: number;
+}
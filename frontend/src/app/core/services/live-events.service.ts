@@ -0,0 +1,56 @@
+import { Injectable, NgZone, OnDestroy, inject } from '@angular/core';
+import { Observable, Subject } from 'rxjs';
+import { environment } from '../../../environments/environment';
+import { DataVersionEvent, ScrapeCellEvent, ScrapeRunEvent } from '../models/live-event.model';
+
+/**
+ * Single shared connection to the backend's server-sent event stream.
+ * The browser reconnects by itself after errors or when the server ends the stream.
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class LiveEventsService implements OnDestroy {
+  private zone = inject(NgZone);
+  private source: EventSource | null = null;
+
+  private dataVersions = new Subject<DataVersionEvent>();
+  private runs = new Subject<ScrapeRunEvent>();
+  private cells = new Subject<ScrapeCellEvent>();
+
+  get dataVersion$(): Observable<DataVersionEvent> {
+    this.connect();
+    return this.dataVersions.asObservable();
+  }
+
+  get run$(): Observable<ScrapeRunEvent> {
+    this.connect();
+    return this.runs.asObservable();
+  }
+
+  get cell$(): Observable<ScrapeCellEvent> {
+    this.connect();
+    return this.cells.asObservable();
+  }
+
+  ngOnDestroy(): void {
+    this.source?.close();
+  }
+
+  private connect(): void {
+    if (this.source || typeof EventSource === 'undefined') {
+      return;
+    }
+    this.source = new EventSource(`${environment.apiUrl}/api/events`);
+    this.listen('data-version', this.dataVersions);
+    this.listen('run', this.runs);
+    this.listen('cell', this.cells);
+  }
+
+  private listen<T>(name: string, subject: Subject<T>): void {
+    this.source!.addEventListener(name, event => {
+      const data = JSON.parse((event as MessageEvent<string>).data) as T;
+      this.zone.run(() => subject.next(data));
+    });
+  }
+}
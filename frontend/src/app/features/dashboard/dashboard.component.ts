@@ -1,4 +1,4 @@
-import { Component, OnInit, inject, signal, computed } from '@angular/core';
+import { Component, OnDestroy, OnInit, inject, signal, computed } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { MatCardModule } from '@angular/material/card';
@@ -16,9 +16,11 @@ import { MatMenuModule } from '@angular/material/menu';
 import { MatDividerModule } from '@angular/material/divider';
 import { NgChartsModule } from 'ng2-charts';
 import { ChartData, ChartOptions } from 'chart.js';
+import { Subscription, auditTime, filter, groupBy, mergeMap } from 'rxjs';
 import { CategoryService } from '../../core/services/category.service';
 import { CityService } from '../../core/services/city.service';
 import { StatsService } from '../../core/services/stats.service';
+import { LiveEventsService } from '../../core/services/live-events.service';
 import { Category, CategoryStats, DashboardSummary, DateRange, MetricType, METRIC_TYPE_LABELS } from '../../core/models';
 import { City } from '../../core/models/city.model';
 import { ExperienceLevel, EXPERIENCE_LEVELS, EXPERIENCE_LEVEL_LABELS } from '../../core/models/experience-level.model';
@@ -768,10 +770,13 @@ const METRIC_TYPES: MetricType[] = ['TOTAL', 'WITH_SALARY', 'REMOTE', 'REMOTE_WI
     }
   `]
 })
-export class DashboardComponent implements OnInit {
+export class DashboardComponent implements OnInit, OnDestroy {
   private categoryService = inject(CategoryService);
   private cityService = inject(CityService);
   private statsService = inject(StatsService);
+  private liveEvents = inject(LiveEventsService);
+  private dataVersions = new Map<string, number>();
+  private liveSubscription?: Subscription;
 
   categories = signal<Category[]>([]);
   cities = signal<City[]>([]);
@@ -821,6 +826,16 @@ export class DashboardComponent implements OnInit {
 
   ngOnInit(): void {
     this.loadData();
+    this.liveSubscription = this.liveEvents.dataVersion$.pipe(
+      filter(event => this.isNewVersion(event.category, event.version, event.records)),
+      // Runs commit in small batches; refresh a category at most every few seconds
+      groupBy(event => event.category),
+      mergeMap(events => events.pipe(auditTime(5000)))
+    ).subscribe(event => this.refreshCategory(event.category));
+  }
+
+  ngOnDestroy(): void {
+    this.liveSubscription?.unsubscribe();
   }
 
   async loadData(): Promise<void> {
@@ -845,17 +860,7 @@ export class DashboardComponent implements OnInit {
       const statsMap = new Map<string, CategoryStats>();
       for (const cat of activeCats) {
         try {
-          const stats = await this.statsService.getCategoryStats(cat.slug, {
-            dateRange: {
-              startDate: this.startDate || undefined,
-              endDate: this.endDate || undefined
-            },
-            metricType: this.selectedMetricType(),
-            city: this.selectedCity || undefined,
-            experienceLevel: this.selectedExperience || undefined,
-            salaryRange: this.selectedSalaryRange || undefined
-          });
-          statsMap.set(cat.slug, stats);
+          statsMap.set(cat.slug, await this.fetchCategoryStats(cat.slug));
         } catch {
           // Category has no data yet
         }
@@ -871,6 +876,47 @@ export class DashboardComponent implements OnInit {
     }
   }
 
+  /**
+   * Re-fetches one category with the current filters after new data for it was committed.
+   */
+  async refreshCategory(slug: string): Promise<void> {
+    if (!this.activeCategories().some(c => c.slug === slug)) {
+      return;
+    }
+    try {
+      const stats = await this.fetchCategoryStats(slug);
+      const statsMap = new Map(this.categoryStats());
+      statsMap.set(slug, stats);
+      this.categoryStats.set(statsMap);
+      this.updateChart();
+    } catch {
+      // Keep showing the previous data
+    }
+  }
+
+  private fetchCategoryStats(slug: string): Promise<CategoryStats> {
+    return this.statsService.getCategoryStats(slug, {
+      dateRange: {
+        startDate: this.startDate || undefined,
+        endDate: this.endDate || undefined
+      },
+      metricType: this.selectedMetricType(),
+      city: this.selectedCity || undefined,
+      experienceLevel: this.selectedExperience || undefined,
+      salaryRange: this.selectedSalaryRange || undefined
+    });
+  }
+
+  /**
+   * The first version seen for a category only marks what the initial load already showed,
+   * unless it comes with new records.
+   */
+  private isNewVersion(category: string, version: number, records: number): boolean {
+    const known = this.dataVersions.get(category);
+    this.dataVersions.set(category, Math.max(version, known ?? 0));
+    return known === undefined ? records > 0 : version > known;
+  }
+
   onCategoryChange(slug: string): void {
     this.selectedCategory.set(slug);
     this.updateChart();